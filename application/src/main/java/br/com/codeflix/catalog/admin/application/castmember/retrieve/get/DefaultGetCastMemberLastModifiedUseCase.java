@@ -0,0 +1,25 @@
+package br.com.codeflix.catalog.admin.application.castmember.retrieve.get;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public non-sealed class DefaultGetCastMemberLastModifiedUseCase extends GetCastMemberLastModifiedUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMemberLastModifiedUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Instant execute(final String id) {
+        final var memberId = CastMemberID.from(id);
+        return this.castMemberGateway.findUpdatedAtById(memberId)
+                .orElseThrow(() -> NotFoundException.with(CastMember.class, memberId));
+    }
+}
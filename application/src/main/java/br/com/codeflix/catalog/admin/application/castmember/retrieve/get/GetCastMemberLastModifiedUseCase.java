@@ -0,0 +1,10 @@
+package br.com.codeflix.catalog.admin.application.castmember.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.time.Instant;
+
+public abstract sealed class GetCastMemberLastModifiedUseCase
+        extends UseCase<String, Instant>
+        permits DefaultGetCastMemberLastModifiedUseCase {
+}
@@ -4,6 +4,7 @@ import br.com.codeflix.catalog.admin.domain.Identifier;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
@@ -28,6 +29,10 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
         final var member = this.castMemberGateway.findById(id)
                 .orElseThrow(notFound(id));
 
+        if (command.expectedUpdatedAt() != null && !command.expectedUpdatedAt().equals(member.getUpdatedAt())) {
+            throw ConflictException.with(CastMember.class, id);
+        }
+
         final var notification = Notification.create();
         notification.validate(() -> member.update(name, type));
 
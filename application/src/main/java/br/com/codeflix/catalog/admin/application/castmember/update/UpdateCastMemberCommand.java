@@ -2,10 +2,13 @@ package br.com.codeflix.catalog.admin.application.castmember.update;
 
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
 
+import java.time.Instant;
+
 public record UpdateCastMemberCommand(
         String id,
         String name,
-        CastMemberType type
+        CastMemberType type,
+        Instant expectedUpdatedAt
 ) {
 
     public static UpdateCastMemberCommand with(
@@ -13,6 +16,10 @@ public record UpdateCastMemberCommand(
             final String aName,
             final CastMemberType aType
     ) {
-        return new UpdateCastMemberCommand(anId, aName, aType);
+        return new UpdateCastMemberCommand(anId, aName, aType, null);
+    }
+
+    public UpdateCastMemberCommand expecting(final Instant updatedAt) {
+        return new UpdateCastMemberCommand(id, name, type, updatedAt);
     }
 }
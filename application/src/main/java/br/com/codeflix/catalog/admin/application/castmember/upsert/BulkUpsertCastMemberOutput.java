@@ -0,0 +1,21 @@
+package br.com.codeflix.catalog.admin.application.castmember.upsert;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkUpsertCastMemberOutput(String id, List<Error> errors) {
+
+    public static BulkUpsertCastMemberOutput from(final CastMember member) {
+        return new BulkUpsertCastMemberOutput(member.getId().getValue(), List.of());
+    }
+
+    public static BulkUpsertCastMemberOutput failed(final String id, final List<Error> errors) {
+        return new BulkUpsertCastMemberOutput(id, errors);
+    }
+
+    public boolean saved() {
+        return errors == null || errors.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.codeflix.catalog.admin.application.castmember.upsert;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract sealed class BulkUpsertCastMemberUseCase
+        extends UseCase<List<UpsertCastMemberCommand>, List<BulkUpsertCastMemberOutput>>
+        permits DefaultBulkUpsertCastMemberUseCase {
+}
@@ -0,0 +1,82 @@
+package br.com.codeflix.catalog.admin.application.castmember.upsert;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultBulkUpsertCastMemberUseCase extends BulkUpsertCastMemberUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultBulkUpsertCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<BulkUpsertCastMemberOutput> execute(final List<UpsertCastMemberCommand> commands) {
+        final var now = InstantUtils.now();
+        final var outputs = new BulkUpsertCastMemberOutput[commands.size()];
+        final var members = new ArrayList<CastMember>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+        final var seen = new HashSet<String>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var notification = Notification.create();
+
+            if (command.id() == null || command.id().isBlank()) {
+                notification.append(new Error("'id' should not be empty"));
+            } else if (!seen.add(command.id())) {
+                notification.append(new Error("'id' %s is repeated in the batch".formatted(command.id())));
+            } else {
+                final var member = notification.validate(() -> CastMember.with(
+                        CastMemberID.from(command.id()),
+                        command.name(),
+                        command.type(),
+                        now,
+                        now,
+                        0L
+                ));
+
+                if (!notification.hasError()) {
+                    members.add(member);
+                    positions.add(i);
+                    continue;
+                }
+            }
+
+            outputs[i] = BulkUpsertCastMemberOutput.failed(command.id(), notification.getErrors());
+        }
+
+        upsertAll(members, positions, outputs);
+
+        return Arrays.asList(outputs);
+    }
+
+    private void upsertAll(final List<CastMember> members, final List<Integer> positions, final BulkUpsertCastMemberOutput[] outputs) {
+        if (members.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.castMemberGateway.upsertAll(members);
+            for (int i = 0; i < members.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertCastMemberOutput.from(members.get(i));
+            }
+        } catch (final Throwable t) {
+            final var error = List.of(new Error("An error on upsert cast members was observed: %s".formatted(t.getMessage())));
+            for (int i = 0; i < members.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertCastMemberOutput.failed(members.get(i).getId().getValue(), error);
+            }
+        }
+    }
+}
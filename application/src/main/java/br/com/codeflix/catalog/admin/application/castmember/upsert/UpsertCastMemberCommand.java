@@ -0,0 +1,10 @@
+package br.com.codeflix.catalog.admin.application.castmember.upsert;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
+
+public record UpsertCastMemberCommand(String id, String name, CastMemberType type) {
+
+    public static UpsertCastMemberCommand with(final String id, final String name, final CastMemberType type) {
+        return new UpsertCastMemberCommand(id, name, type);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class DefaultGetCategoryLastModifiedUseCase extends GetCategoryLastModifiedUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryLastModifiedUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Instant execute(final String id) {
+        final var categoryID = CategoryID.from(id);
+        return this.categoryGateway.findUpdatedAtById(categoryID)
+                .orElseThrow(() -> NotFoundException.with(Category.class, categoryID));
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.time.Instant;
+
+public abstract class GetCategoryLastModifiedUseCase extends UseCase<String, Instant> {
+}
@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin.application.category.update;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.validation.Error;
@@ -33,6 +34,10 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var category = this.categoryGateway.findById(id)
                 .orElseThrow(notFound(id));
 
+        if (command.expectedUpdatedAt() != null && !command.expectedUpdatedAt().equals(category.getUpdatedAt())) {
+            throw ConflictException.with(Category.class, id);
+        }
+
         final var notification = Notification.create();
         category.update(name, description, isActive)
                 .validate(notification);
@@ -45,7 +50,11 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return Try(() -> this.categoryGateway.update(category))
+        final var result = Try(() -> this.categoryGateway.update(category));
+        if (result.isFailure() && result.getCause() instanceof ConflictException ex) {
+            throw ex;
+        }
+        return result
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -1,9 +1,16 @@
 package br.com.codeflix.catalog.admin.application.category.update;
 
-public record UpdateCategoryCommand(String id, String name, String description, boolean isActive) {
+import java.time.Instant;
+
+public record UpdateCategoryCommand(String id, String name, String description, boolean isActive,
+                                    Instant expectedUpdatedAt) {
 
     public static UpdateCategoryCommand with(final String id, final String name, final String description,
                                              final boolean isActive) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public UpdateCategoryCommand expecting(final Instant updatedAt) {
+        return new UpdateCategoryCommand(id, name, description, isActive, updatedAt);
     }
 }
@@ -0,0 +1,21 @@
+package br.com.codeflix.catalog.admin.application.category.upsert;
+
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkUpsertCategoryOutput(String id, List<Error> errors) {
+
+    public static BulkUpsertCategoryOutput from(final Category category) {
+        return new BulkUpsertCategoryOutput(category.getId().getValue(), List.of());
+    }
+
+    public static BulkUpsertCategoryOutput failed(final String id, final List<Error> errors) {
+        return new BulkUpsertCategoryOutput(id, errors);
+    }
+
+    public boolean saved() {
+        return errors == null || errors.isEmpty();
+    }
+}
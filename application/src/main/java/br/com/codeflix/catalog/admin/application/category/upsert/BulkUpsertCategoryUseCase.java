@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.category.upsert;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class BulkUpsertCategoryUseCase extends UseCase<List<UpsertCategoryCommand>, List<BulkUpsertCategoryOutput>> {
+}
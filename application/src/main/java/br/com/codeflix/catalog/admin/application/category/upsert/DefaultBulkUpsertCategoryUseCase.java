@@ -0,0 +1,85 @@
+package br.com.codeflix.catalog.admin.application.category.upsert;
+
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkUpsertCategoryUseCase extends BulkUpsertCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkUpsertCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<BulkUpsertCategoryOutput> execute(final List<UpsertCategoryCommand> commands) {
+        final var now = InstantUtils.now();
+        final var outputs = new BulkUpsertCategoryOutput[commands.size()];
+        final var categories = new ArrayList<Category>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+        final var seen = new HashSet<String>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var notification = Notification.create();
+
+            if (command.id() == null || command.id().isBlank()) {
+                notification.append(new Error("'id' should not be empty"));
+            } else if (!seen.add(command.id())) {
+                notification.append(new Error("'id' %s is repeated in the batch".formatted(command.id())));
+            } else {
+                final var category = Category.with(
+                        CategoryID.from(command.id()),
+                        command.name(),
+                        command.description(),
+                        command.isActive(),
+                        now,
+                        now,
+                        command.isActive() ? null : now,
+                        0L
+                );
+                category.validate(notification);
+
+                if (!notification.hasError()) {
+                    categories.add(category);
+                    positions.add(i);
+                    continue;
+                }
+            }
+
+            outputs[i] = BulkUpsertCategoryOutput.failed(command.id(), notification.getErrors());
+        }
+
+        upsertAll(categories, positions, outputs);
+
+        return Arrays.asList(outputs);
+    }
+
+    private void upsertAll(final List<Category> categories, final List<Integer> positions, final BulkUpsertCategoryOutput[] outputs) {
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.categoryGateway.upsertAll(categories);
+            for (int i = 0; i < categories.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertCategoryOutput.from(categories.get(i));
+            }
+        } catch (final Throwable t) {
+            final var error = List.of(new Error("An error on upsert categories was observed: %s".formatted(t.getMessage())));
+            for (int i = 0; i < categories.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertCategoryOutput.failed(categories.get(i).getId().getValue(), error);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.category.upsert;
+
+public record UpsertCategoryCommand(String id, String name, String description, boolean isActive) {
+
+    public static UpsertCategoryCommand with(final String id, final String name, final String description, final Boolean isActive) {
+        return new UpsertCategoryCommand(id, name, description, isActive != null ? isActive : true);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.codeflix.catalog.admin.application.genre.retrieve.get;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class DefaultGetGenreLastModifiedUseCase extends GetGenreLastModifiedUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenreLastModifiedUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Instant execute(final String id) {
+        final var genreId = GenreID.from(id);
+        return this.genreGateway.findUpdatedAtById(genreId)
+                .orElseThrow(() -> NotFoundException.with(Genre.class, genreId));
+    }
+}
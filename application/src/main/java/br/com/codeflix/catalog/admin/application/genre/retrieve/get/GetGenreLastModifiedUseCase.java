@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.genre.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.time.Instant;
+
+public abstract class GetGenreLastModifiedUseCase extends UseCase<String, Instant> {
+}
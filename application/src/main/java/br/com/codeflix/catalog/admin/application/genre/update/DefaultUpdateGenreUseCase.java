@@ -4,6 +4,7 @@ import br.com.codeflix.catalog.admin.domain.Identifier;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
@@ -39,6 +40,10 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var genre = this.genreGateway.findById(id)
                 .orElseThrow(notFound(id));
 
+        if (command.expectedUpdatedAt() != null && !command.expectedUpdatedAt().equals(genre.getUpdatedAt())) {
+            throw ConflictException.with(Genre.class, id);
+        }
+
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
         notification.validate(() -> genre.update(name, isActive, categories));
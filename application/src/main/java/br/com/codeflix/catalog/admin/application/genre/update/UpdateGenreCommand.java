@@ -1,8 +1,10 @@
 package br.com.codeflix.catalog.admin.application.genre.update;
 
+import java.time.Instant;
 import java.util.List;
 
-public record UpdateGenreCommand(String id, String name, boolean isActive, List<String> categories) {
+public record UpdateGenreCommand(String id, String name, boolean isActive, List<String> categories,
+                                 Instant expectedUpdatedAt) {
 
     public static UpdateGenreCommand with(final String id, final String name, final Boolean isActive,
                                           final List<String> categories) {
@@ -10,6 +12,11 @@ public record UpdateGenreCommand(String id, String name, boolean isActive, List<
                 id,
                 name,
                 isActive != null ? isActive : true,
-                categories);
+                categories,
+                null);
+    }
+
+    public UpdateGenreCommand expecting(final Instant updatedAt) {
+        return new UpdateGenreCommand(id, name, isActive, categories, updatedAt);
     }
 }
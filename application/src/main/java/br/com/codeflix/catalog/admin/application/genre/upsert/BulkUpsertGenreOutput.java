@@ -0,0 +1,21 @@
+package br.com.codeflix.catalog.admin.application.genre.upsert;
+
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkUpsertGenreOutput(String id, List<Error> errors) {
+
+    public static BulkUpsertGenreOutput from(final Genre genre) {
+        return new BulkUpsertGenreOutput(genre.getId().getValue(), List.of());
+    }
+
+    public static BulkUpsertGenreOutput failed(final String id, final List<Error> errors) {
+        return new BulkUpsertGenreOutput(id, errors);
+    }
+
+    public boolean saved() {
+        return errors == null || errors.isEmpty();
+    }
+}
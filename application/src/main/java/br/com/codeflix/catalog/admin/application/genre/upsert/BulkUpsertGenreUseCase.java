@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.genre.upsert;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class BulkUpsertGenreUseCase extends UseCase<List<UpsertGenreCommand>, List<BulkUpsertGenreOutput>> {
+}
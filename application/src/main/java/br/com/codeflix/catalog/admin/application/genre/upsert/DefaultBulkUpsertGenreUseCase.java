@@ -0,0 +1,131 @@
+package br.com.codeflix.catalog.admin.application.genre.upsert;
+
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DefaultBulkUpsertGenreUseCase extends BulkUpsertGenreUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultBulkUpsertGenreUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<BulkUpsertGenreOutput> execute(final List<UpsertGenreCommand> commands) {
+        final var now = InstantUtils.now();
+        final var existingCategories = existingCategories(commands);
+        final var outputs = new BulkUpsertGenreOutput[commands.size()];
+        final var genres = new ArrayList<Genre>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+        final var seen = new HashSet<String>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var notification = Notification.create();
+
+            if (command.id() == null || command.id().isBlank()) {
+                notification.append(new Error("'id' should not be empty"));
+            } else if (!seen.add(command.id())) {
+                notification.append(new Error("'id' %s is repeated in the batch".formatted(command.id())));
+            } else {
+                final var categories = toCategoryID(command.categories());
+                validateCategories(notification, categories, existingCategories);
+
+                final var genre = notification.validate(() -> Genre.with(
+                        GenreID.from(command.id()),
+                        command.name(),
+                        command.isActive(),
+                        categories,
+                        now,
+                        now,
+                        command.isActive() ? null : now,
+                        0L
+                ));
+
+                if (!notification.hasError()) {
+                    genres.add(genre);
+                    positions.add(i);
+                    continue;
+                }
+            }
+
+            outputs[i] = BulkUpsertGenreOutput.failed(command.id(), notification.getErrors());
+        }
+
+        upsertAll(genres, positions, outputs);
+
+        return Arrays.asList(outputs);
+    }
+
+    private void upsertAll(final List<Genre> genres, final List<Integer> positions, final BulkUpsertGenreOutput[] outputs) {
+        if (genres.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.genreGateway.upsertAll(genres);
+            for (int i = 0; i < genres.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertGenreOutput.from(genres.get(i));
+            }
+        } catch (final Throwable t) {
+            final var error = List.of(new Error("An error on upsert genres was observed: %s".formatted(t.getMessage())));
+            for (int i = 0; i < genres.size(); i++) {
+                outputs[positions.get(i)] = BulkUpsertGenreOutput.failed(genres.get(i).getId().getValue(), error);
+            }
+        }
+    }
+
+    private Set<CategoryID> existingCategories(final List<UpsertGenreCommand> commands) {
+        // categories are checked once for the whole batch instead of one query per genre
+        final var requested = commands.stream()
+                .map(UpsertGenreCommand::categories)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(CategoryID::from)
+                .collect(Collectors.toSet());
+
+        return requested.isEmpty() ? Set.of() : new HashSet<>(this.categoryGateway.existsByIds(requested));
+    }
+
+    private static void validateCategories(
+            final Notification notification,
+            final List<CategoryID> categories,
+            final Set<CategoryID> existing
+    ) {
+        final var missingIdsMessage = categories.stream()
+                .filter(id -> !existing.contains(id))
+                .map(CategoryID::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+    }
+
+    private static List<CategoryID> toCategoryID(final List<String> categories) {
+        if (categories == null) {
+            return new ArrayList<>();
+        }
+        return categories.stream()
+                .distinct()
+                .map(CategoryID::from)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.codeflix.catalog.admin.application.genre.upsert;
+
+import java.util.List;
+
+public record UpsertGenreCommand(String id, String name, boolean isActive, List<String> categories) {
+
+    public static UpsertGenreCommand with(final String id, final String name, final Boolean isActive, final List<String> categories) {
+        return new UpsertGenreCommand(
+                id,
+                name,
+                isActive != null ? isActive : true,
+                categories);
+    }
+}
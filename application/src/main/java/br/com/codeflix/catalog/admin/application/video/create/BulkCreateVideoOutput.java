@@ -0,0 +1,21 @@
+package br.com.codeflix.catalog.admin.application.video.create;
+
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+
+import java.util.List;
+
+public record BulkCreateVideoOutput(String id, List<Error> errors) {
+
+    public static BulkCreateVideoOutput from(final Video video) {
+        return new BulkCreateVideoOutput(video.getId().getValue(), List.of());
+    }
+
+    public static BulkCreateVideoOutput failed(final List<Error> errors) {
+        return new BulkCreateVideoOutput(null, errors);
+    }
+
+    public boolean created() {
+        return id != null;
+    }
+}
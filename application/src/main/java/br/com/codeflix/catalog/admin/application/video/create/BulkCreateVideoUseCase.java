@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.video.create;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+import java.util.List;
+
+public abstract class BulkCreateVideoUseCase extends UseCase<List<CreateVideoCommand>, List<BulkCreateVideoOutput>> {
+}
@@ -0,0 +1,167 @@
+package br.com.codeflix.catalog.admin.application.video.create;
+
+import br.com.codeflix.catalog.admin.domain.Identifier;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
+import br.com.codeflix.catalog.admin.domain.video.Rating;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultBulkCreateVideoUseCase extends BulkCreateVideoUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultBulkCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<BulkCreateVideoOutput> execute(final List<CreateVideoCommand> commands) {
+        // references are checked once for the whole batch instead of three queries per video
+        final var categories = existing(commands, CreateVideoCommand::categories, CategoryID::from, categoryGateway::existsByIds);
+        final var genres = existing(commands, CreateVideoCommand::genres, GenreID::from, genreGateway::existsByIds);
+        final var members = existing(commands, CreateVideoCommand::members, CastMemberID::from, castMemberGateway::existsByIds);
+
+        final var outputs = new BulkCreateVideoOutput[commands.size()];
+        final var videos = new ArrayList<Video>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var categoryIds = toIdentifier(command.categories(), CategoryID::from);
+            final var genreIds = toIdentifier(command.genres(), GenreID::from);
+            final var memberIds = toIdentifier(command.members(), CastMemberID::from);
+
+            final var notification = Notification.create();
+            validateAggregate(notification, "categories", categoryIds, categories);
+            validateAggregate(notification, "genres", genreIds, genres);
+            validateAggregate(notification, "cast members", memberIds, members);
+            validateNotNull(notification, "duration", command.duration());
+            validateNotNull(notification, "opened", command.opened());
+            validateNotNull(notification, "published", command.published());
+
+            if (notification.hasError()) {
+                outputs[i] = BulkCreateVideoOutput.failed(notification.getErrors());
+                continue;
+            }
+
+            final var video = Video.newVideo(
+                    command.title(),
+                    command.description(),
+                    command.launchedAt() != null ? Year.of(command.launchedAt()) : null,
+                    command.duration(),
+                    command.opened(),
+                    command.published(),
+                    Rating.of(command.rating()).orElse(null),
+                    categoryIds,
+                    genreIds,
+                    memberIds
+            );
+
+            video.validate(notification);
+
+            if (notification.hasError()) {
+                outputs[i] = BulkCreateVideoOutput.failed(notification.getErrors());
+            } else {
+                videos.add(video);
+                positions.add(i);
+            }
+        }
+
+        createAll(videos, positions, outputs);
+
+        return Arrays.asList(outputs);
+    }
+
+    private void createAll(final List<Video> videos, final List<Integer> positions, final BulkCreateVideoOutput[] outputs) {
+        if (videos.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var created = this.videoGateway.createAll(videos);
+            for (int i = 0; i < created.size(); i++) {
+                outputs[positions.get(i)] = BulkCreateVideoOutput.from(created.get(i));
+            }
+        } catch (final Throwable t) {
+            // the batch shares one transaction, so none of its videos were stored
+            final var error = List.of(new Error("An error on create videos was observed: %s".formatted(t.getMessage())));
+            positions.forEach(position -> outputs[position] = BulkCreateVideoOutput.failed(error));
+        }
+    }
+
+    private static <T extends Identifier> Set<T> existing(
+            final List<CreateVideoCommand> commands,
+            final Function<CreateVideoCommand, Set<String>> ids,
+            final Function<String, T> mapper,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var requested = commands.stream()
+                .map(ids)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(mapper)
+                .collect(Collectors.toSet());
+
+        return requested.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(requested));
+    }
+
+    private static <T extends Identifier> void validateAggregate(
+            final Notification notification,
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existing
+    ) {
+        final var missingIdsMessage = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+    }
+
+    private static void validateNotNull(final Notification notification, final String field, final Object value) {
+        if (value == null) {
+            notification.append(new Error("'%s' should not be null".formatted(field)));
+        }
+    }
+
+    private static <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        if (ids == null) {
+            return Set.of();
+        }
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
@@ -10,6 +10,7 @@ import br.com.codeflix.catalog.admin.domain.exceptions.InternalErrorException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.resource.Resource;
 import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.domain.validation.ValidationHandler;
 import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
@@ -19,7 +20,13 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -33,19 +40,22 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final Executor mediaExecutor;
 
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final Executor mediaExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -85,40 +95,33 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private Video create(final CreateVideoCommand command, final Video video) {
         final var id = video.getId();
+        final var uploads = new MediaUploads(id);
 
         try {
-            final var videoMedia = command.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
+            final var videoMedia = uploads.submit(command.getVideo(), it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VIDEO)));
+            final var trailerMedia = uploads.submit(command.getTrailer(), it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, TRAILER)));
+            final var bannerMedia = uploads.submit(command.getBanner(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, BANNER)));
+            final var thumbnailMedia = uploads.submit(command.getThumbnail(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL)));
+            final var thumbnailHalfMedia = uploads.submit(command.getThumbnailHalf(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL_HALF)));
 
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, BANNER)))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
-
-            final var thumbnailHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
+            uploads.awaitAll();
 
             return this.videoGateway.create(
-                    video.updateVideoMedia(videoMedia)
-                            .updateTrailerMedia(trailerMedia)
-                            .updateBannerMedia(bannerMedia)
-                            .updateThumbnailMedia(thumbnailMedia)
-                            .updateThumbnailHalfMedia(thumbnailHalfMedia)
+                    video.updateVideoMedia(MediaUploads.resultOf(videoMedia))
+                            .updateTrailerMedia(MediaUploads.resultOf(trailerMedia))
+                            .updateBannerMedia(MediaUploads.resultOf(bannerMedia))
+                            .updateThumbnailMedia(MediaUploads.resultOf(thumbnailMedia))
+                            .updateThumbnailHalfMedia(MediaUploads.resultOf(thumbnailHalfMedia))
             );
         } catch (final Throwable t) {
+            if (t instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            uploads.abort();
             this.mediaResourceGateway.clearResources(id);
             throw InternalErrorException.with(
                     "An error on create video was observed [videoId:%s]".formatted(id.getValue()),
-                    t
+                    t instanceof ExecutionException ? t.getCause() : t
             );
         }
     }
@@ -161,6 +164,54 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         return notification;
     }
 
+    private final class MediaUploads {
+
+        private final VideoID videoId;
+        private final ExecutorCompletionService<Object> completion;
+        private final List<Future<?>> pending;
+        private final AtomicBoolean aborted;
+
+        private MediaUploads(final VideoID videoId) {
+            this.videoId = videoId;
+            this.completion = new ExecutorCompletionService<>(mediaExecutor);
+            this.pending = new ArrayList<>();
+            this.aborted = new AtomicBoolean(false);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Future<T> submit(final Optional<Resource> resource, final Function<Resource, T> store) {
+            if (resource.isEmpty()) {
+                return null;
+            }
+
+            final var future = this.completion.submit(() -> {
+                final var media = store.apply(resource.get());
+                // an upload that outlives an abort would otherwise leak past the caller's cleanup
+                if (this.aborted.get()) {
+                    mediaResourceGateway.clearResources(this.videoId);
+                }
+                return media;
+            });
+            this.pending.add(future);
+            return (Future<T>) future;
+        }
+
+        private void awaitAll() throws InterruptedException, ExecutionException {
+            for (int i = 0; i < this.pending.size(); i++) {
+                this.completion.take().get();
+            }
+        }
+
+        private void abort() {
+            this.aborted.set(true);
+            this.pending.forEach(it -> it.cancel(true));
+        }
+
+        private static <T> T resultOf(final Future<T> future) throws InterruptedException, ExecutionException {
+            return future != null ? future.get() : null;
+        }
+    }
+
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
@@ -0,0 +1,36 @@
+package br.com.codeflix.catalog.admin.application.video.media.get;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultGetMediaChecksumUseCase extends GetMediaChecksumUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetMediaChecksumUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public String execute(final GetMediaCommand command) {
+        final var id = VideoID.from(command.videoId());
+        final var type = VideoMediaType.of(command.mediaType())
+                .orElseThrow(() -> typeNotFound(command.mediaType()));
+
+        return this.videoGateway.findMediaChecksum(id, type)
+                .orElseThrow(() -> notFound(command.videoId(), command.mediaType()));
+    }
+
+    private NotFoundException notFound(final String id, final String type) {
+        return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(type, id)));
+    }
+
+    private NotFoundException typeNotFound(final String type) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.codeflix.catalog.admin.application.video.media.get;
+
+import br.com.codeflix.catalog.admin.application.UseCase;
+
+public abstract class GetMediaChecksumUseCase extends UseCase<GetMediaCommand, String> {
+}
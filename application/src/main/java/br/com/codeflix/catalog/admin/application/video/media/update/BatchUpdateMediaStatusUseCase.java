@@ -0,0 +1,8 @@
+package br.com.codeflix.catalog.admin.application.video.media.update;
+
+import br.com.codeflix.catalog.admin.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class BatchUpdateMediaStatusUseCase extends UnitUseCase<List<UpdateMediaStatusCommand>> {
+}
@@ -0,0 +1,36 @@
+package br.com.codeflix.catalog.admin.application.video.media.update;
+
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchUpdateMediaStatusUseCase extends BatchUpdateMediaStatusUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultBatchUpdateMediaStatusUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final List<UpdateMediaStatusCommand> commands) {
+        for (final var command : coalesce(commands)) {
+            DefaultUpdateMediaStatusUseCase.apply(this.videoGateway, command);
+        }
+    }
+
+    private static Collection<UpdateMediaStatusCommand> coalesce(final List<UpdateMediaStatusCommand> commands) {
+        // the last command for a media wins, so PROCESSING followed by COMPLETED collapses to COMPLETED
+        final var byMedia = new LinkedHashMap<MediaKey, UpdateMediaStatusCommand>();
+        for (final var command : commands) {
+            byMedia.put(new MediaKey(command.videoId(), command.resourceId()), command);
+        }
+        return byMedia.values();
+    }
+
+    private record MediaKey(String videoId, String resourceId) {
+    }
+}
@@ -5,8 +5,8 @@ import br.com.codeflix.catalog.admin.domain.video.*;
 
 import java.util.Objects;
 
-import static br.com.codeflix.catalog.admin.domain.video.VideoMediaType.TRAILER;
-import static br.com.codeflix.catalog.admin.domain.video.VideoMediaType.VIDEO;
+import static br.com.codeflix.catalog.admin.domain.video.MediaStatus.COMPLETED;
+import static br.com.codeflix.catalog.admin.domain.video.MediaStatus.PROCESSING;
 
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
@@ -18,42 +18,28 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     @Override
     public void execute(final UpdateMediaStatusCommand command) {
-        final var id = VideoID.from(command.videoId());
-        final var resourceId = command.resourceId();
-        final var folder = command.folder();
-        final var filename = command.filename();
-
-        final var video = this.videoGateway.findById(id)
-                .orElseThrow(() -> notFound(id));
-
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        if (matches(resourceId, video.getVideo().orElse(null))) {
-            updateVideo(VIDEO, command.status(), video, encodedPath);
-        } else if (matches(resourceId, video.getTrailer().orElse(null))) {
-            updateVideo(TRAILER, command.status(), video, encodedPath);
-        }
+        apply(this.videoGateway, command);
     }
 
-    private void updateVideo(final VideoMediaType type, final MediaStatus status, final Video video, final String encodedPath) {
-        switch (status) {
-            case PENDING -> {}
-            case PROCESSING -> video.processing(type);
-            case COMPLETED -> video.completed(type, encodedPath);
+    static void apply(final VideoGateway videoGateway, final UpdateMediaStatusCommand command) {
+        final var status = command.status();
+        if (status != PROCESSING && status != COMPLETED) {
+            return;
         }
 
-        this.videoGateway.update(video);
-    }
-
-    private boolean matches(final String id, final AudioVideoMedia media) {
-        if (media == null) {
-            return false;
+        final var id = VideoID.from(command.videoId());
+        final var encodedPath = status == COMPLETED
+                ? "%s/%s".formatted(command.folder(), command.filename())
+                : null;
+
+        // a miss is either an unknown video or a resource that belongs to no media of it; only the first is an error
+        if (!videoGateway.updateMediaStatus(id, command.resourceId(), status, encodedPath)
+                && videoGateway.findUpdatedAtById(id).isEmpty()) {
+            throw notFound(id);
         }
-
-        return media.id().equals(id);
     }
 
-    private NotFoundException notFound(final VideoID id) {
+    private static NotFoundException notFound(final VideoID id) {
         return NotFoundException.with(Video.class, id);
     }
 }
@@ -0,0 +1,25 @@
+package br.com.codeflix.catalog.admin.application.video.retrieve.get;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class DefaultGetVideoLastModifiedUseCase extends GetVideoLastModifiedUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetVideoLastModifiedUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public Instant execute(final String id) {
+        final var videoID = VideoID.from(id);
+        return this.videoGateway.findUpdatedAtById(videoID)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoID));
+    }
+}
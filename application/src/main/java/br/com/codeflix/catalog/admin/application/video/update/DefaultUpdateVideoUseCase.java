@@ -5,6 +5,7 @@ import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import br.com.codeflix.catalog.admin.domain.exceptions.InternalErrorException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
@@ -61,6 +62,10 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var video = this.videoGateway.findById(id)
                 .orElseThrow(notFoundException(id));
 
+        if (command.expectedUpdatedAt() != null && !command.expectedUpdatedAt().equals(video.getUpdatedAt())) {
+            throw ConflictException.with(Video.class, id);
+        }
+
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
         notification.append(validateGenres(genres));
@@ -120,6 +125,8 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
                             .updateThumbnailMedia(thumbnailMedia)
                             .updateThumbnailHalfMedia(thumbHalfMedia)
             );
+        } catch (final ConflictException ex) {
+            throw ex;
         } catch (final Throwable t) {
             throw InternalErrorException.with(
                     "An error on create video was observed [videoId:%s]".formatted(id.getValue()),
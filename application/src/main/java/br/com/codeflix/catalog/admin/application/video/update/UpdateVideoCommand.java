@@ -2,6 +2,7 @@ package br.com.codeflix.catalog.admin.application.video.update;
 
 import br.com.codeflix.catalog.admin.domain.resource.Resource;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,7 +22,8 @@ public record UpdateVideoCommand(
         Resource trailer,
         Resource banner,
         Resource thumbnail,
-        Resource thumbnailHalf
+        Resource thumbnailHalf,
+        Instant expectedUpdatedAt
 ) {
 
     public static UpdateVideoCommand with(
@@ -91,7 +93,30 @@ public record UpdateVideoCommand(
                 trailer,
                 banner,
                 thumbnail,
-                thumbnailHalf
+                thumbnailHalf,
+                null
+        );
+    }
+
+    public UpdateVideoCommand expecting(final Instant updatedAt) {
+        return new UpdateVideoCommand(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                opened,
+                published,
+                rating,
+                categories,
+                genres,
+                members,
+                video,
+                trailer,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                updatedAt
         );
     }
 
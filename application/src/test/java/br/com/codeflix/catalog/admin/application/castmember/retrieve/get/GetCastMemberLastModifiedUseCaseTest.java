@@ -0,0 +1,59 @@
+package br.com.codeflix.catalog.admin.application.castmember.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GetCastMemberLastModifiedUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCastMemberLastModifiedUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCastMemberLastModified_shouldReturnUpdatedAt() {
+        final var wesley = wesley();
+        final var expectedId = wesley.getId();
+        final var expectedUpdatedAt = wesley.getUpdatedAt();
+
+        when(castMemberGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(expectedUpdatedAt));
+
+        final var actualUpdatedAt = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedUpdatedAt, actualUpdatedAt);
+        verify(castMemberGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCastMemberLastModified_shouldReturnNotFound() {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedErrorMessage = "CastMember with ID 123 was not found";
+
+        when(castMemberGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -7,6 +7,7 @@ import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
 import br.com.codeflix.catalog.admin.domain.category.Fixture;
 import br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import org.junit.jupiter.api.Test;
@@ -163,4 +164,40 @@ public class UpdateCastMembersUseCaseTest extends UseCaseTest {
         verify(castMemberGateway).findById(eq(expectedId));
         verify(castMemberGateway, times(0)).update(any());
     }
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsUpdateCastMember_shouldThrowsConflictException() {
+        final var member = CastMember.newMember("vin diesel", CastMemberType.DIRECTOR);
+
+        final var expectedId = member.getId();
+        final var expectedErrorMessage = "CastMember with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var command = UpdateCastMemberCommand.with(expectedId.getValue(), name(), CastMemberType.ACTOR)
+                .expecting(member.getUpdatedAt().minusSeconds(1));
+
+        when(castMemberGateway.findById(any())).thenReturn(Optional.of(CastMember.with(member)));
+
+        final var actualException = assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(castMemberGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenCallsUpdateCastMember_shouldPropagateTheConflictException() {
+        final var member = CastMember.newMember("vin diesel", CastMemberType.DIRECTOR);
+
+        final var expectedId = member.getId();
+
+        final var command = UpdateCastMemberCommand.with(expectedId.getValue(), name(), CastMemberType.ACTOR)
+                .expecting(member.getUpdatedAt());
+
+        when(castMemberGateway.findById(any())).thenReturn(Optional.of(CastMember.with(member)));
+        when(castMemberGateway.update(any())).thenThrow(ConflictException.with(CastMember.class, expectedId));
+
+        assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        verify(castMemberGateway).update(any());
+    }
 }
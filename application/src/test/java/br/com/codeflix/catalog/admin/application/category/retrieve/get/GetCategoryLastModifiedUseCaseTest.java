@@ -0,0 +1,59 @@
+package br.com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.aulas;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GetCategoryLastModifiedUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryLastModifiedUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategoryLastModified_shouldReturnUpdatedAt() {
+        final var aulas = aulas();
+        final var expectedId = aulas.getId();
+        final var expectedUpdatedAt = aulas.getUpdatedAt();
+
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(expectedUpdatedAt));
+
+        final var actualUpdatedAt = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedUpdatedAt, actualUpdatedAt);
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCategoryLastModified_shouldReturnNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -4,6 +4,7 @@ import br.com.codeflix.catalog.admin.application.UseCaseTest;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -175,4 +176,23 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
         verify(categoryGateway).findById(eq(CategoryID.from(expectedId)));
         verify(categoryGateway, never()).update(any());
     }
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallUpdateCategory_shouldReturnConflictException() {
+        final var category = Category.newCategory("Filme", null, true);
+
+        final var expectedId = category.getId();
+        final var expectedErrorMessage = "Category with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true)
+                .expecting(category.getUpdatedAt().minusSeconds(1));
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(category.clone()));
+
+        final var actualException = assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(categoryGateway, never()).update(any());
+    }
 }
@@ -0,0 +1,59 @@
+package br.com.codeflix.catalog.admin.application.genre.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Genres.tech;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GetGenreLastModifiedUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetGenreLastModifiedUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenreLastModified_shouldReturnUpdatedAt() {
+        final var tech = tech();
+        final var expectedId = tech.getId();
+        final var expectedUpdatedAt = tech.getUpdatedAt();
+
+        when(genreGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(expectedUpdatedAt));
+
+        final var actualUpdatedAt = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedUpdatedAt, actualUpdatedAt);
+        verify(genreGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetGenreLastModified_shouldReturnNotFound() {
+        final var expectedId = GenreID.from("123");
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+
+        when(genreGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin.application.genre.update;
 import br.com.codeflix.catalog.admin.application.UseCaseTest;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
@@ -17,6 +18,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,4 +215,40 @@ public class UpdateGenreUseCaseTest extends UseCaseTest {
         ));
     }
 
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallUpdateGenre_shouldReturnConflictException() {
+        final var genre = Genre.newGenre("acao", true);
+
+        final var expectedId = genre.getId();
+        final var expectedErrorMessage = "Genre with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var command = UpdateGenreCommand.with(expectedId.getValue(), "Ação", true, List.of())
+                .expecting(genre.getUpdatedAt().minusSeconds(1));
+
+        when(genreGateway.findById(any())).thenReturn(Optional.of(genre.clone()));
+
+        final var actualException = assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(genreGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenTheCurrentExpectedUpdatedAt_whenCallUpdateGenre_shouldUpdateIt() {
+        final var genre = Genre.newGenre("acao", true);
+
+        final var expectedId = genre.getId();
+
+        final var command = UpdateGenreCommand.with(expectedId.getValue(), "Ação", true, List.of())
+                .expecting(genre.getUpdatedAt());
+
+        when(genreGateway.findById(any())).thenReturn(Optional.of(genre.clone()));
+        when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command);
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        verify(genreGateway).update(any());
+    }
 }
@@ -0,0 +1,84 @@
+package br.com.codeflix.catalog.admin.application.genre.upsert;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkUpsertGenreUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkUpsertGenreUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkUpsert_shouldCheckCategoriesOnceAndUpsertOnlyTheValidOnes() {
+        final var filmes = CategoryID.from("filmes");
+
+        final var commands = List.of(
+                UpsertGenreCommand.with("123", "Ação", true, List.of(filmes.getValue())),
+                UpsertGenreCommand.with("456", "Drama", null, List.of("missing")),
+                UpsertGenreCommand.with(" ", "Terror", true, List.of()),
+                UpsertGenreCommand.with("123", "Aventura", true, List.of()),
+                UpsertGenreCommand.with("789", null, false, List.of())
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
+
+        final var actualOutputs = useCase.execute(commands);
+
+        assertEquals(5, actualOutputs.size());
+        assertTrue(actualOutputs.get(0).saved());
+        assertEquals("123", actualOutputs.get(0).id());
+        assertEquals("Some categories could not be found: missing", actualOutputs.get(1).errors().get(0).message());
+        assertEquals("456", actualOutputs.get(1).id());
+        assertEquals("'id' should not be empty", actualOutputs.get(2).errors().get(0).message());
+        assertEquals("'id' 123 is repeated in the batch", actualOutputs.get(3).errors().get(0).message());
+        assertEquals("'name' should not be null", actualOutputs.get(4).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).upsertAll(argThat(genres -> genres.size() == 1
+                && genres.get(0).getId().getValue().equals("123")
+                && genres.get(0).getCategories().equals(List.of(filmes))));
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsBulkUpsert_shouldFailEveryValidItem() {
+        final var expectedErrorMessage = "An error on upsert genres was observed: Gateway error";
+
+        doThrow(new IllegalStateException("Gateway error")).when(genreGateway).upsertAll(any());
+
+        final var actualOutputs = useCase.execute(List.of(
+                UpsertGenreCommand.with("123", "Ação", true, List.of()),
+                UpsertGenreCommand.with("456", "Drama", true, List.of())
+        ));
+
+        assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(output -> {
+            assertFalse(output.saved());
+            assertEquals(expectedErrorMessage, output.errors().get(0).message());
+        });
+
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+}
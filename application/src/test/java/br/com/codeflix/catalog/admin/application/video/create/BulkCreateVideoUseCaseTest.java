@@ -0,0 +1,139 @@
+package br.com.codeflix.catalog.admin.application.video.create;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.aulas;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Genres.tech;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.*;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.description;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.rating;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkCreateVideoUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkCreateVideoUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCheckReferencesOnceAndCreateOnlyTheValidOnes() {
+        final var category = aulas().getId();
+        final var genre = tech().getId();
+        final var member = wesley().getId();
+        final var missingCategory = CategoryID.from("missing");
+        final var expectedErrorMessage = "Some categories could not be found: missing";
+
+        final var commands = List.of(
+                command(title(), Set.of(category.getValue()), Set.of(genre.getValue()), Set.of(member.getValue())),
+                command(title(), Set.of(missingCategory.getValue()), Set.of(), Set.of()),
+                command(null, Set.of(), Set.of(), Set.of()),
+                command(title(), Set.of(category.getValue()), Set.of(), Set.of())
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(List.of(category)));
+        when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(List.of(genre)));
+        when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(List.of(member)));
+        when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutputs = useCase.execute(commands);
+
+        assertEquals(4, actualOutputs.size());
+        assertTrue(actualOutputs.get(0).created());
+        assertFalse(actualOutputs.get(1).created());
+        assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+        assertFalse(actualOutputs.get(2).created());
+        assertEquals("'title' should not be null", actualOutputs.get(2).errors().get(0).message());
+        assertTrue(actualOutputs.get(3).created());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.copyOf(asList(ids)).equals(Set.of(category, missingCategory))));
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2
+                && videos.get(0).getId().getValue().equals(actualOutputs.get(0).id())
+                && videos.get(1).getId().getValue().equals(actualOutputs.get(3).id())));
+        verify(videoGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsBulkCreate_shouldFailEveryValidLine() {
+        final var expectedErrorMessage = "An error on create videos was observed: Gateway error";
+
+        final var commands = List.of(
+                command(title(), Set.of(), Set.of(), Set.of()),
+                command(title(), Set.of(), Set.of(), Set.of())
+        );
+
+        when(videoGateway.createAll(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var actualOutputs = useCase.execute(commands);
+
+        assertEquals(2, actualOutputs.size());
+        actualOutputs.forEach(output -> {
+            assertFalse(output.created());
+            assertEquals(expectedErrorMessage, output.errors().get(0).message());
+        });
+
+        verify(categoryGateway, never()).existsByIds(any());
+        verify(genreGateway, never()).existsByIds(any());
+        verify(castMemberGateway, never()).existsByIds(any());
+    }
+
+    private static CreateVideoCommand command(
+            final String title,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members
+    ) {
+        return CreateVideoCommand.with(
+                title,
+                description(),
+                year(),
+                duration(),
+                bool(),
+                bool(),
+                rating().getName(),
+                categories,
+                genres,
+                members
+        );
+    }
+
+    private static <T> List<T> asList(final Iterable<T> ids) {
+        final var list = new ArrayList<T>();
+        ids.forEach(list::add);
+        return list;
+    }
+}
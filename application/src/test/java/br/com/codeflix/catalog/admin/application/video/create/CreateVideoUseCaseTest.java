@@ -12,8 +12,9 @@ import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
 import br.com.codeflix.catalog.admin.domain.resource.Resource;
 import br.com.codeflix.catalog.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
@@ -21,6 +22,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.gabriel;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
@@ -37,9 +42,10 @@ import static org.mockito.Mockito.*;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
+    private ExecutorService mediaExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -55,6 +61,24 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.mediaExecutor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                mediaExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaExecutor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocks() {
         return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
@@ -940,6 +964,98 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenAValidCommandWithAllResources_whenCallsCreateVideo_shouldStoreThemConcurrently() {
+        final var expectedUploads = 5;
+        final var uploadsInFlight = new CountDownLatch(expectedUploads);
+
+        final var command = CreateVideoCommand.with(
+                title(),
+                description(),
+                year(),
+                duration(),
+                bool(),
+                bool(),
+                rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                resource(VideoMediaType.VIDEO),
+                resource(VideoMediaType.TRAILER),
+                resource(VideoMediaType.BANNER),
+                resource(VideoMediaType.THUMBNAIL),
+                resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            awaitAllInFlight(uploadsInFlight);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return AudioVideoMedia.with(resource.checksum(), resource.name(), "/img");
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            awaitAllInFlight(uploadsInFlight);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return ImageMedia.with(resource.checksum(), resource.name(), "/img");
+        });
+        when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var actualResult = useCase.execute(command);
+
+        assertNotNull(actualResult);
+        assertEquals(0, uploadsInFlight.getCount());
+        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(mediaResourceGateway, never()).clearResources(any());
+    }
+
+    @Test
+    public void givenAFailingUpload_whenCallsCreateVideo_shouldAbortAndClearResources() {
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var expectedCause = new RuntimeException("Storage unavailable");
+
+        final var command = CreateVideoCommand.with(
+                title(),
+                description(),
+                year(),
+                duration(),
+                bool(),
+                bool(),
+                rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                resource(VideoMediaType.VIDEO),
+                resource(VideoMediaType.TRAILER),
+                resource(VideoMediaType.BANNER),
+                resource(VideoMediaType.THUMBNAIL),
+                resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        // the failing image may cancel the audio/video uploads before they start
+        lenient().when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            final var resource = t.getArgument(1, VideoResource.class).resource();
+            return AudioVideoMedia.with(resource.checksum(), resource.name(), "/img");
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenThrow(expectedCause);
+
+        final var actualResult = assertThrows(InternalErrorException.class, () -> {
+            useCase.execute(command);
+        });
+
+        assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        assertSame(expectedCause, actualResult.getCause());
+
+        verify(mediaResourceGateway, atLeastOnce()).clearResources(any());
+        verify(videoGateway, never()).create(any());
+    }
+
+    private static void awaitAllInFlight(final CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Uploads were not processed concurrently");
+        }
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
@@ -0,0 +1,73 @@
+package br.com.codeflix.catalog.admin.application.video.media.get;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.mediaType;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.checksum;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+public class GetMediaChecksumUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetMediaChecksumUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnStoredChecksum() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = mediaType();
+        final var expectedChecksum = checksum();
+
+        when(videoGateway.findMediaChecksum(expectedId, expectedType))
+                .thenReturn(Optional.of(expectedChecksum));
+
+        final var command = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        final var actualChecksum = this.useCase.execute(command);
+
+        assertEquals(expectedChecksum, actualChecksum);
+    }
+
+    @Test
+    public void givenVideoIdAndType_whenMediaIsNotFound_shouldReturnNotFoundException() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = mediaType();
+
+        when(videoGateway.findMediaChecksum(expectedId, expectedType))
+                .thenReturn(Optional.empty());
+
+        final var command = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+    }
+
+    @Test
+    public void givenVideoIdAndType_whenTypeDoesntExists_shouldReturnNotFoundException() {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Media type QUALQUER doesn't exists";
+
+        final var command = GetMediaCommand.with(expectedId.getValue(), "QUALQUER");
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
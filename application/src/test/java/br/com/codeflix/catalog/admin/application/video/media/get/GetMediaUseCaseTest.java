@@ -43,7 +43,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         final var actualResult = this.useCase.execute(command);
 
         assertEquals(expectedResource.name(), actualResult.name());
-        assertEquals(expectedResource.content(), actualResult.content());
+        assertEquals(expectedResource, actualResult.content());
         assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
@@ -0,0 +1,109 @@
+package br.com.codeflix.catalog.admin.application.video.media.update;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.video;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.audioVideo;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.systemDesign;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BatchUpdateMediaStatusUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBatchUpdateMediaStatusUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenSeveralCommandsForTheSameMedia_whenCallsExecute_shouldApplyOnlyTheLastOne() {
+        final var expectedFolder = "encoded_media";
+        final var expectedFilename = "filename.mp4";
+        final var expectedVideoMedia = audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailerMedia = audioVideo(VideoMediaType.TRAILER);
+
+        final var aVideo = systemDesign()
+                .updateVideoMedia(expectedVideoMedia)
+                .updateTrailerMedia(expectedTrailerMedia);
+
+        final var expectedId = aVideo.getId();
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
+
+        final var commands = List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedVideoMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, expectedId.getValue(), expectedTrailerMedia.id(), null, null),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), expectedVideoMedia.id(), expectedFolder, expectedFilename)
+        );
+
+        this.useCase.execute(commands);
+
+        verify(videoGateway, times(2)).updateMediaStatus(any(), any(), any(), any());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedVideoMedia.id()),
+                eq(MediaStatus.COMPLETED),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedTrailerMedia.id()),
+                eq(MediaStatus.PROCESSING),
+                isNull()
+        );
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenCommandsForDifferentVideos_whenCallsExecute_shouldUpdateEachVideo() {
+        final var aMedia = audioVideo(VideoMediaType.VIDEO);
+        final var aVideo = systemDesign().updateVideoMedia(aMedia);
+        final var anotherMedia = audioVideo(VideoMediaType.VIDEO);
+        final var anotherVideo = video().updateVideoMedia(anotherMedia);
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
+
+        this.useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(), aMedia.id(), "folder", "a.mp4"),
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, anotherVideo.getId().getValue(), anotherMedia.id(), "folder", "b.mp4")
+        ));
+
+        verify(videoGateway, times(1)).updateMediaStatus(eq(aVideo.getId()), eq(aMedia.id()), any(), eq("folder/a.mp4"));
+        verify(videoGateway, times(1)).updateMediaStatus(eq(anotherVideo.getId()), eq(anotherMedia.id()), any(), eq("folder/b.mp4"));
+    }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsExecute_shouldReturnNotFound() {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(false);
+        when(videoGateway.findUpdatedAtById(any())).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(), "resource", "folder", "a.mp4")
+        )));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
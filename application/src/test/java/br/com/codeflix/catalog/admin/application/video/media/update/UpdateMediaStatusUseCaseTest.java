@@ -1,23 +1,23 @@
 package br.com.codeflix.catalog.admin.application.video.media.update;
 
 import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
-import br.com.codeflix.catalog.admin.domain.video.Video;
 import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
 import br.com.codeflix.catalog.admin.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.audioVideo;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.systemDesign;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -39,16 +39,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = audioVideo(expectedType);
+        final var expectedMedia = audioVideo(VideoMediaType.VIDEO);
 
         final var video = systemDesign().updateVideoMedia(expectedMedia);
 
         final var expectedId = video.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(video));
-
-        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -60,23 +57,14 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(command);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        assertEquals(expectedStatus, actualVideoMedia.status());
-        assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
@@ -84,16 +72,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.PROCESSING;
         final String expectedFolder = null;
         final String expectedFilename = null;
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = audioVideo(expectedType);
+        final var expectedMedia = audioVideo(VideoMediaType.VIDEO);
 
         final var video = systemDesign().updateVideoMedia(expectedMedia);
 
         final var expectedId = video.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(video));
-
-        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -105,23 +90,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(command);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        assertEquals(expectedStatus, actualVideoMedia.status());
-        assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                isNull()
+        );
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
@@ -129,16 +104,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = audioVideo(expectedType);
+        final var expectedMedia = audioVideo(VideoMediaType.TRAILER);
 
         final var video = systemDesign().updateTrailerMedia(expectedMedia);
 
         final var expectedId = video.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(video));
-
-        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -150,69 +122,41 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(command);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        assertEquals(expectedStatus, actualVideoMedia.status());
-        assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
     }
 
     @Test
     public void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
         final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = audioVideo(expectedType);
+        final var expectedMedia = audioVideo(VideoMediaType.TRAILER);
 
-        final var video = systemDesign()
-                .updateTrailerMedia(expectedMedia);
+        final var video = systemDesign().updateTrailerMedia(expectedMedia);
 
         final var expectedId = video.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(video));
-
-        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedStatus,
                 expectedId.getValue(),
                 expectedMedia.id(),
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         this.useCase.execute(command);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        assertEquals(expectedStatus, actualVideoMedia.status());
-        assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                isNull()
+        );
     }
 
     @Test
@@ -220,14 +164,14 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = audioVideo(expectedType);
+        final var expectedMedia = audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = systemDesign().updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(false);
+        when(videoGateway.findUpdatedAtById(any())).thenReturn(Optional.of(Instant.now()));
 
         final var command = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -239,6 +183,43 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(command);
 
+        verify(videoGateway, times(1)).findUpdatedAtById(eq(expectedId));
         verify(videoGateway, never()).update(any());
     }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsUpdateMediaStatus_shouldReturnNotFound() {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(false);
+        when(videoGateway.findUpdatedAtById(any())).thenReturn(Optional.empty());
+
+        final var command = UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED,
+                expectedId.getValue(),
+                "resource",
+                "folder",
+                "filename.mp4"
+        );
+
+        final var actualException = assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenPendingStatus_whenCallsUpdateMediaStatus_shouldDoNothing() {
+        final var command = UpdateMediaStatusCommand.with(
+                MediaStatus.PENDING,
+                VideoID.unique().getValue(),
+                "resource",
+                null,
+                null
+        );
+
+        this.useCase.execute(command);
+
+        verifyNoInteractions(videoGateway);
+    }
 }
@@ -0,0 +1,59 @@
+package br.com.codeflix.catalog.admin.application.video.retrieve.get;
+
+import br.com.codeflix.catalog.admin.application.UseCaseTest;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.systemDesign;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GetVideoLastModifiedUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetVideoLastModifiedUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetVideoLastModified_shouldReturnUpdatedAt() {
+        final var systemDesign = systemDesign();
+        final var expectedId = systemDesign.getId();
+        final var expectedUpdatedAt = systemDesign.getUpdatedAt();
+
+        when(videoGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(expectedUpdatedAt));
+
+        final var actualUpdatedAt = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedUpdatedAt, actualUpdatedAt);
+        verify(videoGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetVideoLastModified_shouldReturnNotFound() {
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        when(videoGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
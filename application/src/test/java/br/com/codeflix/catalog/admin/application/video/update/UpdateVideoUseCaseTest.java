@@ -5,6 +5,7 @@ import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import br.com.codeflix.catalog.admin.domain.exceptions.InternalErrorException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
@@ -1027,6 +1028,71 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway, never()).clearResources(any());
     }
 
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsUpdateVideo_shouldThrowConflictException() {
+        final var video = systemDesign();
+        final var expectedErrorMessage = "Video with ID %s was modified concurrently".formatted(video.getId().getValue());
+
+        final var command = UpdateVideoCommand.with(
+                video.getId().getValue(),
+                title(),
+                description(),
+                year(),
+                duration(),
+                bool(),
+                bool(),
+                rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                resource(VideoMediaType.VIDEO),
+                null,
+                null,
+                null,
+                null
+        ).expecting(video.getUpdatedAt().minusSeconds(1));
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(video)));
+
+        final var actualException = assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenCallsUpdateVideo_shouldThrowConflictExceptionInsteadOfInternalError() {
+        final var video = systemDesign();
+
+        final var command = UpdateVideoCommand.with(
+                video.getId().getValue(),
+                title(),
+                description(),
+                year(),
+                duration(),
+                bool(),
+                bool(),
+                rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                null,
+                null,
+                null,
+                null,
+                null
+        ).expecting(video.getUpdatedAt());
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(video)));
+        when(videoGateway.update(any())).thenThrow(ConflictException.with(Video.class, video.getId()));
+
+        assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        verify(videoGateway).update(any());
+    }
+
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
@@ -7,11 +7,26 @@ import java.util.List;
 
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+
     public AggregateRoot(final ID id) {
-        super(id, Collections.emptyList());
+        this(id, Collections.emptyList(), 0L);
+    }
+
+    public AggregateRoot(final ID id, final long version) {
+        this(id, Collections.emptyList(), version);
     }
 
     public AggregateRoot(final ID id, final List<DomainEvent> domainEvents) {
+        this(id, domainEvents, 0L);
+    }
+
+    public AggregateRoot(final ID id, final List<DomainEvent> domainEvents, final long version) {
         super(id, domainEvents);
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
     }
 }
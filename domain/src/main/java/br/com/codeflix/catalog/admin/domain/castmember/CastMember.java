@@ -20,9 +20,10 @@ public class CastMember extends AggregateRoot<CastMemberID> {
             final String name,
             final CastMemberType type,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.type = type;
         this.createdAt = createdAt;
@@ -33,7 +34,7 @@ public class CastMember extends AggregateRoot<CastMemberID> {
     public static CastMember newMember(final String name, final CastMemberType type) {
         final var id = CastMemberID.unique();
         final var now = InstantUtils.now();
-        return new CastMember(id, name, type, now, now);
+        return new CastMember(id, name, type, now, now, 0L);
     }
 
     public static CastMember with(
@@ -41,9 +42,10 @@ public class CastMember extends AggregateRoot<CastMemberID> {
             final String name,
             final CastMemberType type,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version
     ) {
-        return new CastMember(id, name, type, createdAt, updatedAt);
+        return new CastMember(id, name, type, createdAt, updatedAt, version);
     }
 
     public static CastMember with(final CastMember member) {
@@ -52,7 +54,8 @@ public class CastMember extends AggregateRoot<CastMemberID> {
                 member.name,
                 member.type,
                 member.createdAt,
-                member.updatedAt
+                member.updatedAt,
+                member.getVersion()
         );
     }
 
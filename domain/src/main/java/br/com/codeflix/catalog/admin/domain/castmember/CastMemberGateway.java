@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin.domain.castmember;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,13 @@ public interface CastMemberGateway {
 
     Optional<CastMember> findById(CastMemberID id);
 
+    Optional<Instant> findUpdatedAtById(CastMemberID id);
+
     CastMember update(CastMember castMember);
 
     Pagination<CastMember> findAll(SearchQuery query);
 
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
+
+    void upsertAll(List<CastMember> castMembers);
 }
@@ -23,9 +23,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
-        super(categoryID);
+        super(categoryID, version);
         this.name = name;
         this.description = description;
         this.active = active;
@@ -38,12 +39,13 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var id = CategoryID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, name, description, isActive, now, now, deletedAt);
+        return new Category(id, name, description, isActive, now, now, deletedAt, 0L);
     }
 
     public static Category with(final CategoryID id, final String name, final String description, final boolean isActive,
-                                final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
-        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt);
+                                final Instant createdAt, final Instant updatedAt, final Instant deletedAt,
+                                final long version) {
+        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
     }
 
     @Override
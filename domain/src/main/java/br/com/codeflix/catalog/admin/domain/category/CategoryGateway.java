@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin.domain.category;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,13 @@ public interface CategoryGateway {
 
     Optional<Category> findById(CategoryID id);
 
+    Optional<Instant> findUpdatedAtById(CategoryID id);
+
     Category update(Category category);
 
     Pagination<Category> findAll(SearchQuery query);
 
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+
+    void upsertAll(List<Category> categories);
 }
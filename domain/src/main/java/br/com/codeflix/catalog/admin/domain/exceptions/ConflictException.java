@@ -0,0 +1,21 @@
+package br.com.codeflix.catalog.admin.domain.exceptions;
+
+import br.com.codeflix.catalog.admin.domain.AggregateRoot;
+import br.com.codeflix.catalog.admin.domain.Identifier;
+
+import java.util.Collections;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String message) {
+        super(message, Collections.emptyList());
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> aggregate,
+            final Identifier identifier
+    ) {
+        final var errorMessage = "%s with ID %s was modified concurrently".formatted(aggregate.getSimpleName(), identifier.getValue());
+        return new ConflictException(errorMessage);
+    }
+}
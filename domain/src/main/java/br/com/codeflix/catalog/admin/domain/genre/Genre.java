@@ -23,8 +23,8 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
     private Instant deletedAt;
 
     protected Genre(final GenreID id, final String name, final boolean active, final List<CategoryID> categories,
-                    final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
-        super(id);
+                    final Instant createdAt, final Instant updatedAt, final Instant deletedAt, final long version) {
+        super(id, version);
         this.name = name;
         this.active = active;
         this.categories = categories;
@@ -39,12 +39,12 @@ public class Genre extends AggregateRoot<GenreID> implements Cloneable {
         final var id = GenreID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Genre(id, name, isActive, new ArrayList<>(), now, now, deletedAt);
+        return new Genre(id, name, isActive, new ArrayList<>(), now, now, deletedAt, 0L);
     }
 
     public static Genre with(final GenreID id, final String name, final boolean isActive, final List<CategoryID> categories,
-                    final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
-        return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt);
+                    final Instant createdAt, final Instant updatedAt, final Instant deletedAt, final long version) {
+        return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt, version);
     }
 
     @Override
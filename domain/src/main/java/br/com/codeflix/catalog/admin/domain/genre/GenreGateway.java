@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin.domain.genre;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,13 @@ public interface GenreGateway {
 
     Optional<Genre> findById(GenreID id);
 
+    Optional<Instant> findUpdatedAtById(GenreID id);
+
     Genre update(Genre genre);
 
     Pagination<Genre> findAll(SearchQuery query);
 
     List<GenreID> existsByIds(Iterable<GenreID> ids);
+
+    void upsertAll(List<Genre> genres);
 }
@@ -5,11 +5,26 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        boolean withTotal
 ) {
 
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, true);
+    }
+
     public static SearchQuery with(final int page, final int perPage, final String terms, final String sort,
                                    final String direction) {
         return new SearchQuery(page, perPage, terms, sort, direction);
     }
+
+    public static SearchQuery with(final int perPage, final String terms, final String sort, final String direction,
+                                   final String cursor, final boolean withTotal) {
+        return new SearchQuery(0, perPage, terms, sort, direction, cursor, withTotal);
+    }
+
+    public boolean isCursorBased() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
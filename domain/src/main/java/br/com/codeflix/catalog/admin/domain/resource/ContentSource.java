@@ -0,0 +1,46 @@
+package br.com.codeflix.catalog.admin.domain.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+@FunctionalInterface
+public interface ContentSource {
+
+    int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    InputStream openStream() throws IOException;
+
+    default InputStream openStream(final long position) throws IOException {
+        final var in = openStream();
+        try {
+            in.skipNBytes(position);
+            return in;
+        } catch (final IOException ex) {
+            in.close();
+            throw ex;
+        }
+    }
+
+    default long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        try (final var in = openStream(position)) {
+            final var buffer = new byte[(int) Math.min(TRANSFER_BUFFER_SIZE, Math.max(count, 1))];
+
+            var remaining = count;
+            while (remaining > 0) {
+                final var read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+
+                final var chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    target.write(chunk);
+                }
+                remaining -= read;
+            }
+            return count - remaining;
+        }
+    }
+}
@@ -2,18 +2,70 @@ package br.com.codeflix.catalog.admin.domain.resource;
 
 import br.com.codeflix.catalog.admin.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
+import java.util.function.Function;
 
 public class Resource extends ValueObject {
 
     private final byte[] content;
-    private final String checksum;
+    private final ContentSource source;
+    private final long size;
+    private final Function<ContentSource, String> checksumFunction;
     private final String contentType;
     private final String name;
 
+    private volatile String checksum;
+
     private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
         this.content = Objects.requireNonNull(content);
+        this.source = () -> new ByteArrayInputStream(content);
+        this.size = content.length;
+        this.checksum = Objects.requireNonNull(checksum);
+        this.checksumFunction = null;
+        this.contentType = Objects.requireNonNull(contentType);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    private Resource(
+            final ContentSource source,
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        if (size < 0) {
+            throw new IllegalArgumentException("'size' should not be negative");
+        }
+        this.content = null;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
         this.checksum = Objects.requireNonNull(checksum);
+        this.checksumFunction = null;
+        this.contentType = Objects.requireNonNull(contentType);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    private Resource(
+            final ContentSource source,
+            final long size,
+            final Function<ContentSource, String> checksumFunction,
+            final String contentType,
+            final String name
+    ) {
+        if (size < 0) {
+            throw new IllegalArgumentException("'size' should not be negative");
+        }
+        this.content = null;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.checksumFunction = Objects.requireNonNull(checksumFunction);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
@@ -22,12 +74,84 @@ public class Resource extends ValueObject {
         return new Resource(content, checksum, contentType, name);
     }
 
+    public static Resource with(
+            final ContentSource source,
+            final long size,
+            final Function<ContentSource, String> checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(source, size, checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final ContentSource source,
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(source, size, checksum, contentType, name);
+    }
+
     public String checksum() {
-        return checksum;
+        var result = this.checksum;
+        if (result == null) {
+            synchronized (this) {
+                result = this.checksum;
+                if (result == null) {
+                    result = Objects.requireNonNull(this.checksumFunction.apply(this.source));
+                    this.checksum = result;
+                }
+            }
+        }
+        return result;
     }
 
     public byte[] content() {
-        return content;
+        if (this.content != null) {
+            return this.content;
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        return this.source.openStream();
+    }
+
+    public InputStream openStream(final long position) throws IOException {
+        return this.source.openStream(position);
+    }
+
+    public ReadableByteChannel openChannel() throws IOException {
+        return Channels.newChannel(openStream());
+    }
+
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        if (position < 0 || count < 0 || position + count > this.size) {
+            throw new IndexOutOfBoundsException("Range [%d, %d) is out of bounds for size %d".formatted(position, position + count, this.size));
+        }
+        return this.source.transferTo(position, count, target);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isBuffered() {
+        return this.content != null;
+    }
+
+    public Resource buffered() {
+        if (isBuffered()) {
+            return this;
+        }
+        return with(content(), checksum(), contentType(), name());
     }
 
     public String contentType() {
@@ -56,9 +56,10 @@ public class Video extends AggregateRoot<VideoID> {
             final Set<CategoryID> categories,
             final Set<GenreID> genres,
             final Set<CastMemberID> members,
-            final List<DomainEvent> domainEvents
+            final List<DomainEvent> domainEvents,
+            final long version
             ) {
-        super(id, domainEvents);
+        super(id, domainEvents, version);
         this.title = title;
         this.description = description;
         this.launchedAt = lauchYear;
@@ -254,7 +255,8 @@ public class Video extends AggregateRoot<VideoID> {
                 categories,
                 genres,
                 members,
-                null
+                null,
+                0L
         );
     }
 
@@ -278,7 +280,8 @@ public class Video extends AggregateRoot<VideoID> {
                 new HashSet<>(video.getCategories()),
                 new HashSet<>(video.getGenres()),
                 new HashSet<>(video.getCastMembers()),
-                video.getDomainEvents()
+                video.getDomainEvents(),
+                video.getVersion()
         );
     }
 
@@ -300,7 +303,8 @@ public class Video extends AggregateRoot<VideoID> {
             final AudioVideoMedia video,
             final Set<CategoryID> categories,
             final Set<GenreID> genres,
-            final Set<CastMemberID> members
+            final Set<CastMemberID> members,
+            final long version
     ) {
         return new Video(
                 id,
@@ -321,7 +325,8 @@ public class Video extends AggregateRoot<VideoID> {
                 categories,
                 genres,
                 members,
-                null
+                null,
+                version
         );
     }
 
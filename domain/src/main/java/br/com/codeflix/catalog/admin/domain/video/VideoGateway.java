@@ -2,18 +2,28 @@ package br.com.codeflix.catalog.admin.domain.video;
 
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
 
     Video create(Video aVideo);
 
+    List<Video> createAll(List<Video> videos);
+
     void deleteById(VideoID anId);
 
     Optional<Video> findById(VideoID anId);
 
+    Optional<Instant> findUpdatedAtById(VideoID anId);
+
+    Optional<String> findMediaChecksum(VideoID anId, VideoMediaType aType);
+
     Video update(Video aVideo);
 
+    boolean updateMediaStatus(VideoID anId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 
 }
@@ -0,0 +1,138 @@
+package br.com.codeflix.catalog.admin.domain.category.resource;
+
+import br.com.codeflix.catalog.admin.domain.category.UnitTest;
+import br.com.codeflix.catalog.admin.domain.resource.ContentSource;
+import br.com.codeflix.catalog.admin.domain.resource.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceTest extends UnitTest {
+
+    @Test
+    public void givenValidContent_whenCallsWith_shouldReturnBufferedResource() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "abc";
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "video.mp4";
+
+        final var actualResource = Resource.with(expectedContent, expectedChecksum, expectedContentType, expectedName);
+
+        assertTrue(actualResource.isBuffered());
+        assertSame(actualResource, actualResource.buffered());
+        assertSame(expectedContent, actualResource.content());
+        assertEquals(expectedContent.length, actualResource.size());
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals(expectedContentType, actualResource.contentType());
+        assertEquals(expectedName, actualResource.name());
+
+        try (final var in = actualResource.openStream()) {
+            assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenAContentSource_whenCallsChecksum_shouldComputeItOnlyOnce() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "abc";
+        final var expectedChecksumCalls = 1;
+        final var checksumCalls = new AtomicInteger(0);
+
+        final var actualResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                source -> {
+                    checksumCalls.incrementAndGet();
+                    return expectedChecksum;
+                },
+                "video/mp4",
+                "video.mp4"
+        );
+
+        assertFalse(actualResource.isBuffered());
+        assertEquals(0, checksumCalls.get());
+
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals(expectedChecksum, actualResource.checksum());
+
+        assertEquals(expectedChecksumCalls, checksumCalls.get());
+    }
+
+    @Test
+    public void givenAContentSource_whenCallsBuffered_shouldReadContentIntoMemory() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var opens = new AtomicInteger(0);
+
+        final var streamed = Resource.with(
+                () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                },
+                expectedContent.length,
+                source -> "abc",
+                "video/mp4",
+                "video.mp4"
+        );
+
+        assertEquals(0, opens.get());
+
+        final var actualResource = streamed.buffered();
+
+        assertTrue(actualResource.isBuffered());
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(streamed.checksum(), actualResource.checksum());
+        assertEquals(streamed.size(), actualResource.size());
+        assertEquals(1, opens.get());
+    }
+
+    @Test
+    public void givenARange_whenCallsTransferTo_shouldCopyOnlyThatRange() throws Exception {
+        final var content = "Conteudo".getBytes();
+        final var expectedContent = "teu".getBytes();
+        final var expectedPosition = 3;
+        final var expectedCount = 3;
+
+        final var resource = Resource.with(() -> new ByteArrayInputStream(content), content.length, "abc", "video/mp4", "video.mp4");
+        final var target = new ByteArrayOutputStream();
+
+        final var actualTransferred = resource.transferTo(expectedPosition, expectedCount, Channels.newChannel(target));
+
+        assertEquals(expectedCount, actualTransferred);
+        assertArrayEquals(expectedContent, target.toByteArray());
+        assertEquals("abc", resource.checksum());
+
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> resource.transferTo(6, 3, Channels.newChannel(target))
+        );
+    }
+
+    @Test
+    public void givenInvalidParams_whenCallsWith_shouldReturnError() {
+        assertThrows(
+                NullPointerException.class,
+                () -> Resource.with(null, 1, source -> "abc", "video/mp4", "video.mp4")
+        );
+
+        assertThrows(
+                NullPointerException.class,
+                () -> Resource.with(() -> new ByteArrayInputStream(new byte[0]), 0, (Function<ContentSource, String>) null, "video/mp4", "video.mp4")
+        );
+
+        assertThrows(
+                NullPointerException.class,
+                () -> Resource.with(() -> new ByteArrayInputStream(new byte[0]), 0, (String) null, "video/mp4", "video.mp4")
+        );
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Resource.with(() -> new ByteArrayInputStream(new byte[0]), -1, source -> "abc", "video/mp4", "video.mp4")
+        );
+    }
+}
@@ -486,7 +486,8 @@ public class VideoTest extends UnitTest {
                 null,
                 expectedCategories,
                 expectedGenres,
-                expectedMembers
+                expectedMembers,
+                0L
         );
 
         assertNotNull(actualVideo.getDomainEvents());
@@ -0,0 +1,50 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+
+/**
+ * Re-runs a task that lost a race against a concurrent write, a bounded number of times,
+ * before letting the failure reach the caller.
+ */
+public class ConflictRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetry.class);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public ConflictRetry(final int maxAttempts, final long backoffMillis) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("'maxAttempts' must be greater than zero");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    public void run(final Runnable task) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.run();
+                return;
+            } catch (final ConflictException | ConcurrencyFailureException ex) {
+                if (attempt >= this.maxAttempts) {
+                    throw ex;
+                }
+                log.warn("[message:listener.retry] [attempt:{}] [cause:{}]", attempt, ex.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(final int attempt) {
+        try {
+            Thread.sleep(this.backoffMillis * attempt);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", ex);
+        }
+    }
+}
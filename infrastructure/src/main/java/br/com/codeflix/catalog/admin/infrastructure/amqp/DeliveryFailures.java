@@ -0,0 +1,56 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Settles the deliveries of the encoder listeners, telling the failures worth a redelivery
+ * from the ones that would fail the same way forever.
+ */
+final class DeliveryFailures {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryFailures.class);
+
+    private DeliveryFailures() {
+    }
+
+    // a missing aggregate or a rejected command stays so on redelivery; conflicts and infrastructure errors may not
+    static boolean isPermanent(final RuntimeException ex) {
+        return ex instanceof DomainException && !(ex instanceof ConflictException);
+    }
+
+    static void ack(final Channel channel, final long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (final IOException ex) {
+            log.error("[message:video.listener.ack] [delivery_tag:{}]", deliveryTag, ex);
+        }
+    }
+
+    // not requeued goes to the queue's dead-letter exchange when one is set, otherwise it is dropped
+    static void reject(
+            final Channel channel,
+            final long deliveryTag,
+            final UpdateMediaStatusCommand command,
+            final RuntimeException cause
+    ) {
+        final var requeue = !isPermanent(cause);
+        log.error("[message:video.listener.failed] [video:{}] [resource:{}] [requeue:{}]",
+                command.videoId(), command.resourceId(), requeue, cause);
+        reject(channel, deliveryTag, requeue);
+    }
+
+    static void reject(final Channel channel, final long deliveryTag, final boolean requeue) {
+        try {
+            channel.basicNack(deliveryTag, false, requeue);
+        } catch (final IOException ex) {
+            log.error("[message:video.listener.nack] [delivery_tag:{}]", deliveryTag, ex);
+        }
+    }
+}
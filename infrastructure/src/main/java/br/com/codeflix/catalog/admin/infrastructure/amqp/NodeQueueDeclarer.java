@@ -0,0 +1,48 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Declares a queue that lives only as long as this node, and its binding, on every new broker connection.
+ * Unlike the shared queues it cannot be provisioned up front, so it is declared whatever amqp.admin.auto-create says.
+ */
+public class NodeQueueDeclarer implements ConnectionListener, InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NodeQueueDeclarer.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final Queue queue;
+    private final Binding binding;
+
+    public NodeQueueDeclarer(final ConnectionFactory connectionFactory, final Queue queue, final Binding binding) {
+        this.connectionFactory = Objects.requireNonNull(connectionFactory);
+        this.queue = Objects.requireNonNull(queue);
+        this.binding = Objects.requireNonNull(binding);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.connectionFactory.addConnectionListener(this);
+    }
+
+    @Override
+    public void onCreate(final Connection connection) {
+        try (final var channel = connection.createChannel(false)) {
+            channel.queueDeclare(queue.getName(), queue.isDurable(), queue.isExclusive(), queue.isAutoDelete(), queue.getArguments());
+            channel.queueBind(queue.getName(), binding.getExchange(), binding.getRoutingKey(), binding.getArguments());
+        } catch (final IOException | TimeoutException | RuntimeException ex) {
+            log.error("[message:amqp.declare.failed] [queue:{}] [exchange:{}]", queue.getName(), binding.getExchange(), ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class ReferenceDataListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataListener.class);
+
+    static final String LISTENER_ID = "referenceDataListener";
+
+    private final ReferenceCacheInvalidator invalidator;
+
+    public ReferenceDataListener(final ReferenceCacheInvalidator invalidator) {
+        this.invalidator = Objects.requireNonNull(invalidator);
+    }
+
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "#{referenceDataQueue.name}",
+            containerFactory = "referenceDataListenerContainerFactory"
+    )
+    public void onReferenceDataChanged(@Payload final String message) {
+        final ReferenceDataChanged change;
+        try {
+            change = Json.readValue(message, ReferenceDataChanged.class);
+        } catch (final RuntimeException ex) {
+            log.error("[message:cache.listener.income] [status:invalid] [payload:{}]", message, ex);
+            return;
+        }
+
+        log.debug("[message:cache.listener.income] [cache:{}] [ids:{}]", change.cache(), change.ids());
+        this.invalidator.evict(change);
+    }
+}
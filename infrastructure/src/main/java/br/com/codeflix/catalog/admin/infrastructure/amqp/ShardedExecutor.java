@@ -0,0 +1,65 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks on a fixed set of single-threaded workers, picking the worker by key,
+ * so tasks sharing a key run in submission order while different keys run in parallel.
+ */
+public class ShardedExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final List<ThreadPoolExecutor> shards;
+
+    public ShardedExecutor(final String name, final int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("'shards' must be greater than zero");
+        }
+        this.shards = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            final var threadName = name + "-" + (i + 1);
+            // unbounded on purpose: the listener prefetch already caps how many messages are in flight
+            this.shards.add(new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final var thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            ));
+        }
+    }
+
+    public void execute(final String key, final Runnable task) {
+        Objects.requireNonNull(task);
+        this.shards.get(Math.floorMod(Objects.hashCode(key), this.shards.size())).execute(task);
+    }
+
+    public int size() {
+        return this.shards.size();
+    }
+
+    public int pending() {
+        return this.shards.stream()
+                .mapToInt(shard -> shard.getQueue().size() + shard.getActiveCount())
+                .sum();
+    }
+
+    public void shutdown() throws InterruptedException {
+        this.shards.forEach(ExecutorService::shutdown);
+        for (final var shard : this.shards) {
+            shard.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCompleted;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderResult;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static br.com.codeflix.catalog.admin.infrastructure.amqp.DeliveryFailures.ack;
+import static br.com.codeflix.catalog.admin.infrastructure.amqp.DeliveryFailures.reject;
+
+@Component
+@ConditionalOnProperty(prefix = "amqp.listeners.video-encoded", name = "batch", havingValue = "true")
+public class VideoEncoderBatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderBatchListener.class);
+
+    static final String LISTENER_ID = "videoEncodedBatchListener";
+
+    private static final String METRIC = "video.encoder.batches";
+
+    private final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
+    private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final TransactionOperations transactionOperations;
+    private final ConflictRetry retry;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+
+    public VideoEncoderBatchListener(
+            final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase,
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            final PlatformTransactionManager transactionManager,
+            @VideoEncodedQueue final ConflictRetry retry,
+            final MeterRegistry meterRegistry
+    ) {
+        this.batchUpdateMediaStatusUseCase = Objects.requireNonNull(batchUpdateMediaStatusUseCase);
+        this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.transactionOperations = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.retry = Objects.requireNonNull(retry);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.batchSize = DistributionSummary.builder(METRIC + ".size")
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedBatchListenerContainerFactory"
+    )
+    public void onVideoEncodedMessages(final List<Message> messages, final Channel channel) {
+        final var updates = new ArrayList<Update>(messages.size());
+
+        for (final var amqpMessage : messages) {
+            final var deliveryTag = amqpMessage.getMessageProperties().getDeliveryTag();
+            final var message = new String(amqpMessage.getBody(), StandardCharsets.UTF_8);
+
+            final VideoEncoderResult result;
+            try {
+                result = Json.readValue(message, VideoEncoderResult.class);
+            } catch (final RuntimeException ex) {
+                log.error("[message:video.listener.income] [status:invalid] [payload:{}]", message, ex);
+                reject(channel, deliveryTag, false);
+                continue;
+            }
+
+            if (result instanceof VideoEncoderCompleted dto) {
+                log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
+                updates.add(new Update(deliveryTag, new UpdateMediaStatusCommand(
+                        MediaStatus.COMPLETED,
+                        dto.id(),
+                        dto.video().resourceId(),
+                        dto.video().encodedVideoFolder(),
+                        dto.video().filePath()
+                )));
+                continue;
+            }
+
+            if (result instanceof VideoEncoderError) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+            }
+            ack(channel, deliveryTag);
+        }
+
+        if (!updates.isEmpty()) {
+            apply(updates, channel);
+        }
+    }
+
+    private void apply(final List<Update> updates, final Channel channel) {
+        this.batchSize.record(updates.size());
+
+        final var sample = Timer.start(this.meterRegistry);
+        try {
+            final var commands = updates.stream().map(Update::command).toList();
+            this.retry.run(() -> this.transactionOperations.executeWithoutResult(status -> this.batchUpdateMediaStatusUseCase.execute(commands)));
+            sample.stop(timer("success"));
+            updates.forEach(update -> ack(channel, update.deliveryTag()));
+        } catch (final RuntimeException ex) {
+            sample.stop(timer("fallback"));
+            log.warn("[message:video.listener.batch.failed] [size:{}] [cause:{}]", updates.size(), ex.getMessage());
+            updates.forEach(update -> applyOne(update, channel));
+        }
+    }
+
+    private void applyOne(final Update update, final Channel channel) {
+        final var command = update.command();
+        try {
+            this.retry.run(() -> this.updateMediaStatusUseCase.execute(command));
+            ack(channel, update.deliveryTag());
+        } catch (final RuntimeException ex) {
+            reject(channel, update.deliveryTag(), command, ex);
+        }
+    }
+
+    private Timer timer(final String outcome) {
+        return Timer.builder(METRIC)
+                .tag("outcome", outcome)
+                .register(this.meterRegistry);
+    }
+
+    private record Update(long deliveryTag, UpdateMediaStatusCommand command) {
+    }
+}
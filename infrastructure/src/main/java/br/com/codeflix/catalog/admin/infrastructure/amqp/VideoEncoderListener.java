@@ -3,34 +3,78 @@ package br.com.codeflix.catalog.admin.infrastructure.amqp;
 import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
 import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
 import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCompleted;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderResult;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
 
+import static br.com.codeflix.catalog.admin.infrastructure.amqp.DeliveryFailures.ack;
+import static br.com.codeflix.catalog.admin.infrastructure.amqp.DeliveryFailures.reject;
+
 @Component
+@ConditionalOnProperty(prefix = "amqp.listeners.video-encoded", name = "batch", havingValue = "false", matchIfMissing = true)
 public class VideoEncoderListener {
 
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
 
     static final String LISTENER_ID = "videoEncodedListener";
 
+    private static final String METRIC = "video.encoder.results";
+
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final ShardedExecutor workers;
+    private final ConflictRetry retry;
+    private final MeterRegistry meterRegistry;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    public VideoEncoderListener(
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            @VideoEncodedQueue final ShardedExecutor workers,
+            @VideoEncodedQueue final ConflictRetry retry,
+            final MeterRegistry meterRegistry
+    ) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.workers = Objects.requireNonNull(workers);
+        this.retry = Objects.requireNonNull(retry);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        Gauge.builder(METRIC + ".pending", workers, ShardedExecutor::pending)
+                .tag("workers", String.valueOf(workers.size()))
+                .register(meterRegistry);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final var result = Json.readValue(message, VideoEncoderResult.class);
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessage(
+            @Payload final String message,
+            final Channel channel,
+            final Message amqpMessage
+    ) {
+        final var deliveryTag = amqpMessage.getMessageProperties().getDeliveryTag();
+        final VideoEncoderResult result;
+        try {
+            result = Json.readValue(message, VideoEncoderResult.class);
+        } catch (final RuntimeException ex) {
+            log.error("[message:video.listener.income] [status:invalid] [payload:{}]", message, ex);
+            reject(channel, deliveryTag, false);
+            return;
+        }
 
         if (result instanceof VideoEncoderCompleted dto) {
             log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
@@ -42,11 +86,35 @@ public class VideoEncoderListener {
                     dto.video().filePath()
             );
 
-            this.updateMediaStatusUseCase.execute(command);
-        } else if (result instanceof VideoEncoderError) {
+            // results of the same video land on the same worker, so they are applied in arrival order
+            this.workers.execute(dto.id(), () -> process(command, channel, deliveryTag));
+            return;
+        }
+
+        if (result instanceof VideoEncoderError) {
             log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
         } else {
             log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
         }
+        ack(channel, deliveryTag);
+    }
+
+    private void process(final UpdateMediaStatusCommand command, final Channel channel, final long deliveryTag) {
+        final var sample = Timer.start(this.meterRegistry);
+        try {
+            this.retry.run(() -> this.updateMediaStatusUseCase.execute(command));
+            sample.stop(timer("success"));
+            ack(channel, deliveryTag);
+        } catch (final RuntimeException ex) {
+            sample.stop(timer("failure"));
+            reject(channel, deliveryTag, command, ex);
+        }
+    }
+
+    private Timer timer(final String outcome) {
+        return Timer.builder(METRIC)
+                .tag("status", MediaStatus.COMPLETED.name())
+                .tag("outcome", outcome)
+                .register(this.meterRegistry);
     }
 }
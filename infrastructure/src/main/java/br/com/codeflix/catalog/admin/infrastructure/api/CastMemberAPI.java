@@ -1,19 +1,24 @@
 package br.com.codeflix.catalog.admin.infrastructure.api;
 
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.BulkUpsertCastMemberResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpsertCastMemberRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
 public interface CastMemberAPI {
@@ -41,17 +46,24 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "true") final boolean count
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "Cast member not modified"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable String id);
+    ResponseEntity<CastMemberResponse> getById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince
+    );
 
     @PutMapping(
             value = "{id}",
@@ -62,10 +74,28 @@ public interface CastMemberAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member updated"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
+            @ApiResponse(responseCode = "409", description = "Cast member was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Cast member no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCastMemberRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCastMemberRequest input
+    );
+
+    @PutMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create or update cast members in batch by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, each item reports its own errors"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<BulkUpsertCastMemberResponse> upsertAll(@RequestBody List<UpsertCastMemberRequest> input);
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
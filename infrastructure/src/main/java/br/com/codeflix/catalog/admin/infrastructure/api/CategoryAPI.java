@@ -1,19 +1,24 @@
 package br.com.codeflix.catalog.admin.infrastructure.api;
 
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.BulkUpsertCategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.UpsertCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
@@ -42,7 +47,9 @@ public interface CategoryAPI {
             @RequestParam(value = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(value = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(value = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(value = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(value = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "count", required = false, defaultValue = "true") final boolean count
     );
 
     @GetMapping(
@@ -52,10 +59,15 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category not modified"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
-    CategoryResponse getCategoryById(@PathVariable(name = "id") final String id);
+    ResponseEntity<CategoryResponse> getCategoryById(
+            @PathVariable(name = "id") final String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.IF_MODIFIED_SINCE, required = false) final String ifModifiedSince
+    );
 
     @PutMapping(
             value = "{id}",
@@ -66,13 +78,28 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "Category was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Category no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
     ResponseEntity<?> updateCategoryById(
             @PathVariable(name = "id") final String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @RequestBody final UpdateCategoryRequest input
     );
 
+    @PutMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create or update categories in batch by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, each item reports its own errors"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<BulkUpsertCategoryResponse> upsertCategories(@RequestBody final List<UpsertCategoryRequest> input);
+
     @DeleteMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -1,19 +1,24 @@
 package br.com.codeflix.catalog.admin.infrastructure.api;
 
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.BulkUpsertGenreResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpsertGenreRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
 public interface GenreAPI {
@@ -42,7 +47,9 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "true") final boolean count
     );
 
     @GetMapping(
@@ -52,10 +59,15 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre not modified"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreResponse getById(@PathVariable(name = "id") final String id);
+    ResponseEntity<GenreResponse> getById(
+            @PathVariable(name = "id") final String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.IF_MODIFIED_SINCE, required = false) final String ifModifiedSince
+    );
 
     @PutMapping(
             value = "{id}",
@@ -66,13 +78,28 @@ public interface GenreAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "409", description = "Genre was modified concurrently"),
+            @ApiResponse(responseCode = "412", description = "Genre no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     ResponseEntity<?> updateById(
             @PathVariable(name = "id") final String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @RequestBody final UpdateGenreRequest input
     );
 
+    @PutMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create or update genres in batch by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, each item reports its own errors"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<BulkUpsertGenreResponse> upsertAll(@RequestBody final List<UpsertGenreRequest> input);
+
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a genre by it's identifier")
@@ -4,44 +4,58 @@ import br.com.codeflix.catalog.admin.application.castmember.create.CreateCastMem
 import br.com.codeflix.catalog.admin.application.castmember.create.CreateCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.update.UpdateCastMemberCommand;
 import br.com.codeflix.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.BulkUpsertCastMemberUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.UpsertCastMemberCommand;
 import br.com.codeflix.catalog.admin.infrastructure.api.CastMemberAPI;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.BulkUpsertCastMemberResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpsertCastMemberRequest;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.presenters.CastMemberAPIPresenter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.*;
+
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
+    private final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final BulkUpsertCastMemberUseCase bulkUpsertCastMemberUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final BulkUpsertCastMemberUseCase bulkUpsertCastMemberUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
+        this.getCastMemberLastModifiedUseCase = Objects.requireNonNull(getCastMemberLastModifiedUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.bulkUpsertCastMemberUseCase = Objects.requireNonNull(bulkUpsertCastMemberUseCase);
     }
 
     @Override
@@ -58,21 +72,39 @@ public class CastMemberController implements CastMemberAPI {
                                                       final int page,
                                                       final int perPage,
                                                       final String sort,
-                                                      final String direction) {
-        return this.listCastMembersUseCase.execute(SearchQuery.with(page, perPage, search, sort, direction))
+                                                      final String direction,
+                                                      final String cursor,
+                                                      final boolean count) {
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, count))
                 .map(CastMemberAPIPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberAPIPresenter.present
-                .compose(this.getCastMemberByIdUseCase::execute)
-                .apply(id);
+    public ResponseEntity<CastMemberResponse> getById(
+            final String id,
+            final String ifNoneMatch,
+            final String ifModifiedSince
+    ) {
+        if (isConditional(ifNoneMatch, ifModifiedSince)) {
+            final var lastModified = this.getCastMemberLastModifiedUseCase.execute(id);
+            final var etag = strongETag(lastModified);
+            if (isNotModified(ifNoneMatch, ifModifiedSince, etag, lastModified)) {
+                return notModified(etag, lastModified);
+            }
+        }
+
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(strongETag(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CastMemberAPIPresenter.present.apply(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest input) {
-        final var command = UpdateCastMemberCommand.with(id, input.name(), input.type());
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCastMemberRequest input) {
+        final var command = UpdateCastMemberCommand.with(id, input.name(), input.type())
+                .expecting(expectedUpdatedAt(ifMatch));
 
         final var output = this.updateCastMemberUseCase.execute(command);
 
@@ -83,4 +115,15 @@ public class CastMemberController implements CastMemberAPI {
     public void deleteById(final String id) {
         this.deleteCastMemberUseCase.execute(id);
     }
+
+    @Override
+    public List<BulkUpsertCastMemberResponse> upsertAll(final List<UpsertCastMemberRequest> input) {
+        final var commands = input.stream()
+                .map(request -> UpsertCastMemberCommand.with(request.id(), request.name(), request.type()))
+                .toList();
+
+        return this.bulkUpsertCastMemberUseCase.execute(commands).stream()
+                .map(CastMemberAPIPresenter::present)
+                .toList();
+    }
 }
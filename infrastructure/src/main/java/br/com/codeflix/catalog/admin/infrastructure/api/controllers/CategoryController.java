@@ -5,6 +5,7 @@ import br.com.codeflix.catalog.admin.application.category.create.CreateCategoryO
 import br.com.codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryCommand;
 import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
@@ -12,42 +13,55 @@ import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryU
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
+import br.com.codeflix.catalog.admin.application.category.upsert.BulkUpsertCategoryUseCase;
+import br.com.codeflix.catalog.admin.application.category.upsert.UpsertCategoryCommand;
 import br.com.codeflix.catalog.admin.infrastructure.api.CategoryAPI;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.BulkUpsertCategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.UpsertCategoryRequest;
 import br.com.codeflix.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.*;
+
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
 
     private final UpdateCategoryUseCase updateCategoryUseCase;
 
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoryUseCase listCategoryUseCase;
+    private final BulkUpsertCategoryUseCase bulkUpsertCategoryUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoryUseCase listCategoryUseCase
+            final ListCategoryUseCase listCategoryUseCase,
+            final BulkUpsertCategoryUseCase bulkUpsertCategoryUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryLastModifiedUseCase = Objects.requireNonNull(getCategoryLastModifiedUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
+        this.bulkUpsertCategoryUseCase = Objects.requireNonNull(bulkUpsertCategoryUseCase);
     }
 
     @Override
@@ -69,27 +83,42 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(final String search, final int page, final int perPage, final String sort, final String direction) {
+    public Pagination<CategoryListResponse> listCategories(final String search, final int page, final int perPage, final String sort, final String direction, final String cursor, final boolean count) {
         return this.listCategoryUseCase
-                .execute(SearchQuery.with(page, perPage, search, sort, direction))
+                .execute(new SearchQuery(page, perPage, search, sort, direction, cursor, count))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getCategoryById(final String id) {
-        return CategoryApiPresenter.present
-                .compose(this.getCategoryByIdUseCase::execute)
-                .apply(id);
+    public ResponseEntity<CategoryResponse> getCategoryById(
+            final String id,
+            final String ifNoneMatch,
+            final String ifModifiedSince
+    ) {
+        if (isConditional(ifNoneMatch, ifModifiedSince)) {
+            final var lastModified = this.getCategoryLastModifiedUseCase.execute(id);
+            final var etag = strongETag(lastModified);
+            if (isNotModified(ifNoneMatch, ifModifiedSince, etag, lastModified)) {
+                return notModified(etag, lastModified);
+            }
+        }
+
+        final var output = this.getCategoryByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(strongETag(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CategoryApiPresenter.present.apply(output));
     }
 
     @Override
-    public ResponseEntity<?> updateCategoryById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateCategoryById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
                 input.active() != null ? input.active() : true
-        );
+        ).expecting(expectedUpdatedAt(ifMatch));
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
@@ -104,4 +133,15 @@ public class CategoryController implements CategoryAPI {
     public void deleteCategoryById(final String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public List<BulkUpsertCategoryResponse> upsertCategories(final List<UpsertCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(request -> UpsertCategoryCommand.with(request.id(), request.name(), request.description(), request.active()))
+                .toList();
+
+        return this.bulkUpsertCategoryUseCase.execute(commands).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
 }
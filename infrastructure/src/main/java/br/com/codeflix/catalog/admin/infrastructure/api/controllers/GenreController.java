@@ -4,44 +4,58 @@ import br.com.codeflix.catalog.admin.application.genre.create.CreateGenreCommand
 import br.com.codeflix.catalog.admin.application.genre.create.CreateGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.update.UpdateGenreCommand;
 import br.com.codeflix.catalog.admin.application.genre.update.UpdateGenreUseCase;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.application.genre.upsert.BulkUpsertGenreUseCase;
+import br.com.codeflix.catalog.admin.application.genre.upsert.UpsertGenreCommand;
 import br.com.codeflix.catalog.admin.infrastructure.api.GenreAPI;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreResponse;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.BulkUpsertGenreResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpsertGenreRequest;
 import br.com.codeflix.catalog.admin.infrastructure.genre.presenters.GenreApiPresenter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.*;
+
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final BulkUpsertGenreUseCase bulkUpsertGenreUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase,
             final ListGenreUseCase listGenreUseCase,
-            final UpdateGenreUseCase updateGenreUseCase
+            final UpdateGenreUseCase updateGenreUseCase,
+            final BulkUpsertGenreUseCase bulkUpsertGenreUseCase
     ) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.getGenreLastModifiedUseCase = Objects.requireNonNull(getGenreLastModifiedUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
+        this.bulkUpsertGenreUseCase = Objects.requireNonNull(bulkUpsertGenreUseCase);
     }
 
     @Override
@@ -63,27 +77,44 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean count
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, count))
                 .map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present
-                .compose(this.getGenreByIdUseCase::execute)
-                .apply(id);
+    public ResponseEntity<GenreResponse> getById(
+            final String id,
+            final String ifNoneMatch,
+            final String ifModifiedSince
+    ) {
+        if (isConditional(ifNoneMatch, ifModifiedSince)) {
+            final var lastModified = this.getGenreLastModifiedUseCase.execute(id);
+            final var etag = strongETag(lastModified);
+            if (isNotModified(ifNoneMatch, ifModifiedSince, etag, lastModified)) {
+                return notModified(etag, lastModified);
+            }
+        }
+
+        final var output = this.getGenreByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(strongETag(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(GenreApiPresenter.present.apply(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateGenreRequest input) {
         final var command = UpdateGenreCommand.with(
                 id,
                 input.name(),
                 input.isActive(),
                 input.categories()
-        );
+        ).expecting(expectedUpdatedAt(ifMatch));
 
         final var output = this.updateGenreUseCase.execute(command);
 
@@ -94,4 +125,15 @@ public class GenreController implements GenreAPI {
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
+
+    @Override
+    public List<BulkUpsertGenreResponse> upsertAll(final List<UpsertGenreRequest> input) {
+        final var commands = input.stream()
+                .map(request -> UpsertGenreCommand.with(request.id(), request.name(), request.active(), request.categories()))
+                .toList();
+
+        return this.bulkUpsertGenreUseCase.execute(commands).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
 }
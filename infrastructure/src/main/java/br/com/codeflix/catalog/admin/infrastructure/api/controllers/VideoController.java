@@ -3,11 +3,13 @@ package br.com.codeflix.catalog.admin.infrastructure.api.controllers;
 import br.com.codeflix.catalog.admin.application.video.create.CreateVideoCommand;
 import br.com.codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaChecksumUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaCommand;
 import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaCommand;
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.ListVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.update.UpdateVideoCommand;
 import br.com.codeflix.catalog.admin.application.video.update.UpdateVideoUseCase;
@@ -23,50 +25,71 @@ import br.com.codeflix.catalog.admin.domain.video.VideoResource;
 import br.com.codeflix.catalog.admin.domain.video.VideoSearchQuery;
 import br.com.codeflix.catalog.admin.infrastructure.api.VideoAPI;
 import br.com.codeflix.catalog.admin.infrastructure.utils.HashingUtils;
+import br.com.codeflix.catalog.admin.infrastructure.video.bulk.BulkVideoCreator;
+import br.com.codeflix.catalog.admin.infrastructure.video.export.VideoCatalogExporter;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.UpdateVideoRequest;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoResponse;
 import br.com.codeflix.catalog.admin.infrastructure.video.presenters.VideoApiPresenter;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import static br.com.codeflix.catalog.admin.domain.utils.CollectionUtils.mapTo;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.*;
 
 @RestController
 public class VideoController implements VideoAPI {
 
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideoUseCase listVideoUseCase;
     private final GetMediaUseCase getMediaUseCase;
+    private final GetMediaChecksumUseCase getMediaChecksumUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final BulkVideoCreator bulkVideoCreator;
+    private final VideoCatalogExporter videoCatalogExporter;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
+            final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideoUseCase listVideoUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final GetMediaChecksumUseCase getMediaChecksumUseCase,
+            final UploadMediaUseCase uploadMediaUseCase,
+            final BulkVideoCreator bulkVideoCreator,
+            final VideoCatalogExporter videoCatalogExporter
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.getVideoLastModifiedUseCase = Objects.requireNonNull(getVideoLastModifiedUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideoUseCase = Objects.requireNonNull(listVideoUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.getMediaChecksumUseCase = Objects.requireNonNull(getMediaChecksumUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.bulkVideoCreator = Objects.requireNonNull(bulkVideoCreator);
+        this.videoCatalogExporter = Objects.requireNonNull(videoCatalogExporter);
     }
 
     @Override
@@ -78,13 +101,15 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final boolean count
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
-        final var query = new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+        final var query = new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, cursor, count);
 
         return VideoApiPresenter.present(this.listVideoUseCase.execute(query));
     }
@@ -132,31 +157,51 @@ public class VideoController implements VideoAPI {
 
     @Override
     public ResponseEntity<?> createPartial(final CreateVideoRequest payload) {
-        final var command = CreateVideoCommand.with(
-                payload.title(),
-                payload.description(),
-                payload.yearLaunched(),
-                payload.duration(),
-                payload.opened(),
-                payload.published(),
-                payload.rating(),
-                payload.categories(),
-                payload.genres(),
-                payload.castMembers()
-        );
-
-        final var output = this.createVideoUseCase.execute(command);
+        final var output = this.createVideoUseCase.execute(commandOf(payload));
 
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
+    public ResponseEntity<StreamingResponseBody> createBulk(final InputStream payload) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> this.bulkVideoCreator.create(payload, out));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        final var exportFormat = VideoCatalogExporter.Format.of(format);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .body(out -> this.videoCatalogExporter.export(exportFormat, out));
     }
 
     @Override
-    public ResponseEntity<?> update(final String id, final UpdateVideoRequest payload) {
+    public ResponseEntity<VideoResponse> getById(
+            final String id,
+            final String ifNoneMatch,
+            final String ifModifiedSince
+    ) {
+        if (isConditional(ifNoneMatch, ifModifiedSince)) {
+            final var lastModified = this.getVideoLastModifiedUseCase.execute(id);
+            final var etag = strongETag(lastModified);
+            if (isNotModified(ifNoneMatch, ifModifiedSince, etag, lastModified)) {
+                return notModified(etag, lastModified);
+            }
+        }
+
+        final var output = this.getVideoByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(strongETag(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> update(final String id, final String ifMatch, final UpdateVideoRequest payload) {
         final var command = UpdateVideoCommand.with(
                 id,
                 payload.title(),
@@ -169,7 +214,7 @@ public class VideoController implements VideoAPI {
                 payload.categories(),
                 payload.genres(),
                 payload.castMembers()
-        );
+        ).expecting(expectedUpdatedAt(ifMatch));
 
         final var output = this.updateVideoUseCase.execute(command);
 
@@ -184,14 +229,57 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
-        final var media = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final String ifNoneMatch
+    ) {
+        final var command = GetMediaCommand.with(id, type);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(media.contentType()))
-                .contentLength(media.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(media.name()))
-                .body(media.content());
+        // the stored checksum, storages report their own in other encodings
+        final var etag = strongETag(this.getMediaChecksumUseCase.execute(command));
+        if (ifNoneMatch != null && isNotModified(ifNoneMatch, null, etag, null)) {
+            return notModified(etag, null);
+        }
+
+        final var media = this.getMediaUseCase.execute(command);
+        final var resource = media.content();
+        final var size = resource.size();
+
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf(media.contentType()));
+        headers.setETag(etag);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(media.name()));
+
+        if (range == null || (ifRange != null && !ifRange.equals(etag))) {
+            return streamOf(HttpStatus.OK, headers, resource, 0, size);
+        }
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException ex) {
+            // an invalid Range is ignored (RFC 9110 14.2), the client gets the whole representation
+            return streamOf(HttpStatus.OK, headers, resource, 0, size);
+        }
+
+        if (ranges.size() != 1) {
+            return streamOf(HttpStatus.OK, headers, resource, 0, size);
+        }
+
+        final var requested = ranges.get(0);
+        final var start = requested.getRangeStart(size);
+        final var end = requested.getRangeEnd(size);
+
+        if (start >= size || start > end) {
+            return rangeNotSatisfiable(size);
+        }
+
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, size));
+        return streamOf(HttpStatus.PARTIAL_CONTENT, headers, resource, start, end - start + 1);
     }
 
     @Override
@@ -208,20 +296,51 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    private static CreateVideoCommand commandOf(final CreateVideoRequest payload) {
+        return CreateVideoCommand.with(
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers()
+        );
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streamOf(
+            final HttpStatus status,
+            final HttpHeaders headers,
+            final Resource resource,
+            final long position,
+            final long count
+    ) {
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .contentLength(count)
+                .body(out -> resource.transferTo(position, count, Channels.newChannel(out)));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(final long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                .build();
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
-        try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
-        }
+        return Resource.with(
+                part::getInputStream,
+                part.getSize(),
+                HashingUtils::checksum,
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
     }
 }
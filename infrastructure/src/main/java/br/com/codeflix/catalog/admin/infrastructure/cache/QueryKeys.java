@@ -0,0 +1,71 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import br.com.codeflix.catalog.admin.domain.Identifier;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.domain.video.VideoSearchQuery;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Cache keys for listing queries; queries that can only return the same page map to the same key.
+ */
+public final class QueryKeys {
+
+    private QueryKeys() {
+    }
+
+    public static String of(final SearchQuery query) {
+        return String.join("|",
+                String.valueOf(query.page()),
+                String.valueOf(query.perPage()),
+                terms(query.terms()),
+                String.valueOf(query.sort()),
+                direction(query.direction()),
+                cursor(query.cursor()),
+                String.valueOf(query.withTotal())
+        );
+    }
+
+    public static String of(final VideoSearchQuery query) {
+        return String.join("|",
+                String.valueOf(query.page()),
+                String.valueOf(query.perPage()),
+                terms(query.terms()),
+                String.valueOf(query.sort()),
+                direction(query.direction()),
+                ids(query.castMembers()),
+                ids(query.categories()),
+                ids(query.genres()),
+                cursor(query.cursor()),
+                String.valueOf(query.withTotal())
+        );
+    }
+
+    // searches compare upper-cased terms, so neither case nor extra blanks change the result
+    private static String terms(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return "";
+        }
+        return terms.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+    }
+
+    private static String direction(final String direction) {
+        return direction == null ? "" : direction.toLowerCase(Locale.ROOT);
+    }
+
+    private static String cursor(final String cursor) {
+        return cursor == null || cursor.isBlank() ? "" : cursor;
+    }
+
+    private static String ids(final Collection<? extends Identifier> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return "";
+        }
+        return ids.stream()
+                .map(Identifier::getValue)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReadYourWrites;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Node-local, size-bounded and expiring copy of read-mostly values, keyed by id.
+ * Callers always get their own copy, so mutating a returned value never leaks into the cache.
+ * Loads read the primary: a replica still behind the write that caused an eviction would
+ * otherwise be cached until the next one.
+ */
+public class ReferenceCache<T> implements MeterBinder {
+
+    private final String name;
+    private final Cache<String, T> entries;
+    private final Cache<String, Boolean> existing;
+    private final UnaryOperator<T> copy;
+
+    // bumped on every eviction; a load that started before it must not repopulate the cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReferenceCache(
+            final String name,
+            final long maxSize,
+            final Duration ttl,
+            final UnaryOperator<T> copy
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.copy = Objects.requireNonNull(copy);
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.existing = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, this.entries, this.name);
+    }
+
+    /**
+     * Concurrent misses on the same id wait for a single load instead of each reading the database.
+     */
+    public Optional<T> get(final String id, final Function<String, Optional<T>> loader) {
+        final var expectedGeneration = this.generation.get();
+        final T value;
+        try {
+            value = this.entries.get(id, () -> ReadYourWrites.onPrimary(() -> loader.apply(id))
+                    .map(this.copy)
+                    .orElseThrow(Absent::new));
+        } catch (final UncheckedExecutionException | ExecutionError ex) {
+            if (ex.getCause() instanceof Absent) {
+                return Optional.empty();
+            }
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+
+        if (this.generation.get() == expectedGeneration) {
+            this.existing.put(id, Boolean.TRUE);
+        } else {
+            // an eviction raced with the load, which may have read the previous state
+            this.entries.invalidate(id);
+        }
+        return Optional.of(this.copy.apply(value));
+    }
+
+    /**
+     * Only ids known to exist are remembered; unknown ones always go to the loader,
+     * so an aggregate created on another node is never reported as missing.
+     */
+    public List<String> existing(final Collection<String> ids, final Function<List<String>, List<String>> loader) {
+        final var found = new LinkedHashSet<String>();
+        final var missing = new ArrayList<String>();
+        for (final var id : new LinkedHashSet<>(ids)) {
+            if (this.existing.getIfPresent(id) != null) {
+                found.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final var expectedGeneration = this.generation.get();
+            final var loaded = ReadYourWrites.onPrimary(() -> loader.apply(missing));
+            found.addAll(loaded);
+            if (this.generation.get() == expectedGeneration) {
+                loaded.forEach(id -> this.existing.put(id, Boolean.TRUE));
+            }
+        }
+
+        return List.copyOf(found);
+    }
+
+    public void evict(final Collection<String> ids) {
+        this.generation.incrementAndGet();
+        this.entries.invalidateAll(ids);
+        this.existing.invalidateAll(ids);
+    }
+
+    public void evictAll() {
+        this.generation.incrementAndGet();
+        this.entries.invalidateAll();
+        this.existing.invalidateAll();
+    }
+
+    private static class Absent extends RuntimeException {
+
+        Absent() {
+            super(null, null, false, false);
+        }
+    }
+}
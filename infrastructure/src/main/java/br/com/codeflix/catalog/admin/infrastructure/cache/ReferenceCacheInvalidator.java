@@ -0,0 +1,68 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Evicts reference data on this node and tells the other nodes to do the same.
+ * Both happen once the write is committed, so no node can reload the previous state afterwards.
+ */
+public class ReferenceCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceCacheInvalidator.class);
+
+    private final Map<String, ReferenceCache<?>> caches;
+    private final EventService eventService;
+
+    public ReferenceCacheInvalidator(final List<ReferenceCache<?>> caches, final EventService eventService) {
+        this.caches = caches.stream().collect(Collectors.toUnmodifiableMap(ReferenceCache::name, Function.identity()));
+        this.eventService = Objects.requireNonNull(eventService);
+    }
+
+    public void invalidate(final ReferenceDataChanged... changes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(changes);
+                }
+            });
+            return;
+        }
+        publish(changes);
+    }
+
+    public void evict(final ReferenceDataChanged change) {
+        final var cache = this.caches.get(change.cache());
+        if (cache == null) {
+            log.warn("[message:cache.invalidation.unknown] [cache:{}]", change.cache());
+            return;
+        }
+        if (change.ids() == null || change.ids().isEmpty()) {
+            cache.evictAll();
+        } else {
+            cache.evict(change.ids());
+        }
+    }
+
+    private void publish(final ReferenceDataChanged... changes) {
+        for (final var change : changes) {
+            evict(change);
+            try {
+                this.eventService.send(change);
+            } catch (final RuntimeException ex) {
+                // the write is already committed; other nodes fall back to the cache ttl
+                log.error("[message:cache.invalidation.publish] [cache:{}] [ids:{}]", change.cache(), change.ids(), ex);
+            }
+        }
+    }
+}
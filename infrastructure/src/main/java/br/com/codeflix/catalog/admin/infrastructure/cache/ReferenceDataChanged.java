@@ -0,0 +1,22 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Broadcast after a write on reference data; an empty id list stands for the whole cache.
+ */
+public record ReferenceDataChanged(
+        @JsonProperty("cache") String cache,
+        @JsonProperty("ids") List<String> ids
+) {
+
+    public static ReferenceDataChanged of(final String cache, final List<String> ids) {
+        return new ReferenceDataChanged(cache, List.copyOf(ids));
+    }
+
+    public static ReferenceDataChanged all(final String cache) {
+        return new ReferenceDataChanged(cache, List.of());
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.codeflix.catalog.admin.infrastructure.castmember;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.QueryKeys;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CAST_MEMBERS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CAST_MEMBER_LISTS;
+
+@Primary
+@Component
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberMySQLGateway castMemberGateway;
+    private final ReferenceCache<CastMember> cache;
+    private final ReferenceCache<Pagination<CastMember>> listCache;
+    private final ReferenceCacheInvalidator invalidator;
+
+    public CachedCastMemberGateway(
+            final CastMemberMySQLGateway castMemberGateway,
+            final ReferenceCache<CastMember> cache,
+            final ReferenceCache<Pagination<CastMember>> listCache,
+            final ReferenceCacheInvalidator invalidator
+    ) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.listCache = Objects.requireNonNull(listCache);
+        this.invalidator = Objects.requireNonNull(invalidator);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final var result = this.castMemberGateway.create(castMember);
+        this.invalidator.invalidate(ReferenceDataChanged.all(CAST_MEMBER_LISTS));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.castMemberGateway.deleteById(id);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CAST_MEMBERS, List.of(id.getValue())),
+                ReferenceDataChanged.all(CAST_MEMBER_LISTS)
+        );
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        return this.cache.get(id.getValue(), key -> this.castMemberGateway.findById(id));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberID id) {
+        return this.castMemberGateway.findUpdatedAtById(id);
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        final var result = this.castMemberGateway.update(castMember);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CAST_MEMBERS, List.of(result.getId().getValue())),
+                ReferenceDataChanged.all(CAST_MEMBER_LISTS)
+        );
+        return result;
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery query) {
+        return this.listCache.get(QueryKeys.of(query), key -> Optional.of(this.castMemberGateway.findAll(query))).orElseThrow();
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .toList();
+
+        return this.cache.existing(values, this::loadExisting).stream()
+                .map(CastMemberID::from)
+                .toList();
+    }
+
+    @Override
+    public void upsertAll(final List<CastMember> castMembers) {
+        this.castMemberGateway.upsertAll(castMembers);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CAST_MEMBERS, castMembers.stream().map(castMember -> castMember.getId().getValue()).toList()),
+                ReferenceDataChanged.all(CAST_MEMBER_LISTS)
+        );
+    }
+
+    private List<String> loadExisting(final List<String> ids) {
+        return this.castMemberGateway.existsByIds(ids.stream().map(CastMemberID::from).toList()).stream()
+                .map(CastMemberID::getValue)
+                .toList();
+    }
+}
@@ -3,28 +3,61 @@ package br.com.codeflix.catalog.admin.infrastructure.castmember;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils;
+import br.com.codeflix.catalog.admin.infrastructure.utils.KeysetUtils;
 import br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils.timestamp;
+
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String[] SEARCH_COLUMNS = {"name"};
+
+    // MySQL assigns left to right, so the guarded columns come before the ones the check reads
+    private static final String CHANGED = "NOT (name = VALUES(name) AND type = VALUES(type))";
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private static final String UPSERT = """
+            INSERT INTO cast_members (id, name, type, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, 0)
+            ON DUPLICATE KEY UPDATE
+                version = CASE WHEN %1$s THEN version + 1 ELSE version END,
+                updated_at = CASE WHEN %1$s THEN VALUES(updated_at) ELSE updated_at END,
+                name = VALUES(name),
+                type = VALUES(type)
+            """.formatted(CHANGED);
+
+    private final CastMemberRepository castMemberRepository;
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            @Value("${search.full-text:false}") final boolean fullTextSearch
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
@@ -46,32 +79,57 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CastMemberID memberId) {
+        return this.castMemberRepository.findUpdatedAtById(memberId.getValue());
+    }
+
     @Override
     public CastMember update(final CastMember castMember) {
-        return save(castMember);
+        try {
+            return save(castMember);
+        } catch (final OptimisticLockingFailureException ex) {
+            throw ConflictException.with(CastMember.class, castMember.getId());
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery query) {
+        final var where = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (query.isCursorBased()) {
+            return findAfter(query, where);
+        }
+
+        final var byRelevance = SpecificationUtils.RELEVANCE.equals(query.sort());
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                byRelevance ? Sort.unsorted() : KeysetUtils.sortOf(query.sort(), query.direction())
         );
+        final var filter = byRelevance
+                ? Specification.where(where).and(SpecificationUtils.orderByRelevance(this.fullTextSearch ? query.terms() : null, SEARCH_COLUMNS))
+                : where;
 
-        final var where = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        if (!query.withTotal()) {
+            return findSlice(query, filter, page);
+        }
 
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
+        final var pageResult = this.castMemberRepository.findAll(filter, page);
+        final var nextCursor = pageResult.hasNext()
+                ? KeysetUtils.nextCursor(pageResult.getContent().get(pageResult.getNumberOfElements() - 1), query.sort())
+                : null;
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+                pageResult.map(CastMemberJpaEntity::toAggregate).toList(),
+                nextCursor
         );
     }
 
@@ -85,12 +143,73 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public void upsertAll(final List<CastMember> castMembers) {
+        BatchUtils.batchUpdate(this.entityManager, UPSERT, castMembers, (statement, member) -> {
+            statement.setString(1, member.getId().getValue());
+            statement.setString(2, member.getName());
+            statement.setString(3, member.getType().name());
+            statement.setTimestamp(4, timestamp(member.getCreatedAt()));
+            statement.setTimestamp(5, timestamp(member.getUpdatedAt()));
+        });
+    }
+
+    private Pagination<CastMember> findSlice(
+            final SearchQuery query,
+            final Specification<CastMemberJpaEntity> filter,
+            final PageRequest page
+    ) {
+        final var rows = KeysetUtils.slice(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                filter,
+                page.getSort(),
+                page.getOffset(),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                Pagination.UNKNOWN_TOTAL,
+                window.items().stream().map(CastMemberJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
+    private Pagination<CastMember> findAfter(final SearchQuery query, final Specification<CastMemberJpaEntity> where) {
+        final var rows = KeysetUtils.seek(
+                this.entityManager,
+                CastMemberJpaEntity.class,
+                where,
+                query.sort(),
+                query.direction(),
+                KeysetUtils.decode(query.cursor()),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+        final var total = query.withTotal() ? this.castMemberRepository.count(where) : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                window.items().stream().map(CastMemberJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
     private CastMember save(final CastMember aCastMember) {
         return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
                 .toAggregate();
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
+        if (this.fullTextSearch) {
+            return SpecificationUtils.match(terms, SEARCH_COLUMNS);
+        }
         return SpecificationUtils.like("name", terms);
     }
 }
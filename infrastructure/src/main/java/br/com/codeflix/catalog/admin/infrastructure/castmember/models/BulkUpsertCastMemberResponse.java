@@ -0,0 +1,12 @@
+package br.com.codeflix.catalog.admin.infrastructure.castmember.models;
+
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkUpsertCastMemberResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
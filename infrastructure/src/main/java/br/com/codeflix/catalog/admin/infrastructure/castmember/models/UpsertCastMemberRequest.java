@@ -0,0 +1,6 @@
+package br.com.codeflix.catalog.admin.infrastructure.castmember.models;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
+
+public record UpsertCastMemberRequest(String id, String name, CastMemberType type) {
+}
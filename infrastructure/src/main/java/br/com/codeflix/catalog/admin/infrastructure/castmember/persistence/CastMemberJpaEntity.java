@@ -27,15 +27,20 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CastMemberJpaEntity() { }
 
     public CastMemberJpaEntity(final String id, final String name, final CastMemberType type,
-                               final Instant createdAt, final Instant updatedAt) {
+                               final Instant createdAt, final Instant updatedAt, final long version) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public static CastMemberJpaEntity from(final CastMember castMember) {
@@ -44,7 +49,8 @@ public class CastMemberJpaEntity {
                 castMember.getName(),
                 castMember.getType(),
                 castMember.getCreatedAt(),
-                castMember.getUpdatedAt()
+                castMember.getUpdatedAt(),
+                castMember.getVersion()
         );
     }
 
@@ -54,7 +60,8 @@ public class CastMemberJpaEntity {
                 getName(),
                 getType(),
                 getCreatedAt(),
-                getUpdatedAt()
+                getUpdatedAt(),
+                getVersion()
         );
     }
 
@@ -97,4 +104,12 @@ public class CastMemberJpaEntity {
     public void setUpdatedAt(final Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
 }
@@ -7,12 +7,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CastMemberJpaEntity> whereClause);
+
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from CastMember c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
 }
@@ -1,7 +1,9 @@
 package br.com.codeflix.catalog.admin.infrastructure.castmember.presenters;
 
+import br.com.codeflix.catalog.admin.application.castmember.upsert.BulkUpsertCastMemberOutput;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.BulkUpsertCastMemberResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CastMemberResponse;
 
@@ -25,4 +27,8 @@ public interface CastMemberAPIPresenter {
                 member.createdAt()
         );
     }
-}
\ No newline at end of file
+
+    static BulkUpsertCastMemberResponse present(final BulkUpsertCastMemberOutput output) {
+        return new BulkUpsertCastMemberResponse(output.id(), output.errors());
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.codeflix.catalog.admin.infrastructure.category;
+
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.QueryKeys;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CATEGORIES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CATEGORY_LISTS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRE_LISTS;
+
+@Primary
+@Component
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryMySQLGateway categoryGateway;
+    private final ReferenceCache<Category> cache;
+    private final ReferenceCache<Pagination<Category>> listCache;
+    private final ReferenceCacheInvalidator invalidator;
+
+    public CachedCategoryGateway(
+            final CategoryMySQLGateway categoryGateway,
+            final ReferenceCache<Category> cache,
+            final ReferenceCache<Pagination<Category>> listCache,
+            final ReferenceCacheInvalidator invalidator
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.listCache = Objects.requireNonNull(listCache);
+        this.invalidator = Objects.requireNonNull(invalidator);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var result = this.categoryGateway.create(category);
+        this.invalidator.invalidate(ReferenceDataChanged.all(CATEGORY_LISTS));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.categoryGateway.deleteById(id);
+        // the genre links of a deleted category are removed by the database, behind the genre cache
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CATEGORIES, List.of(id.getValue())),
+                ReferenceDataChanged.all(CATEGORY_LISTS),
+                ReferenceDataChanged.all(GENRES),
+                ReferenceDataChanged.all(GENRE_LISTS)
+        );
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.cache.get(id.getValue(), key -> this.categoryGateway.findById(id));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID id) {
+        return this.categoryGateway.findUpdatedAtById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var result = this.categoryGateway.update(category);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CATEGORIES, List.of(result.getId().getValue())),
+                ReferenceDataChanged.all(CATEGORY_LISTS)
+        );
+        return result;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.listCache.get(QueryKeys.of(query), key -> Optional.of(this.categoryGateway.findAll(query))).orElseThrow();
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(CategoryID::getValue)
+                .toList();
+
+        return this.cache.existing(values, this::loadExisting).stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+
+    @Override
+    public void upsertAll(final List<Category> categories) {
+        this.categoryGateway.upsertAll(categories);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(CATEGORIES, categories.stream().map(category -> category.getId().getValue()).toList()),
+                ReferenceDataChanged.all(CATEGORY_LISTS)
+        );
+    }
+
+    private List<String> loadExisting(final List<String> ids) {
+        return this.categoryGateway.existsByIds(ids.stream().map(CategoryID::from).toList()).stream()
+                .map(CategoryID::getValue)
+                .toList();
+    }
+}
@@ -3,15 +3,23 @@ package br.com.codeflix.catalog.admin.infrastructure.category;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils;
+import br.com.codeflix.catalog.admin.infrastructure.utils.KeysetUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -19,16 +27,49 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils.timestamp;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.RELEVANCE;
 import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.match;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.orderByRelevance;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository categoryRepository;
+    private static final String[] SEARCH_COLUMNS = {"name", "description"};
+
+    // MySQL assigns left to right, so the guarded columns come before the ones the check reads
+    private static final String CHANGED = """
+            NOT (name = VALUES(name)
+                AND (description = VALUES(description) OR description IS NULL AND (VALUES(description)) IS NULL)
+                AND active = VALUES(active)
+                AND (deleted_at = VALUES(deleted_at) OR deleted_at IS NULL AND (VALUES(deleted_at)) IS NULL))""";
+
+    private static final String UPSERT = """
+            INSERT INTO categories (id, name, description, active, created_at, updated_at, deleted_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+            ON DUPLICATE KEY UPDATE
+                version = CASE WHEN %1$s THEN version + 1 ELSE version END,
+                updated_at = CASE WHEN %1$s THEN VALUES(updated_at) ELSE updated_at END,
+                name = VALUES(name),
+                description = VALUES(description),
+                active = VALUES(active),
+                deleted_at = VALUES(deleted_at)
+            """.formatted(CHANGED);
 
-    public CategoryMySQLGateway(CategoryRepository categoryRepository) {
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            final EntityManager entityManager,
+            @Value("${search.full-text:false}") final boolean fullTextSearch
+    ) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
@@ -50,30 +91,57 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID id) {
+        return this.categoryRepository.findUpdatedAtById(id.getValue());
+    }
+
     @Override
     public Category update(final Category category) {
-        return this.save(category);
+        try {
+            return this.save(category);
+        } catch (final OptimisticLockingFailureException ex) {
+            throw ConflictException.with(Category.class, category.getId());
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final SearchQuery query) {
+        final var specifications = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (query.isCursorBased()) {
+            return findAfter(query, where(specifications));
+        }
+
+        final var byRelevance = RELEVANCE.equals(query.sort());
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                byRelevance ? Sort.unsorted() : KeysetUtils.sortOf(query.sort(), query.direction())
         );
+        final var filter = byRelevance
+                ? where(specifications).and(orderByRelevance(this.fullTextSearch ? query.terms() : null, SEARCH_COLUMNS))
+                : where(specifications);
 
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        if (!query.withTotal()) {
+            return findSlice(query, filter, page);
+        }
+
+        final var pageResult = this.categoryRepository.findAll(filter, page);
+        final var nextCursor = pageResult.hasNext()
+                ? KeysetUtils.nextCursor(pageResult.getContent().get(pageResult.getNumberOfElements() - 1), query.sort())
+                : null;
 
-        final var pageResult = this.categoryRepository.findAll(where(specifications), page);
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                pageResult.map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor
         );
     }
 
@@ -88,11 +156,75 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public void upsertAll(final List<Category> categories) {
+        BatchUtils.batchUpdate(this.entityManager, UPSERT, categories, (statement, category) -> {
+            statement.setString(1, category.getId().getValue());
+            statement.setString(2, category.getName());
+            statement.setString(3, category.getDescription());
+            statement.setBoolean(4, category.isActive());
+            statement.setTimestamp(5, timestamp(category.getCreatedAt()));
+            statement.setTimestamp(6, timestamp(category.getUpdatedAt()));
+            statement.setTimestamp(7, timestamp(category.getDeletedAt()));
+        });
+    }
+
+    private Pagination<Category> findSlice(
+            final SearchQuery query,
+            final Specification<CategoryJpaEntity> filter,
+            final PageRequest page
+    ) {
+        final var rows = KeysetUtils.slice(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                filter,
+                page.getSort(),
+                page.getOffset(),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                Pagination.UNKNOWN_TOTAL,
+                window.items().stream().map(CategoryJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
+    private Pagination<Category> findAfter(final SearchQuery query, final Specification<CategoryJpaEntity> specifications) {
+        final var rows = KeysetUtils.seek(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                specifications,
+                query.sort(),
+                query.direction(),
+                KeysetUtils.decode(query.cursor()),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+        final var total = query.withTotal() ? this.categoryRepository.count(specifications) : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                window.items().stream().map(CategoryJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
     private Category save(final Category category) {
         return this.categoryRepository.save(CategoryJpaEntity.from(category)).toAggregate();
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
+        if (this.fullTextSearch) {
+            return match(str, SEARCH_COLUMNS);
+        }
+
         final Specification<CategoryJpaEntity> nameLike = like("name", str);
         final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
 
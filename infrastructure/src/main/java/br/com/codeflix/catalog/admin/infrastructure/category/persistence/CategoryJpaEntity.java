@@ -7,6 +7,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Entity(name = "Category")
@@ -34,10 +35,15 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {}
 
     private CategoryJpaEntity(final String id, final String name, final String description, final boolean active,
-                              final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
+                              final Instant createdAt, final Instant updatedAt, final Instant deletedAt,
+                              final long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -45,6 +51,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
@@ -55,7 +62,8 @@ public class CategoryJpaEntity {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
@@ -67,7 +75,8 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
@@ -126,4 +135,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
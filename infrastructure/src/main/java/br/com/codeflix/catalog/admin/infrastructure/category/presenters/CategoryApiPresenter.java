@@ -1,7 +1,9 @@
 package br.com.codeflix.catalog.admin.infrastructure.category.presenters;
 
+import br.com.codeflix.catalog.admin.application.category.upsert.BulkUpsertCategoryOutput;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.BulkUpsertCategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 
@@ -29,4 +31,8 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static BulkUpsertCategoryResponse present(final BulkUpsertCategoryOutput output) {
+        return new BulkUpsertCategoryResponse(output.id(), output.errors());
+    }
 }
@@ -1,10 +1,18 @@
 package br.com.codeflix.catalog.admin.infrastructure.configuration;
 
+import br.com.codeflix.catalog.admin.infrastructure.amqp.ConflictRetry;
+import br.com.codeflix.catalog.admin.infrastructure.amqp.NodeQueueDeclarer;
+import br.com.codeflix.catalog.admin.infrastructure.amqp.ShardedExecutor;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.ReferenceDataEvents;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEvents;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.ListenerProperties;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.PublisherProperties;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +34,107 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.queues.reference-data")
+    @ReferenceDataEvents
+    QueueProperties referenceDataQueueProperties() {
+        return new QueueProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @VideoEncodedQueue
+    ShardedExecutor videoEncodedWorkers(@VideoEncodedQueue final ListenerProperties props) {
+        return new ShardedExecutor("video-encoded", props.getConcurrency());
+    }
+
+    @Bean
+    @VideoEncodedQueue
+    ConflictRetry videoEncodedRetry(@VideoEncodedQueue final ListenerProperties props) {
+        return new ConflictRetry(props.getRetryAttempts(), props.getRetryBackoff());
+    }
+
+    @Bean
+    SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        // a single consumer keeps delivery order; parallelism comes from the sharded workers
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(props.getPrefetch());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    SimpleRabbitListenerContainerFactory videoEncodedBatchListenerContainerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ListenerProperties props
+    ) {
+        // a batch closes at batch-size messages or after batch-window millis without a new delivery
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getBatchWindow());
+        return factory;
+    }
+
+    @Bean
+    @ReferenceDataEvents
+    AnonymousQueue referenceDataQueue(@ReferenceDataEvents final QueueProperties props) {
+        // every node consumes its own copy of the fanout, from a queue that goes away with the node
+        return new AnonymousQueue(new Base64UrlNamingStrategy(props.getQueue() + "."));
+    }
+
+    @Bean
+    @ReferenceDataEvents
+    Binding referenceDataQueueBinding(
+            @ReferenceDataEvents final AnonymousQueue queue,
+            @ReferenceDataEvents final QueueProperties props
+    ) {
+        return new Binding(queue.getName(), Binding.DestinationType.QUEUE, props.getExchange(), props.getRoutingKey(), null);
+    }
+
+    @Bean
+    NodeQueueDeclarer referenceDataQueueDeclarer(
+            final ConnectionFactory connectionFactory,
+            @ReferenceDataEvents final AnonymousQueue queue,
+            @ReferenceDataEvents final Binding binding
+    ) {
+        return new NodeQueueDeclarer(connectionFactory, queue, binding);
+    }
+
+    @Bean
+    SimpleRabbitListenerContainerFactory referenceDataListenerContainerFactory(final ConnectionFactory connectionFactory) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
     @Configuration
     static class Admin {
 
@@ -35,6 +144,12 @@ public class AmqpConfig {
             return new DirectExchange(props.getExchange());
         }
 
+        @Bean
+        @ReferenceDataEvents
+        Exchange referenceDataExchange(@ReferenceDataEvents QueueProperties props) {
+            return new FanoutExchange(props.getExchange());
+        }
+
         @Bean
         @VideoCreatedQueue
         Queue videoCreatedQueue(@VideoCreatedQueue QueueProperties props) {
@@ -0,0 +1,101 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration;
+
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.video.VideoPreview;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.ReferenceDataEvents;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.cache.CacheProperties;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast-members";
+    public static final String VIDEOS = "videos";
+    public static final String CATEGORY_LISTS = "category-lists";
+    public static final String GENRE_LISTS = "genre-lists";
+    public static final String CAST_MEMBER_LISTS = "cast-member-lists";
+    public static final String VIDEO_LISTS = "video-lists";
+
+    @Bean
+    @ConfigurationProperties("cache")
+    CacheProperties cacheProperties() {
+        return new CacheProperties();
+    }
+
+    @Bean
+    ReferenceCache<Category> categoryCache(final CacheProperties props) {
+        return new ReferenceCache<>(CATEGORIES, props.getReference().getMaxSize(), props.getReference().getTtl(), Category::clone);
+    }
+
+    @Bean
+    ReferenceCache<Genre> genreCache(final CacheProperties props) {
+        return new ReferenceCache<>(GENRES, props.getReference().getMaxSize(), props.getReference().getTtl(), CacheConfig::copyOf);
+    }
+
+    @Bean
+    ReferenceCache<CastMember> castMemberCache(final CacheProperties props) {
+        return new ReferenceCache<>(CAST_MEMBERS, props.getReference().getMaxSize(), props.getReference().getTtl(), CastMember::with);
+    }
+
+    @Bean
+    ReferenceCache<VideoOutput> videoCache(final CacheProperties props) {
+        // outputs are read-only snapshots, so every reader can share the cached one
+        return new ReferenceCache<>(VIDEOS, props.getVideos().getMaxSize(), props.getVideos().getTtl(), UnaryOperator.identity());
+    }
+
+    @Bean
+    ReferenceCache<Pagination<Category>> categoryListCache(final CacheProperties props) {
+        return new ReferenceCache<>(CATEGORY_LISTS, props.getLists().getMaxSize(), props.getLists().getTtl(), page -> page.map(Category::clone));
+    }
+
+    @Bean
+    ReferenceCache<Pagination<Genre>> genreListCache(final CacheProperties props) {
+        return new ReferenceCache<>(GENRE_LISTS, props.getLists().getMaxSize(), props.getLists().getTtl(), page -> page.map(CacheConfig::copyOf));
+    }
+
+    @Bean
+    ReferenceCache<Pagination<CastMember>> castMemberListCache(final CacheProperties props) {
+        return new ReferenceCache<>(CAST_MEMBER_LISTS, props.getLists().getMaxSize(), props.getLists().getTtl(), page -> page.map(CastMember::with));
+    }
+
+    @Bean
+    ReferenceCache<Pagination<VideoPreview>> videoListCache(final CacheProperties props) {
+        return new ReferenceCache<>(VIDEO_LISTS, props.getLists().getMaxSize(), props.getLists().getTtl(), UnaryOperator.identity());
+    }
+
+    @Bean
+    ReferenceCacheInvalidator referenceCacheInvalidator(
+            final List<ReferenceCache<?>> caches,
+            @ReferenceDataEvents final EventService eventService
+    ) {
+        return new ReferenceCacheInvalidator(caches, eventService);
+    }
+
+    public static Genre copyOf(final Genre genre) {
+        return Genre.with(
+                genre.getId(),
+                genre.getName(),
+                genre.isActive(),
+                new ArrayList<>(genre.getCategories()),
+                genre.getCreatedAt(),
+                genre.getUpdatedAt(),
+                genre.getDeletedAt(),
+                genre.getVersion()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReadWriteRoutingDataSource;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReadYourWritesFilter;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+@Configuration
+@ConditionalOnProperty(value = "datasource.replicas.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.replicas")
+    ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReadWriteRoutingDataSource routingDataSource(
+            final HikariDataSource primaryDataSource,
+            final ReplicaProperties props
+    ) {
+        // replica pools share the primary pool settings, only the url and name differ
+        final var replicas = new ArrayList<HikariDataSource>();
+        for (final var url : props.getUrls()) {
+            final var replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url);
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(final ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(final ReplicaProperties props) {
+        final var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(props.getReadYourWritesWindow()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,19 +1,39 @@
 package br.com.codeflix.catalog.admin.infrastructure.configuration;
 
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.ReferenceDataEvents;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedOutbox;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.PublisherProperties;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.outbox.OutboxRelayProperties;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.OutboxRelay;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import br.com.codeflix.catalog.admin.infrastructure.services.impl.AsyncRabbitEventService;
+import br.com.codeflix.catalog.admin.infrastructure.services.impl.OutboxEventService;
 import br.com.codeflix.catalog.admin.infrastructure.services.impl.RabbitEventService;
 import br.com.codeflix.catalog.admin.infrastructure.services.local.InMemoryEventService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class EventConfig {
 
+    private static final String VIDEO_CREATED = "video-created";
+
     @Bean
     @VideoCreatedQueue
     @Profile({"development"})
@@ -26,8 +46,88 @@ public class EventConfig {
     @ConditionalOnMissingBean
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
+            final PublisherProperties publisherProps,
+            final RabbitOperations operations,
+            final MeterRegistry meterRegistry
+    ) {
+        if (publisherProps.isAsync()) {
+            return new AsyncRabbitEventService(
+                    props.getExchange(),
+                    props.getRoutingKey(),
+                    operations,
+                    publisherProps.getQueueCapacity(),
+                    publisherProps.getBatchSize(),
+                    publisherProps.getConfirmTimeout(),
+                    publisherProps.getEnqueueTimeout(),
+                    publisherProps.getMaxAttempts(),
+                    meterRegistry
+            );
+        }
+        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), operations);
+    }
+
+    @Bean
+    @ReferenceDataEvents
+    @Profile({"development"})
+    EventService inMemoryReferenceDataEventService() {
+        return new InMemoryEventService();
+    }
+
+    @Bean
+    @ReferenceDataEvents
+    @Profile({"!development"})
+    EventService referenceDataEventService(
+            @ReferenceDataEvents final QueueProperties props,
             final RabbitOperations operations
     ) {
         return new RabbitEventService(props.getExchange(), props.getRoutingKey(), operations);
     }
+
+    @Bean
+    @VideoCreatedOutbox
+    EventService videoCreatedOutboxEventService(final OutboxEventRepository outboxEventRepository) {
+        return new OutboxEventService(VIDEO_CREATED, outboxEventRepository);
+    }
+
+    @Bean
+    @ConfigurationProperties("outbox.relay")
+    OutboxRelayProperties outboxRelayProperties() {
+        return new OutboxRelayProperties();
+    }
+
+    @Bean
+    OutboxRelay outboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            @VideoCreatedQueue final EventService videoCreatedEventService,
+            final PlatformTransactionManager transactionManager,
+            final OutboxRelayProperties props
+    ) {
+        return new OutboxRelay(
+                outboxEventRepository,
+                Map.of(VIDEO_CREATED, videoCreatedEventService),
+                new TransactionTemplate(transactionManager),
+                props.getBatchSize(),
+                Duration.ofMillis(props.getClaimTimeout())
+        );
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class OutboxRelayScheduling implements SchedulingConfigurer {
+
+        private final OutboxRelay outboxRelay;
+        private final OutboxRelayProperties props;
+
+        OutboxRelayScheduling(final OutboxRelay outboxRelay, final OutboxRelayProperties props) {
+            this.outboxRelay = outboxRelay;
+            this.props = props;
+        }
+
+        @Override
+        public void configureTasks(final ScheduledTaskRegistrar registrar) {
+            if (this.props.isEnabled()) {
+                registrar.addFixedDelayTask(this.outboxRelay::drain, this.props.getPollInterval());
+            }
+        }
+    }
 }
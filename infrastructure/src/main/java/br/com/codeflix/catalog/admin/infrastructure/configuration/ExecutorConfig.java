@@ -0,0 +1,92 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.MediaProcessingExecutor;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.StreamingExecutor;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReadYourWrites;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.executor.ExecutorProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    @MediaProcessingExecutor
+    @ConfigurationProperties("executors.media-processing")
+    public ExecutorProperties mediaProcessingExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @MediaProcessingExecutor
+    public ExecutorService mediaProcessingExecutor(@MediaProcessingExecutor final ExecutorProperties props) {
+        final var executor = new ThreadPoolExecutor(
+                props.getPoolSize(),
+                props.getPoolSize(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                threadFactory("media-processing-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    @StreamingExecutor
+    @ConfigurationProperties("executors.streaming")
+    public ExecutorProperties streamingExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    // runs the bulk, export and media response bodies; rejects instead of running a stream on the request thread
+    @Bean(destroyMethod = "shutdown")
+    @StreamingExecutor
+    public ExecutorService streamingExecutor(@StreamingExecutor final ExecutorProperties props) {
+        final var executor = new ThreadPoolExecutor(
+                props.getPoolSize(),
+                props.getPoolSize(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                threadFactory("streaming-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // the timeout comes from spring.mvc.async.request-timeout, applied by the Boot configurer
+    @Bean
+    public WebMvcConfigurer streamingAsyncSupport(@StreamingExecutor final ExecutorService streamingExecutor) {
+        final var taskExecutor = new TaskExecutorAdapter(streamingExecutor);
+        taskExecutor.setTaskDecorator(ReadYourWrites::propagate);
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(taskExecutor);
+            }
+        };
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -8,6 +8,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.http.HttpTransportOptions;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +22,7 @@ import java.util.Objects;
 
 @Configuration
 @Profile({"!development & !integration-test & !e2e-test"})
+@ConditionalOnProperty(name = "storage.video-catalog.provider", havingValue = "gcs", matchIfMissing = true)
 public class GoogleCloudConfig {
 
     @Bean
@@ -1,8 +1,10 @@
 package br.com.codeflix.catalog.admin.infrastructure.configuration;
 
+import br.com.codeflix.catalog.admin.infrastructure.configuration.security.EagerSecurityHeaders;
 import com.nimbusds.jose.shaded.json.JSONObject;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -28,6 +30,7 @@ import java.util.stream.Stream;
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 @Profile("!development")
+@Import(EagerSecurityHeaders.class)
 public class SecurityConfig {
 
     public static final String SECURITY_IGNORED_URLS = "/**/v3/api-docs/**,/**/swagger-ui*/**,/**/swagger-resources/**";
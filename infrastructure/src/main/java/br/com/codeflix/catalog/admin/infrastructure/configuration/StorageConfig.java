@@ -1,17 +1,23 @@
 package br.com.codeflix.catalog.admin.infrastructure.configuration;
 
 import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.storage.LocalStorageProperties;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import br.com.codeflix.catalog.admin.infrastructure.services.StorageService;
 import br.com.codeflix.catalog.admin.infrastructure.services.impl.GoogleCloudStorageService;
+import br.com.codeflix.catalog.admin.infrastructure.services.impl.LocalFileStorageService;
 import br.com.codeflix.catalog.admin.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,15 +27,44 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.video-catalog.local")
+    @ConditionalOnProperty(name = "storage.video-catalog.provider", havingValue = "local")
+    public LocalStorageProperties localStorageProperties() {
+        return new LocalStorageProperties();
+    }
+
+    @Bean(name = "storageService")
+    @ConditionalOnProperty(name = "storage.video-catalog.provider", havingValue = "local")
+    public StorageService localFileStorageService(final LocalStorageProperties properties) {
+        return new LocalFileStorageService(
+                Path.of(properties.getRootDirectory()),
+                properties.getDeleteBatchSize()
+        );
+    }
+
     @Bean(name = "storageService")
     @Profile({"development", "integration-test", "e2e-test"})
+    @ConditionalOnMissingBean
     public StorageService inMemoryStorageService() {
         return new InMemoryStorageService();
     }
 
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
-    public StorageService googleCloudStorageService(final GoogleStorageProperties properties, final Storage storage) {
-        return new GoogleCloudStorageService(properties.getBucket(), storage);
+    @ConditionalOnProperty(name = "storage.video-catalog.provider", havingValue = "gcs", matchIfMissing = true)
+    public StorageService googleCloudStorageService(
+            final GoogleStorageProperties properties,
+            final Storage storage,
+            final MeterRegistry meterRegistry
+    ) {
+        return new GoogleCloudStorageService(
+                properties.getBucket(),
+                storage,
+                properties.isResumableUpload(),
+                properties.getUploadChunkSize(),
+                properties.getUploadMaxAttempts(),
+                meterRegistry
+        );
     }
 }
@@ -0,0 +1,67 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas, round robin, and everything else to the primary.
+ * Reads pinned by {@link ReadYourWrites} stay on the primary, so a client that just wrote does not
+ * read behind its own change; writes of other clients and of background jobs leave the replicas
+ * serving reads. Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction is only flagged read-only after it began, so the target connection has to be
+ * fetched on the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica-";
+
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(
+            final DataSource primary,
+            final List<? extends DataSource> replicas
+    ) {
+        this.replicas = List.copyOf(replicas);
+
+        final var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, Objects.requireNonNull(primary));
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(REPLICA + i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final var readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly || this.replicas.isEmpty() || ReadYourWrites.isPinned()) {
+            return PRIMARY;
+        }
+        return REPLICA + Math.floorMod(this.next.getAndIncrement(), this.replicas.size());
+    }
+
+    // the replica pools are owned here; the primary one is a bean of its own
+    @Override
+    public void destroy() throws IOException {
+        for (final var pool : this.replicas) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread marker that keeps reads on the primary, for a whole request that changes state or comes
+ * from a client that just changed it, or for reads whose result outlives them, such as the ones that
+ * fill a cache.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinRequest() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static <T> T onPrimary(final Supplier<T> reads) {
+        if (isPinned()) {
+            return reads.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    /**
+     * Carries the pin of the submitting thread over to the one that runs the task.
+     */
+    public static Runnable propagate(final Runnable task) {
+        if (!isPinned()) {
+            return task;
+        }
+        return () -> onPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps every read of a request that changes state on the primary, so the version it checks
+ * is the one it writes against, and drops the thread's pin once the request is done. A body
+ * written on another thread gets the pin through {@link ReadYourWrites#propagate(Runnable)}.
+ * <p>
+ * The client that sent it gets a cookie holding the end of the read-your-writes window, and its
+ * reads stay on the primary until then, on whichever node takes them. Nothing else is pinned by
+ * that write.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "read-your-writes";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long window;
+
+    public ReadYourWritesFilter(final Duration window) {
+        this.window = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            ReadYourWrites.pinRequest();
+            // before the chain runs, a streamed body may commit the response before it returns
+            pinClient(response);
+        } else if (isClientPinned(request)) {
+            ReadYourWrites.pinRequest();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private void pinClient(final HttpServletResponse response) {
+        if (this.window <= 0) {
+            return;
+        }
+        final var cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + this.window));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.ceil(this.window / 1000.0));
+        response.addCookie(cookie);
+    }
+
+    private static boolean isClientPinned(final HttpServletRequest request) {
+        final var cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (final var cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return System.currentTimeMillis() < Long.parseLong(cookie.getValue());
+                } catch (final NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+    public static final String MATCH_AGAINST_2 = "match_against_2";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1) against(?2 in boolean mode)")
+        );
+        metadataBuilder.applySqlFunction(
+                MATCH_AGAINST_2,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1, ?2) against(?3 in boolean mode)")
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class PublisherProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherProperties.class);
+
+    private boolean async;
+    private int queueCapacity;
+    private int batchSize;
+    private long confirmTimeout;
+    private long enqueueTimeout;
+    private int maxAttempts;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherProperties{" +
+                "async=" + async +
+                ", queueCapacity=" + queueCapacity +
+                ", batchSize=" + batchSize +
+                ", confirmTimeout=" + confirmTimeout +
+                ", enqueueTimeout=" + enqueueTimeout +
+                ", maxAttempts=" + maxAttempts +
+                '}';
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(long confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public long getEnqueueTimeout() {
+        return enqueueTimeout;
+    }
+
+    public void setEnqueueTimeout(long enqueueTimeout) {
+        this.enqueueTimeout = enqueueTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheProperties.class);
+
+    private final Spec reference = new Spec();
+
+    private final Spec videos = new Spec();
+
+    private final Spec lists = new Spec();
+
+    public CacheProperties() {
+    }
+
+    public Spec getReference() {
+        return reference;
+    }
+
+    public Spec getVideos() {
+        return videos;
+    }
+
+    public Spec getLists() {
+        return lists;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CacheProperties{" +
+                "reference=" + reference +
+                ", videos=" + videos +
+                ", lists=" + lists +
+                '}';
+    }
+
+    public static class Spec {
+
+        private long maxSize;
+
+        private Duration ttl;
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public String toString() {
+            return "Spec{" +
+                    "maxSize=" + maxSize +
+                    ", ttl=" + ttl +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReplicaProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private List<String> urls = new ArrayList<>();
+
+    private Duration readYourWritesWindow;
+
+    public ReplicaProperties() {
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "urls=" + urls +
+                ", readYourWritesWindow=" + readYourWritesWindow +
+                '}';
+    }
+}
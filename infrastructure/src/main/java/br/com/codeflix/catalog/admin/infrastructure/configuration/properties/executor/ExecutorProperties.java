@@ -0,0 +1,46 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExecutorProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorProperties.class);
+
+    private int poolSize;
+
+    private int queueCapacity;
+
+    public ExecutorProperties() {
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorProperties{" +
+                "poolSize=" + poolSize +
+                ", queueCapacity=" + queueCapacity +
+                '}';
+    }
+}
@@ -15,6 +15,9 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxDelay;
     private int retryMaxAttempts;
     private int retryMultiplier;
+    private boolean resumableUpload;
+    private int uploadChunkSize;
+    private int uploadMaxAttempts;
 
     public String getBucket() {
         return bucket;
@@ -72,6 +75,30 @@ public class GoogleStorageProperties implements InitializingBean {
         this.retryMultiplier = retryMultiplier;
     }
 
+    public boolean isResumableUpload() {
+        return resumableUpload;
+    }
+
+    public void setResumableUpload(boolean resumableUpload) {
+        this.resumableUpload = resumableUpload;
+    }
+
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public void setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
+    public int getUploadMaxAttempts() {
+        return uploadMaxAttempts;
+    }
+
+    public void setUploadMaxAttempts(int uploadMaxAttempts) {
+        this.uploadMaxAttempts = uploadMaxAttempts;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         log.debug(toString());
@@ -87,6 +114,9 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMultiplier=" + retryMultiplier +
+                ", resumableUpload=" + resumableUpload +
+                ", uploadChunkSize=" + uploadChunkSize +
+                ", uploadMaxAttempts=" + uploadMaxAttempts +
                 '}';
     }
 }
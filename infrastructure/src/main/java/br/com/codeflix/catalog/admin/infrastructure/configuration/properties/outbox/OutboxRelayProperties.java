@@ -0,0 +1,68 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxRelayProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayProperties.class);
+
+    private boolean enabled;
+
+    private int batchSize;
+
+    private long pollInterval;
+
+    private long claimTimeout;
+
+    public OutboxRelayProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(long claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxRelayProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", pollInterval=" + pollInterval +
+                ", claimTimeout=" + claimTimeout +
+                '}';
+    }
+}
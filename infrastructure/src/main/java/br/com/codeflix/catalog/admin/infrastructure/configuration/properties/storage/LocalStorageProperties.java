@@ -0,0 +1,46 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class LocalStorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalStorageProperties.class);
+
+    private String rootDirectory;
+
+    private int deleteBatchSize;
+
+    public LocalStorageProperties() {
+    }
+
+    public String getRootDirectory() {
+        return rootDirectory;
+    }
+
+    public void setRootDirectory(String rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    public int getDeleteBatchSize() {
+        return deleteBatchSize;
+    }
+
+    public void setDeleteBatchSize(int deleteBatchSize) {
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "LocalStorageProperties{" +
+                "rootDirectory='" + rootDirectory + '\'' +
+                ", deleteBatchSize=" + deleteBatchSize +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.security;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.header.HeaderWriterFilter;
+
+/**
+ * Has every security filter chain write its headers before the request is handled. By default they
+ * are written when the response commits or when the chain returns, whichever comes first; a
+ * streamed body commits the response on another thread while the chain is still returning, so both
+ * threads would write the headers into the same response at once.
+ */
+public class EagerSecurityHeaders implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof SecurityFilterChain chain) {
+            for (final var filter : chain.getFilters()) {
+                if (filter instanceof HeaderWriterFilter headers) {
+                    headers.setShouldWriteHeadersEagerly(true);
+                }
+            }
+        }
+        return bean;
+    }
+}
@@ -5,11 +5,15 @@ import br.com.codeflix.catalog.admin.application.castmember.create.DefaultCreate
 import br.com.codeflix.catalog.admin.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.delete.DeleteCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.DefaultGetCastMemberLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.ListCastMembersUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.update.UpdateCastMemberUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.BulkUpsertCastMemberUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.DefaultBulkUpsertCastMemberUseCase;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,6 +44,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
     }
 
+    @Bean
+    public GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase() {
+        return new DefaultGetCastMemberLastModifiedUseCase(castMemberGateway);
+    }
+
     @Bean
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(castMemberGateway);
@@ -49,4 +58,9 @@ public class CastMemberUseCaseConfig {
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
     }
+
+    @Bean
+    public BulkUpsertCastMemberUseCase bulkUpsertCastMemberUseCase() {
+        return new DefaultBulkUpsertCastMemberUseCase(castMemberGateway);
+    }
 }
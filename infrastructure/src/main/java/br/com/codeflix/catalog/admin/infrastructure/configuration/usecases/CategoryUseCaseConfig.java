@@ -5,11 +5,15 @@ import br.com.codeflix.catalog.admin.application.category.create.DefaultCreateCa
 import br.com.codeflix.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import br.com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.DefaultListCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import br.com.codeflix.catalog.admin.application.category.upsert.BulkUpsertCategoryUseCase;
+import br.com.codeflix.catalog.admin.application.category.upsert.DefaultBulkUpsertCategoryUseCase;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +37,11 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkUpsertCategoryUseCase bulkUpsertCategoryUseCase() {
+        return new DefaultBulkUpsertCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
@@ -43,6 +52,11 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase() {
+        return new DefaultGetCategoryLastModifiedUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoryUseCase listCategoryUseCase() {
         return new DefaultListCategoryUseCase(categoryGateway);
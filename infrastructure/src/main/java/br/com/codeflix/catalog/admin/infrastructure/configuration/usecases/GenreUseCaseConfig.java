@@ -5,11 +5,15 @@ import br.com.codeflix.catalog.admin.application.genre.create.DefaultCreateGenre
 import br.com.codeflix.catalog.admin.application.genre.delete.DefaultDeleteGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import br.com.codeflix.catalog.admin.application.genre.retrieve.get.DefaultGetGenreLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.DefaultListGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.update.DefaultUpdateGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.update.UpdateGenreUseCase;
+import br.com.codeflix.catalog.admin.application.genre.upsert.BulkUpsertGenreUseCase;
+import br.com.codeflix.catalog.admin.application.genre.upsert.DefaultBulkUpsertGenreUseCase;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +42,11 @@ public class GenreUseCaseConfig {
         return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public BulkUpsertGenreUseCase bulkUpsertGenreUseCase() {
+        return new DefaultBulkUpsertGenreUseCase(categoryGateway, genreGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
@@ -48,6 +57,11 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
 
+    @Bean
+    public GetGenreLastModifiedUseCase getGenreLastModifiedUseCase() {
+        return new DefaultGetGenreLastModifiedUseCase(genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(genreGateway);
@@ -1,17 +1,26 @@
 package br.com.codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.create.DefaultBulkCreateVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.create.DefaultCreateVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.delete.DefaultDeleteVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.get.DefaultGetMediaChecksumUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.get.DefaultGetMediaUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaChecksumUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.update.DefaultBatchUpdateMediaStatusUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.upload.DefaultUploadMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.DefaultGetVideoLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoLastModifiedUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.DefaultListVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.ListVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.update.DefaultUpdateVideoUseCase;
@@ -21,10 +30,14 @@ import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import br.com.codeflix.catalog.admin.domain.video.MediaResourceGateway;
 import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.MediaProcessingExecutor;
+import br.com.codeflix.catalog.admin.infrastructure.video.CachedGetVideoByIdUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class VideoUseCaseConfig {
@@ -34,24 +47,32 @@ public class VideoUseCaseConfig {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final ExecutorService mediaProcessingExecutor;
 
     public VideoUseCaseConfig(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            @MediaProcessingExecutor final ExecutorService mediaProcessingExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaProcessingExecutor = Objects.requireNonNull(mediaProcessingExecutor);
     }
 
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, mediaProcessingExecutor);
+    }
+
+    @Bean
+    public BulkCreateVideoUseCase bulkCreateVideoUseCase() {
+        return new DefaultBulkCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, videoGateway);
     }
 
     @Bean
@@ -60,8 +81,13 @@ public class VideoUseCaseConfig {
     }
 
     @Bean
-    public GetVideoByIdUseCase getVideoByIdUseCase() {
-        return new DefaultGetVideoByIdUseCase(videoGateway);
+    public GetVideoByIdUseCase getVideoByIdUseCase(final ReferenceCache<VideoOutput> videoCache) {
+        return new CachedGetVideoByIdUseCase(new DefaultGetVideoByIdUseCase(videoGateway), videoCache);
+    }
+
+    @Bean
+    public GetVideoLastModifiedUseCase getVideoLastModifiedUseCase() {
+        return new DefaultGetVideoLastModifiedUseCase(videoGateway);
     }
 
     @Bean
@@ -79,6 +105,11 @@ public class VideoUseCaseConfig {
         return new DefaultGetMediaUseCase(mediaResourceGateway);
     }
 
+    @Bean
+    public GetMediaChecksumUseCase getMediaChecksumUseCase() {
+        return new DefaultGetMediaChecksumUseCase(videoGateway);
+    }
+
     @Bean
     public UploadMediaUseCase uploadMediaUseCase() {
         return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
@@ -89,4 +120,9 @@ public class VideoUseCaseConfig {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
 
+    @Bean
+    public BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase() {
+        return new DefaultBatchUpdateMediaStatusUseCase(videoGateway);
+    }
+
 }
@@ -0,0 +1,111 @@
+package br.com.codeflix.catalog.admin.infrastructure.genre;
+
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.QueryKeys;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRE_LISTS;
+
+@Primary
+@Component
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreMySQLGateway genreGateway;
+    private final ReferenceCache<Genre> cache;
+    private final ReferenceCache<Pagination<Genre>> listCache;
+    private final ReferenceCacheInvalidator invalidator;
+
+    public CachedGenreGateway(
+            final GenreMySQLGateway genreGateway,
+            final ReferenceCache<Genre> cache,
+            final ReferenceCache<Pagination<Genre>> listCache,
+            final ReferenceCacheInvalidator invalidator
+    ) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.listCache = Objects.requireNonNull(listCache);
+        this.invalidator = Objects.requireNonNull(invalidator);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final var result = this.genreGateway.create(genre);
+        this.invalidator.invalidate(ReferenceDataChanged.all(GENRE_LISTS));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.genreGateway.deleteById(id);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(GENRES, List.of(id.getValue())),
+                ReferenceDataChanged.all(GENRE_LISTS)
+        );
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        return this.cache.get(id.getValue(), key -> this.genreGateway.findById(id));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID id) {
+        return this.genreGateway.findUpdatedAtById(id);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        final var result = this.genreGateway.update(genre);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(GENRES, List.of(result.getId().getValue())),
+                ReferenceDataChanged.all(GENRE_LISTS)
+        );
+        return result;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.listCache.get(QueryKeys.of(query), key -> Optional.of(this.genreGateway.findAll(query))).orElseThrow();
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(GenreID::getValue)
+                .toList();
+
+        return this.cache.existing(values, this::loadExisting).stream()
+                .map(GenreID::from)
+                .toList();
+    }
+
+    @Override
+    public void upsertAll(final List<Genre> genres) {
+        this.genreGateway.upsertAll(genres);
+        this.invalidator.invalidate(
+                ReferenceDataChanged.of(GENRES, genres.stream().map(genre -> genre.getId().getValue()).toList()),
+                ReferenceDataChanged.all(GENRE_LISTS)
+        );
+    }
+
+    private List<String> loadExisting(final List<String> ids) {
+        return this.genreGateway.existsByIds(ids.stream().map(GenreID::from).toList()).stream()
+                .map(GenreID::getValue)
+                .toList();
+    }
+}
@@ -1,32 +1,80 @@
 package br.com.codeflix.catalog.admin.infrastructure.genre;
 
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreCategoryID;
 import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils;
+import br.com.codeflix.catalog.admin.infrastructure.utils.KeysetUtils;
 import br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static br.com.codeflix.catalog.admin.infrastructure.utils.BatchUtils.timestamp;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String[] SEARCH_COLUMNS = {"name"};
+
+    // MySQL assigns left to right, so the guarded columns come before the ones the check reads;
+    // the leading parameter tells whether the genre's category links changed
+    private static final String CHANGED = """
+            ? OR NOT (name = VALUES(name)
+                AND active = VALUES(active)
+                AND (deleted_at = VALUES(deleted_at) OR deleted_at IS NULL AND (VALUES(deleted_at)) IS NULL))""";
+
+    private static final String UPSERT = """
+            INSERT INTO genres (id, name, active, created_at, updated_at, deleted_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, 0)
+            ON DUPLICATE KEY UPDATE
+                version = CASE WHEN %1$s THEN version + 1 ELSE version END,
+                updated_at = CASE WHEN %1$s THEN VALUES(updated_at) ELSE updated_at END,
+                name = VALUES(name),
+                active = VALUES(active),
+                deleted_at = VALUES(deleted_at)
+            """.formatted(CHANGED);
+
+    private static final String INSERT_LINK = "INSERT INTO genres_categories (genre_id, category_id) VALUES (?, ?)";
+
+    private static final String DELETE_LINK = "DELETE FROM genres_categories WHERE genre_id = ? AND category_id = ?";
+
     private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            @Value("${search.full-text:false}") final boolean fullTextSearch
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
@@ -49,30 +97,69 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    public Optional<Instant> findUpdatedAtById(final GenreID id) {
+        return this.genreRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre genre) {
-        return save(genre);
+        final var entity = this.genreRepository.findById(genre.getId().getValue()).orElse(null);
+        if (entity == null) {
+            return save(genre);
+        }
+        if (entity.getVersion() != genre.getVersion()) {
+            throw ConflictException.with(Genre.class, genre.getId());
+        }
+
+        entity.update(genre);
+
+        try {
+            this.entityManager.flush();
+        } catch (final OptimisticLockException ex) {
+            throw ConflictException.with(Genre.class, genre.getId());
+        }
+
+        return entity.toAggregate();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(final SearchQuery query) {
+        final var whereClause = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (query.isCursorBased()) {
+            return findAfter(query, where(whereClause));
+        }
+
+        final var byRelevance = SpecificationUtils.RELEVANCE.equals(query.sort());
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                byRelevance ? Sort.unsorted() : KeysetUtils.sortOf(query.sort(), query.direction())
         );
+        final var filter = byRelevance
+                ? where(whereClause).and(SpecificationUtils.orderByRelevance(this.fullTextSearch ? query.terms() : null, SEARCH_COLUMNS))
+                : where(whereClause);
 
-        final var whereClause = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        if (!query.withTotal()) {
+            return findSlice(query, filter, page);
+        }
 
-        final var pageResult = this.genreRepository.findAll(where(whereClause), page);
+        final var pageResult = this.genreRepository.findAll(filter, page);
+        final var nextCursor = pageResult.hasNext()
+                ? KeysetUtils.nextCursor(pageResult.getContent().get(pageResult.getNumberOfElements() - 1), query.sort())
+                : null;
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                pageResult.map(GenreJpaEntity::toAggregate).toList(),
+                nextCursor
         );
     }
 
@@ -86,11 +173,98 @@ public class GenreMySQLGateway implements GenreGateway {
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public void upsertAll(final List<Genre> genres) {
+        // links are reconciled as sets, so untouched pairs are neither deleted nor inserted again
+        final var ids = genres.stream().map(genre -> genre.getId().getValue()).toList();
+        final var current = new HashSet<>(this.genreRepository.findCategoryLinks(ids));
+        final var desired = genres.stream()
+                .flatMap(genre -> genre.getCategories().stream()
+                        .map(category -> GenreCategoryID.from(genre.getId().getValue(), category.getValue())))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final var removed = current.stream().filter(link -> !desired.contains(link)).toList();
+        final var added = desired.stream().filter(link -> !current.contains(link)).toList();
+        final var relinked = Stream.concat(removed.stream(), added.stream())
+                .map(GenreCategoryID::getGenreId)
+                .collect(Collectors.toSet());
+
+        BatchUtils.batchUpdate(this.entityManager, UPSERT, genres, (statement, genre) -> {
+            final var linksChanged = relinked.contains(genre.getId().getValue());
+            statement.setString(1, genre.getId().getValue());
+            statement.setString(2, genre.getName());
+            statement.setBoolean(3, genre.isActive());
+            statement.setTimestamp(4, timestamp(genre.getCreatedAt()));
+            statement.setTimestamp(5, timestamp(genre.getUpdatedAt()));
+            statement.setTimestamp(6, timestamp(genre.getDeletedAt()));
+            statement.setBoolean(7, linksChanged);
+            statement.setBoolean(8, linksChanged);
+        });
+
+        BatchUtils.batchUpdate(this.entityManager, DELETE_LINK, removed, GenreMySQLGateway::bindLink);
+        BatchUtils.batchUpdate(this.entityManager, INSERT_LINK, added, GenreMySQLGateway::bindLink);
+    }
+
+    private static void bindLink(final PreparedStatement statement, final GenreCategoryID link) throws SQLException {
+        statement.setString(1, link.getGenreId());
+        statement.setString(2, link.getCategoryId());
+    }
+
+    private Pagination<Genre> findSlice(
+            final SearchQuery query,
+            final Specification<GenreJpaEntity> filter,
+            final PageRequest page
+    ) {
+        final var rows = KeysetUtils.slice(
+                this.entityManager,
+                GenreJpaEntity.class,
+                filter,
+                page.getSort(),
+                page.getOffset(),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                Pagination.UNKNOWN_TOTAL,
+                window.items().stream().map(GenreJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
+    private Pagination<Genre> findAfter(final SearchQuery query, final Specification<GenreJpaEntity> whereClause) {
+        final var rows = KeysetUtils.seek(
+                this.entityManager,
+                GenreJpaEntity.class,
+                whereClause,
+                query.sort(),
+                query.direction(),
+                KeysetUtils.decode(query.cursor()),
+                query.perPage() + 1
+        );
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+        final var total = query.withTotal() ? this.genreRepository.count(whereClause) : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                total,
+                window.items().stream().map(GenreJpaEntity::toAggregate).toList(),
+                window.nextCursor()
+        );
+    }
+
     private Genre save(final Genre genre) {
         return this.genreRepository.save(GenreJpaEntity.from(genre)).toAggregate();
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
+        if (this.fullTextSearch) {
+            return SpecificationUtils.match(terms, SEARCH_COLUMNS);
+        }
         return SpecificationUtils.like("name", terms);
     }
 }
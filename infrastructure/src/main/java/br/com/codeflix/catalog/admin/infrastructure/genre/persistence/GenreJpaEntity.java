@@ -38,10 +38,14 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public GenreJpaEntity() {}
 
     private GenreJpaEntity(final String id, final String name, final boolean isActive, final Instant createdAt,
-                          final Instant updatedAt, final Instant deletedAt) {
+                          final Instant updatedAt, final Instant deletedAt, final long version) {
         this.id = id;
         this.name = name;
         this.active = isActive;
@@ -49,6 +53,7 @@ public class GenreJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static GenreJpaEntity from(final Genre genre) {
@@ -58,13 +63,29 @@ public class GenreJpaEntity {
                 genre.isActive(),
                 genre.getCreatedAt(),
                 genre.getUpdatedAt(),
-                genre.getDeletedAt()
+                genre.getDeletedAt(),
+                genre.getVersion()
         );
         genre.getCategories().forEach(entity::addCategory);
 
         return entity;
     }
 
+    public GenreJpaEntity update(final Genre genre) {
+        this.name = genre.getName();
+        this.active = genre.isActive();
+        this.updatedAt = genre.getUpdatedAt();
+        this.deletedAt = genre.getDeletedAt();
+
+        final var expected = new HashSet<>(genre.getCategories());
+        getCategoriesIDs().stream()
+                .filter(id -> !expected.remove(id))
+                .forEach(this::removeCategory);
+        expected.forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreID.from(getId()),
@@ -73,7 +94,8 @@ public class GenreJpaEntity {
                 getCategoriesIDs(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
@@ -146,4 +168,12 @@ public class GenreJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,7 +1,9 @@
 package br.com.codeflix.catalog.admin.infrastructure.genre.presenters;
 
+import br.com.codeflix.catalog.admin.application.genre.upsert.BulkUpsertGenreOutput;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.BulkUpsertGenreResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreListResponse;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.GenreResponse;
 
@@ -28,4 +30,8 @@ public interface GenreApiPresenter {
                 output.deletedAt()
         );
     }
-}
\ No newline at end of file
+
+    static BulkUpsertGenreResponse present(final BulkUpsertGenreOutput output) {
+        return new BulkUpsertGenreResponse(output.id(), output.errors());
+    }
+}
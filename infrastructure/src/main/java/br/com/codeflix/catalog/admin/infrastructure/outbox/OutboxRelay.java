@@ -0,0 +1,136 @@
+package br.com.codeflix.catalog.admin.infrastructure.outbox;
+
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, EventService> publishers;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    public OutboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final Map<String, EventService> publishers,
+            final TransactionOperations transactionOperations,
+            final int batchSize,
+            final Duration claimTimeout
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        if (claimTimeout.isNegative() || claimTimeout.isZero()) {
+            throw new IllegalArgumentException("'claimTimeout' must be greater than zero");
+        }
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.publishers = Map.copyOf(publishers);
+        this.transactionOperations = Objects.requireNonNull(transactionOperations);
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+    }
+
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relay();
+        } while (relayed == this.batchSize);
+    }
+
+    /**
+     * Claims the next batch in a short transaction and publishes it outside of it,
+     * so the broker round trips never hold row locks.
+     *
+     * @return how many events left the outbox, sent or dead-lettered
+     */
+    public int relay() {
+        final var batch = claimNextBatch();
+        final var claimed = batch.stream().filter(it -> it.getDeadLetteredAt() == null).toList();
+
+        int sent = 0;
+        for (; sent < claimed.size(); sent++) {
+            final var event = claimed.get(sent);
+            try {
+                this.publishers.get(event.getDestination()).send(new RawEvent(event.getPayload()));
+            } catch (final RuntimeException ex) {
+                // keeps ordering: the failed event and everything after it are released for the next poll
+                log.warn("[message:outbox.relay.failed] [id:{}] [destination:{}] [cause:{}]",
+                        event.getId(), event.getDestination(), ex.getMessage());
+                break;
+            }
+        }
+
+        complete(claimed.subList(0, sent), claimed.subList(sent, claimed.size()));
+
+        final var relayed = sent + batch.size() - claimed.size();
+        if (relayed > 0) {
+            log.debug("[message:outbox.relay.batch] [size:{}]", relayed);
+        }
+        return relayed;
+    }
+
+    private List<OutboxEventJpaEntity> claimNextBatch() {
+        final var batch = this.transactionOperations.execute(status -> {
+            final var now = InstantUtils.now();
+            final var events = this.outboxEventRepository.findNextBatch(now, PageRequest.of(0, this.batchSize));
+
+            for (final var event : events) {
+                if (this.publishers.containsKey(event.getDestination())) {
+                    event.setClaimedUntil(now.plus(this.claimTimeout));
+                } else {
+                    // no publisher will ever take it, so it is parked instead of blocking everything behind it
+                    log.error("[message:outbox.relay.dead_lettered] [id:{}] [destination:{}]",
+                            event.getId(), event.getDestination());
+                    event.setDeadLetteredAt(now);
+                    event.setFailure("No publisher for outbox destination: " + event.getDestination());
+                }
+            }
+            return events;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    private void complete(final List<OutboxEventJpaEntity> sent, final List<OutboxEventJpaEntity> unsent) {
+        if (sent.isEmpty() && unsent.isEmpty()) {
+            return;
+        }
+
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.outboxEventRepository.deleteAllInBatch(sent);
+            if (!unsent.isEmpty()) {
+                this.outboxEventRepository.release(unsent.stream().map(OutboxEventJpaEntity::getId).toList());
+            }
+        });
+    }
+
+    static final class RawEvent {
+
+        private final String payload;
+
+        RawEvent(final String payload) {
+            this.payload = payload;
+        }
+
+        @JsonValue
+        @JsonRawValue
+        String payload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.codeflix.catalog.admin.infrastructure.outbox.persistence;
+
+import br.com.codeflix.catalog.admin.domain.utils.IdUtils;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "events_outbox")
+public class OutboxEventJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "destination", nullable = false)
+    private String destination;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "claimed_until", columnDefinition = "DATETIME(6)")
+    private Instant claimedUntil;
+
+    @Column(name = "dead_lettered_at", columnDefinition = "DATETIME(6)")
+    private Instant deadLetteredAt;
+
+    @Column(name = "failure")
+    private String failure;
+
+    public OutboxEventJpaEntity() {}
+
+    private OutboxEventJpaEntity(
+            final String id,
+            final String destination,
+            final String eventType,
+            final String payload,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.destination = destination;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity with(final String destination, final String eventType, final String payload) {
+        return new OutboxEventJpaEntity(IdUtils.uuid(), destination, eventType, payload, InstantUtils.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public Instant getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+
+    public void setDeadLetteredAt(Instant deadLetteredAt) {
+        this.deadLetteredAt = deadLetteredAt;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.codeflix.catalog.admin.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    // the row locks only last until the claim commits, concurrent relays then skip the claimed rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from OutboxEvent e
+            where e.deadLetteredAt is null and (e.claimedUntil is null or e.claimedUntil < :now)
+            order by e.createdAt, e.id
+            """)
+    List<OutboxEventJpaEntity> findNextBatch(@Param("now") Instant now, Pageable page);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = null where e.id in :ids")
+    int release(@Param("ids") Collection<String> ids);
+}
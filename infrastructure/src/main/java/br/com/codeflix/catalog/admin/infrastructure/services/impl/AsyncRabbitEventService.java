@@ -0,0 +1,188 @@
+package br.com.codeflix.catalog.admin.infrastructure.services.impl;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncRabbitEventService implements EventService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncRabbitEventService.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final String exchange;
+    private final String routingKey;
+    private final RabbitOperations operations;
+    private final BlockingQueue<PendingEvent> backlog;
+    private final int batchSize;
+    private final long confirmTimeout;
+    private final long enqueueTimeout;
+    private final int maxAttempts;
+    private final Timer publishLatency;
+    private final Counter publishFailures;
+    private final Thread publisher;
+
+    private volatile boolean running = true;
+
+    public AsyncRabbitEventService(
+            final String exchange,
+            final String routingKey,
+            final RabbitOperations operations,
+            final int queueCapacity,
+            final int batchSize,
+            final long confirmTimeout,
+            final long enqueueTimeout,
+            final int maxAttempts,
+            final MeterRegistry meterRegistry
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.operations = Objects.requireNonNull(operations);
+        this.backlog = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.enqueueTimeout = enqueueTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.publishLatency = Timer.builder("events.rabbit.publish.latency")
+                .tag("exchange", exchange)
+                .tag("routing_key", routingKey)
+                .register(meterRegistry);
+        this.publishFailures = Counter.builder("events.rabbit.publish.failures")
+                .tag("exchange", exchange)
+                .tag("routing_key", routingKey)
+                .register(meterRegistry);
+        Gauge.builder("events.rabbit.publish.backlog", this.backlog, BlockingQueue::size)
+                .tag("exchange", exchange)
+                .tag("routing_key", routingKey)
+                .register(meterRegistry);
+
+        this.publisher = new Thread(this::publishLoop, "rabbit-publisher-" + routingKey);
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+    }
+
+    @Override
+    public void send(final Object event) {
+        if (!this.running) {
+            throw new IllegalStateException("Publisher for '%s' is shutting down".formatted(this.routingKey));
+        }
+
+        try {
+            if (!this.backlog.offer(new PendingEvent(event, System.nanoTime()), this.enqueueTimeout, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Publisher backlog for '%s' is full".formatted(this.routingKey));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enqueueing event", ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        this.running = false;
+        this.publisher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (this.publisher.isAlive()) {
+            this.publisher.interrupt();
+        }
+        if (!this.backlog.isEmpty()) {
+            log.warn("[message:rabbit.publish.dropped] [routing_key:{}] [size:{}]", this.routingKey, this.backlog.size());
+        }
+    }
+
+    private void publishLoop() {
+        final var batch = new ArrayList<PendingEvent>(this.batchSize);
+
+        while (this.running || !this.backlog.isEmpty()) {
+            try {
+                final var first = this.backlog.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.backlog.drainTo(batch, this.batchSize - 1);
+
+                publish(batch);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException ex) {
+                // the batch is lost but the thread must outlive it, or every later send would pile up unpublished
+                this.publishFailures.increment(batch.size());
+                log.error("[message:rabbit.publish.dropped] [routing_key:{}] [size:{}] [cause:{}]",
+                        this.routingKey, batch.size(), ex.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(final List<PendingEvent> batch) throws InterruptedException {
+        final var messages = serialize(batch);
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= this.maxAttempts; attempt++) {
+            try {
+                // one channel per batch; the confirm wait bounds the unconfirmed window to the batch size
+                this.operations.invoke(ops -> {
+                    messages.forEach(message -> ops.convertAndSend(this.exchange, this.routingKey, message));
+                    ops.waitForConfirmsOrDie(this.confirmTimeout);
+                    return null;
+                });
+
+                final var now = System.nanoTime();
+                batch.forEach(pending -> this.publishLatency.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+                return;
+            } catch (final RuntimeException ex) {
+                log.warn("[message:rabbit.publish.failed] [routing_key:{}] [size:{}] [attempt:{}] [cause:{}]",
+                        this.routingKey, batch.size(), attempt, ex.getMessage());
+                if (attempt < this.maxAttempts) {
+                    TimeUnit.MILLISECONDS.sleep(100L * attempt);
+                }
+            }
+        }
+
+        this.publishFailures.increment(batch.size());
+        log.error("[message:rabbit.publish.dropped] [routing_key:{}] [size:{}]", this.routingKey, batch.size());
+    }
+
+    // an event that cannot be serialized never will be, so it is dropped alone instead of failing its batch
+    private List<String> serialize(final List<PendingEvent> batch) {
+        final var messages = new ArrayList<String>(batch.size());
+        final var pendings = batch.iterator();
+        while (pendings.hasNext()) {
+            final var pending = pendings.next();
+            try {
+                messages.add(Json.writeValueAsString(pending.event()));
+            } catch (final RuntimeException ex) {
+                pendings.remove();
+                this.publishFailures.increment();
+                log.error("[message:rabbit.publish.unserializable] [routing_key:{}] [event:{}] [cause:{}]",
+                        this.routingKey, pending.event().getClass().getName(), ex.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    private record PendingEvent(Object event, long enqueuedAt) {
+    }
+}
@@ -1,41 +1,116 @@
 package br.com.codeflix.catalog.admin.infrastructure.services.impl;
 
+import br.com.codeflix.catalog.admin.domain.resource.ContentSource;
 import br.com.codeflix.catalog.admin.domain.resource.Resource;
 import br.com.codeflix.catalog.admin.infrastructure.services.StorageService;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Ints;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.StreamSupport;
 
 public class GoogleCloudStorageService implements StorageService {
 
+    private static final Logger log = LoggerFactory.getLogger(GoogleCloudStorageService.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final Duration CHECKPOINT_TTL = Duration.ofHours(24);
+    private static final long MAX_CHECKPOINTS = 1_000;
+
     private final String bucket;
     private final Storage storage;
+    private final boolean resumable;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Cache<String, UploadCheckpoint> checkpoints;
+    private final Timer chunkLatency;
+    private final DistributionSummary chunkThroughput;
 
     public GoogleCloudStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, false, DEFAULT_CHUNK_SIZE, 1, new SimpleMeterRegistry());
+    }
+
+    public GoogleCloudStorageService(
+            final String bucket,
+            final Storage storage,
+            final boolean resumable,
+            final int chunkSize,
+            final int maxAttempts,
+            final MeterRegistry meterRegistry
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
         this.bucket = bucket;
         this.storage = storage;
+        this.resumable = resumable;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.checkpoints = CacheBuilder.newBuilder()
+                .expireAfterWrite(CHECKPOINT_TTL)
+                .maximumSize(MAX_CHECKPOINTS)
+                .build();
+        this.chunkLatency = Timer.builder("storage.gcs.upload.chunk.latency")
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+        this.chunkThroughput = DistributionSummary.builder("storage.gcs.upload.chunk.throughput")
+                .baseUnit("bytes_per_second")
+                .tag("bucket", bucket)
+                .register(meterRegistry);
     }
 
     @Override
     public void store(final String id, final Resource resource) {
         final var info = BlobInfo.newBuilder(this.bucket, id)
                 .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
+                .setCrc32c(crc32cOf(resource.checksum()))
                 .build();
 
-        this.storage.create(info, resource.content());
+        if (this.resumable) {
+            storeResumable(info, resource);
+            return;
+        }
+
+        try (final var content = resource.openStream()) {
+            this.storage.createFrom(info, content);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
-                        blob.getContent(),
-                        blob.getCrc32cToHexString(),
+                        new BlobContentSource(this.storage, blob.getBlobId()),
+                        blob.getSize(),
+                        checksumOf(blob.getCrc32c()),
                         blob.getContentType(),
                         blob.getName()
                 ));
@@ -63,4 +138,130 @@ public class GoogleCloudStorageService implements StorageService {
 
         this.storage.delete(blobs);
     }
+
+    private void storeResumable(final BlobInfo info, final Resource resource) {
+        final var key = checkpointKey(info, resource);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                upload(key, info, resource);
+                this.checkpoints.invalidate(key);
+                return;
+            } catch (final IOException | StorageException ex) {
+                final var checkpoint = this.checkpoints.getIfPresent(key);
+                final var offset = checkpoint != null ? checkpoint.offset() : 0;
+
+                if (attempt >= this.maxAttempts) {
+                    log.error("[message:storage.upload.failed] [blob:{}] [attempt:{}] [offset:{}]", info.getName(), attempt, offset, ex);
+                    throw ex instanceof IOException io ? new UncheckedIOException(io) : (StorageException) ex;
+                }
+
+                log.warn("[message:storage.upload.interrupted] [blob:{}] [attempt:{}] [offset:{}] [cause:{}]", info.getName(), attempt, offset, ex.getMessage());
+            }
+        }
+    }
+
+    private void upload(final String key, final BlobInfo info, final Resource resource) throws IOException {
+        final var checkpoint = this.checkpoints.getIfPresent(key);
+
+        final WriteChannel channel;
+        long offset;
+        if (checkpoint != null) {
+            channel = checkpoint.state().restore();
+            offset = checkpoint.offset();
+        } else {
+            // GCS checks the finished object against the declared crc32c, when there is one
+            channel = info.getCrc32c() != null
+                    ? this.storage.writer(info, Storage.BlobWriteOption.crc32cMatch())
+                    : this.storage.writer(info);
+            offset = 0;
+        }
+        channel.setChunkSize(this.chunkSize);
+
+        try (final var in = resource.openStream()) {
+            in.skipNBytes(offset);
+
+            final var chunk = new byte[this.chunkSize];
+            int read;
+            while ((read = in.readNBytes(chunk, 0, this.chunkSize)) > 0) {
+                final var start = System.nanoTime();
+
+                final var buffer = ByteBuffer.wrap(chunk, 0, read);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                offset += read;
+                this.checkpoints.put(key, new UploadCheckpoint(channel.capture(), offset));
+                record(info, read, offset, System.nanoTime() - start);
+            }
+        }
+
+        // closing finalizes the object, so an interrupted upload must leave the session open to be resumed
+        channel.close();
+    }
+
+    private void record(final BlobInfo info, final int bytes, final long offset, final long elapsedNanos) {
+        this.chunkLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        final var bytesPerSecond = elapsedNanos > 0 ? bytes * 1_000_000_000d / elapsedNanos : 0d;
+        this.chunkThroughput.record(bytesPerSecond);
+
+        log.debug("[message:storage.upload.chunk] [blob:{}] [bytes:{}] [offset:{}] [latency_ms:{}] [throughput_bps:{}]",
+                info.getName(), bytes, offset, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), (long) bytesPerSecond);
+    }
+
+    // Guava prints a crc32c in little-endian byte order, GCS takes the big-endian value in base64
+    static String crc32cOf(final String checksum) {
+        final HashCode hash;
+        try {
+            hash = HashCode.fromString(checksum);
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+        return hash.bits() == Integer.SIZE ? BaseEncoding.base64().encode(Ints.toByteArray(hash.asInt())) : null;
+    }
+
+    static String checksumOf(final String crc32c) {
+        return HashCode.fromInt(Ints.fromByteArray(BaseEncoding.base64().decode(crc32c))).toString();
+    }
+
+    private static String checkpointKey(final BlobInfo info, final Resource resource) {
+        return info.getName() + ":" + resource.checksum() + ":" + resource.size();
+    }
+
+    private record UploadCheckpoint(RestorableState<WriteChannel> state, long offset) {
+    }
+
+    private record BlobContentSource(Storage storage, BlobId blobId) implements ContentSource {
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return openStream(0);
+        }
+
+        @Override
+        public InputStream openStream(final long position) throws IOException {
+            return Channels.newInputStream(reader(position));
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var reader = reader(position)) {
+                reader.limit(position + count);
+                return ByteStreams.copy(reader, target);
+            }
+        }
+
+        private ReadChannel reader(final long position) throws IOException {
+            final var reader = this.storage.reader(this.blobId);
+            try {
+                reader.seek(position);
+                return reader;
+            } catch (final IOException ex) {
+                reader.close();
+                throw ex;
+            }
+        }
+    }
 }
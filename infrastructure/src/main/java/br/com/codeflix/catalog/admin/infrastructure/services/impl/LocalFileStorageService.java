@@ -0,0 +1,352 @@
+package br.com.codeflix.catalog.admin.infrastructure.services.impl;
+
+import br.com.codeflix.catalog.admin.domain.resource.ContentSource;
+import br.com.codeflix.catalog.admin.domain.resource.Resource;
+import br.com.codeflix.catalog.admin.infrastructure.services.StorageService;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Each stored file starts with a length-prefixed metadata header followed by the content,
+ * so a single atomic rename publishes both and a reader never pairs new content with old metadata.
+ */
+public class LocalFileStorageService implements StorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFileStorageService.class);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+    private static final String VERSION = "version";
+    private static final int MAX_HEADER_SIZE = 64 * 1024;
+    private static final int DEFAULT_DELETE_BATCH_SIZE = 100;
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final Path root;
+    private final int deleteBatchSize;
+
+    public LocalFileStorageService(final Path root) {
+        this(root, DEFAULT_DELETE_BATCH_SIZE);
+    }
+
+    public LocalFileStorageService(final Path root, final int deleteBatchSize) {
+        if (deleteBatchSize <= 0) {
+            throw new IllegalArgumentException("'deleteBatchSize' must be greater than zero");
+        }
+        this.root = root.toAbsolutePath().normalize();
+        this.deleteBatchSize = deleteBatchSize;
+
+        try {
+            Files.createDirectories(this.root);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        final var target = resolve(id);
+
+        try {
+            Files.createDirectories(target.getParent());
+            writeAtomically(target, channel -> writeContent(channel, writeHeader(channel, resource), resource));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var target = resolve(id);
+
+        try (final var channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            final var header = readHeader(channel, target);
+            final var metadata = header.metadata();
+
+            return Optional.of(Resource.with(
+                    new FileContentSource(target, metadata.getProperty(VERSION)),
+                    channel.size() - header.offset(),
+                    metadata.getProperty(CHECKSUM),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME)
+            ));
+        } catch (final NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var base = resolve(prefix.isEmpty() ? "." : prefix);
+        final var directory = prefix.isEmpty() || prefix.endsWith("/") ? base : base.getParent();
+        final var namePrefix = directory.equals(base) ? "" : base.getFileName().toString();
+
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        final var ids = new ArrayList<String>();
+        try (final var entries = Files.newDirectoryStream(directory, it -> it.getFileName().toString().startsWith(namePrefix))) {
+            for (final var entry : entries) {
+                try (final var files = Files.walk(entry)) {
+                    files.filter(Files::isRegularFile)
+                            .filter(it -> !isInternal(it))
+                            .map(this::idOf)
+                            .filter(it -> it.startsWith(prefix))
+                            .forEach(ids::add);
+                }
+            }
+        } catch (final NoSuchFileException ex) {
+            return List.of();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return ids;
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        for (final var batch : Lists.partition(ids, this.deleteBatchSize)) {
+            final Set<Path> directories = new HashSet<>();
+
+            try {
+                for (final var id : batch) {
+                    final var target = resolve(id);
+                    Files.deleteIfExists(target);
+                    directories.add(target.getParent());
+                }
+                directories.forEach(this::pruneEmptyDirectories);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            log.debug("[message:storage.delete.batch] [size:{}] [directories:{}]", batch.size(), directories.size());
+        }
+    }
+
+    private Path resolve(final String id) {
+        final var path = this.root.resolve(id).normalize();
+        if (!path.startsWith(this.root)) {
+            throw new IllegalArgumentException("'id' must resolve inside the storage root: " + id);
+        }
+        return path;
+    }
+
+    private String idOf(final Path path) {
+        return this.root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private void writeAtomically(final Path target, final ChannelWriter writer) throws IOException {
+        final var temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), TEMP_SUFFIX);
+        try {
+            try (final var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                channel.force(true);
+            }
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void pruneEmptyDirectories(final Path directory) {
+        var current = directory;
+        while (current != null && !current.equals(this.root)) {
+            try {
+                Files.deleteIfExists(current);
+            } catch (final DirectoryNotEmptyException ex) {
+                return;
+            } catch (final IOException ex) {
+                log.warn("[message:storage.delete.prune_failed] [directory:{}] [cause:{}]", current, ex.getMessage());
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    private static void writeContent(final FileChannel channel, final long offset, final Resource resource) throws IOException {
+        long written = 0;
+        try (final var source = resource.openChannel()) {
+            long transferred;
+            while ((transferred = channel.transferFrom(source, offset + written, TRANSFER_CHUNK_SIZE)) > 0) {
+                written += transferred;
+            }
+        }
+
+        if (written != resource.size()) {
+            throw new IOException("Expected %d bytes for '%s' but read %d".formatted(resource.size(), resource.name(), written));
+        }
+    }
+
+    // returns where the content starts
+    private static long writeHeader(final FileChannel channel, final Resource resource) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CHECKSUM, resource.checksum());
+        metadata.setProperty(CONTENT_TYPE, resource.contentType());
+        metadata.setProperty(NAME, resource.name());
+        metadata.setProperty(VERSION, UUID.randomUUID().toString());
+
+        final var out = new ByteArrayOutputStream();
+        metadata.store(out, null);
+
+        final var buffer = ByteBuffer.allocate(Integer.BYTES + out.size())
+                .putInt(out.size())
+                .put(out.toByteArray())
+                .flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return buffer.limit();
+    }
+
+    private static Header readHeader(final FileChannel channel, final Path path) throws IOException {
+        final var length = readFully(channel, 0, Integer.BYTES, path).getInt();
+        if (length <= 0 || length > MAX_HEADER_SIZE) {
+            throw new IOException("Invalid metadata header in '%s'".formatted(path));
+        }
+
+        final var metadata = new Properties();
+        metadata.load(new ByteArrayInputStream(readFully(channel, Integer.BYTES, length, path).array()));
+        return new Header(metadata, Integer.BYTES + length);
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final long position, final int length, final Path path) throws IOException {
+        final var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated metadata header in '%s'".formatted(path));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean isInternal(final Path path) {
+        return path.getFileName().toString().endsWith(TEMP_SUFFIX);
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    private record Header(Properties metadata, long offset) {
+    }
+
+    // bound to the version read by get(), a file replaced since then fails instead of serving other content
+    private record FileContentSource(Path path, String version) implements ContentSource {
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return openStream(0);
+        }
+
+        @Override
+        public InputStream openStream(final long position) throws IOException {
+            final var channel = FileChannel.open(this.path, StandardOpenOption.READ);
+            try {
+                channel.position(contentOffset(channel) + position);
+                return Channels.newInputStream(channel);
+            } catch (final IOException ex) {
+                channel.close();
+                throw ex;
+            }
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                final var start = contentOffset(channel) + position;
+                // sockets and files take the sendfile path; anything else is fed from mapped windows to skip the heap copy
+                return target instanceof FileChannel || target instanceof SelectableChannel
+                        ? transferDirectly(channel, start, count, target)
+                        : transferMapped(channel, start, count, target);
+            }
+        }
+
+        private long contentOffset(final FileChannel channel) throws IOException {
+            final var header = readHeader(channel, this.path);
+            if (!this.version.equals(header.metadata().getProperty(VERSION))) {
+                throw new IOException("'%s' was replaced while being read".formatted(this.path));
+            }
+            return header.offset();
+        }
+
+        private static long transferDirectly(
+                final FileChannel channel,
+                final long position,
+                final long count,
+                final WritableByteChannel target
+        ) throws IOException {
+            long transferred = 0;
+            while (transferred < count) {
+                final var written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred += written;
+            }
+            return transferred;
+        }
+
+        private static long transferMapped(
+                final FileChannel channel,
+                final long position,
+                final long count,
+                final WritableByteChannel target
+        ) throws IOException {
+            final var end = Math.min(position + count, channel.size());
+
+            long current = position;
+            while (current < end) {
+                final var window = channel.map(FileChannel.MapMode.READ_ONLY, current, Math.min(TRANSFER_CHUNK_SIZE, end - current));
+                while (window.hasRemaining()) {
+                    target.write(window);
+                }
+                current += window.capacity();
+            }
+            return current - position;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.codeflix.catalog.admin.infrastructure.services.impl;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+public class OutboxEventService implements EventService {
+
+    private final String destination;
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxEventService(final String destination, final OutboxEventRepository outboxEventRepository) {
+        this.destination = Objects.requireNonNull(destination);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(final Object event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.with(
+                this.destination,
+                event.getClass().getName(),
+                Json.writeValueAsString(event)
+        ));
+    }
+}
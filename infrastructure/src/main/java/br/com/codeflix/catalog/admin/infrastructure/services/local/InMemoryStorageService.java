@@ -26,7 +26,7 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(final String id, final Resource resource) {
-        this.storage.put(id, resource);
+        this.storage.put(id, resource.buffered());
     }
 
     @Override
@@ -0,0 +1,75 @@
+package br.com.codeflix.catalog.admin.infrastructure.utils;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+
+public final class BatchUtils {
+
+    private BatchUtils() {
+    }
+
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * Runs the statement once per row on the connection of the current transaction, sending the rows
+     * in JDBC batches of the configured {@code hibernate.jdbc.batch_size}.
+     */
+    public static <T> void batchUpdate(
+            final EntityManager entityManager,
+            final String sql,
+            final Collection<T> rows,
+            final Binder<T> binder
+    ) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        final var session = entityManager.unwrap(Session.class);
+        final var batchSize = batchSize(session);
+
+        // pending entity writes must reach the database before statements that bypass the session
+        session.flush();
+
+        session.doWork(connection -> {
+            try (final var statement = connection.prepareStatement(sql)) {
+                var pending = 0;
+                for (final var row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    public static Timestamp timestamp(final Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static int batchSize(final Session session) {
+        final var sessionBatchSize = session.getJdbcBatchSize();
+        if (sessionBatchSize != null && sessionBatchSize > 0) {
+            return sessionBatchSize;
+        }
+        final var factoryBatchSize = ((SessionFactoryImplementor) session.getSessionFactory())
+                .getSessionFactoryOptions()
+                .getJdbcBatchSize();
+        return Math.max(1, factoryBatchSize);
+    }
+}
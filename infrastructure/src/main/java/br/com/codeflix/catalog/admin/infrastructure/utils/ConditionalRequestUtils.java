@@ -0,0 +1,112 @@
+package br.com.codeflix.catalog.admin.infrastructure.utils;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+public final class ConditionalRequestUtils {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ConditionalRequestUtils() {}
+
+    /**
+     * Tags a representation by the updatedAt it was rendered from. The tag is strong: a given updatedAt
+     * always renders the same bytes, and If-Match (RFC 9110, 13.1.1) only accepts strong tags.
+     */
+    public static String strongETag(final Instant updatedAt) {
+        return "\"%d\"".formatted(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt));
+    }
+
+    public static String strongETag(final String checksum) {
+        return "\"%s\"".formatted(checksum);
+    }
+
+    public static boolean isConditional(final String ifNoneMatch, final String ifModifiedSince) {
+        return ifNoneMatch != null || ifModifiedSince != null;
+    }
+
+    public static boolean isNotModified(
+            final String ifNoneMatch,
+            final String ifModifiedSince,
+            final String etag,
+            final Instant lastModified
+    ) {
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, etag);
+        }
+
+        if (ifModifiedSince != null && lastModified != null) {
+            final var since = parseDate(ifModifiedSince);
+            return since != null && !lastModified.truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+        }
+
+        return false;
+    }
+
+    /**
+     * Parses an If-Match tag back into the updatedAt it was issued for.
+     * <p>
+     * Tags are derived from updatedAt, not from the version column. Every write path (aggregate saves,
+     * media status touches, bulk upserts) moves both together, so at microsecond resolution the tag
+     * changes exactly when the version does, and conditional GETs keep sharing the single-column
+     * updatedAt lookup with Last-Modified. The version column still guards the window between the use
+     * case's read and its write.
+     * <p>
+     * If-Match uses the strong comparison, so a weak tag never matches and fails the precondition.
+     *
+     * @return null when there is no precondition, {@link Instant#MIN} for a weak tag or one this API never issued
+     */
+    public static Instant expectedUpdatedAt(final String ifMatch) {
+        if (ifMatch == null || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        final var tag = ifMatch.trim();
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return Instant.MIN;
+        }
+        try {
+            return Instant.EPOCH.plus(Long.parseLong(tag.substring(1, tag.length() - 1)), ChronoUnit.MICROS);
+        } catch (final NumberFormatException | IndexOutOfBoundsException ex) {
+            // a tag this API never issued cannot match the current representation
+            return Instant.MIN;
+        }
+    }
+
+    public static <T> ResponseEntity<T> notModified(final String etag, final Instant lastModified) {
+        final var builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.build();
+    }
+
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        final var expected = opaque(etag);
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if ("*".equals(tag) || expected.equals(opaque(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static Instant parseDate(final String value) {
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (final DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
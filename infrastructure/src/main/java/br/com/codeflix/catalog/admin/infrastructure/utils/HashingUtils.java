@@ -1,7 +1,13 @@
 package br.com.codeflix.catalog.admin.infrastructure.utils;
 
+import br.com.codeflix.catalog.admin.domain.resource.ContentSource;
+import com.google.common.hash.Funnels;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 public final class HashingUtils {
 
@@ -12,4 +18,16 @@ public final class HashingUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    public static String checksum(final ContentSource source) {
+        final var hasher = CHECKSUM.newHasher();
+
+        try (final var in = source.openStream()) {
+            ByteStreams.copy(in, Funnels.asOutputStream(hasher));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return hasher.hash().toString();
+    }
 }
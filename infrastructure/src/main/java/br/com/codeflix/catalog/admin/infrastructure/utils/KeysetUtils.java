@@ -0,0 +1,242 @@
+package br.com.codeflix.catalog.admin.infrastructure.utils;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+
+    private KeysetUtils() {}
+
+    public record Cursor(String value, String id) {
+    }
+
+    public record Window<T>(List<T> items, String nextCursor) {
+    }
+
+    public static String encode(final Object sortValue, final Object id) {
+        final var cursor = new Cursor(toString(sortValue), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(cursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(final String cursor) {
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var decoded = Json.readValue(json, Cursor.class);
+            if (decoded == null || decoded.id() == null) {
+                throw invalidCursor();
+            }
+            return decoded;
+        } catch (final RuntimeException ex) {
+            if (ex instanceof DomainException domainException) {
+                throw domainException;
+            }
+            throw invalidCursor();
+        }
+    }
+
+    public static String nextCursor(final Object lastItem, final String sort) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(lastItem);
+        if (!accessor.isReadableProperty(sort)) {
+            return null;
+        }
+        return encode(accessor.getPropertyValue(sort), accessor.getPropertyValue(ID));
+    }
+
+    public static <T> Window<T> window(final List<T> rows, final int perPage, final String sort) {
+        if (rows.size() <= perPage || perPage <= 0) {
+            return new Window<>(perPage <= 0 ? List.of() : rows, null);
+        }
+        final var items = rows.subList(0, perPage);
+        return new Window<>(items, nextCursor(items.get(perPage - 1), sort));
+    }
+
+    public static Sort sortOf(final String sort, final String direction) {
+        final var dir = Sort.Direction.fromString(direction);
+        return ID.equals(sort) ? Sort.by(dir, ID) : Sort.by(dir, sort).and(Sort.by(dir, ID));
+    }
+
+    public static <T> List<T> seek(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> specification,
+            final String sort,
+            final String direction,
+            final Cursor after,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(type);
+        final var root = query.from(type);
+
+        final var predicates = new ArrayList<Predicate>();
+        if (specification != null) {
+            final var predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null) {
+            predicates.add(after(root, cb, sort, direction, after));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderBy(root, cb, sort, direction));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // offset paging without the COUNT a Page runs; ask for one row more than the page to learn whether another follows
+    public static <T> List<T> slice(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> specification,
+            final Sort sort,
+            final long offset,
+            final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(type);
+        final var root = query.from(type);
+
+        if (specification != null) {
+            final var predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        // an unsorted request keeps the order the specification set, e.g. by relevance
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query.select(root))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public static List<Order> orderBy(final From<?, ?> root, final CriteriaBuilder cb, final String sort, final String direction) {
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+        final var orders = new ArrayList<Order>(2);
+        if (!ID.equals(sort)) {
+            final var key = keyOf(root, sort);
+            orders.add(ascending ? cb.asc(key) : cb.desc(key));
+        }
+        orders.add(ascending ? cb.asc(root.get(ID)) : cb.desc(root.get(ID)));
+        return orders;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Predicate after(
+            final From<?, ?> root,
+            final CriteriaBuilder cb,
+            final String sort,
+            final String direction,
+            final Cursor cursor
+    ) {
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+        final Expression<String> id = root.get(ID);
+
+        if (ID.equals(sort)) {
+            return ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+        }
+
+        final Path<Comparable> key = keyOf(root, sort);
+        final Comparable value = parse(cursor.value(), key.getJavaType());
+        final var idAfter = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+        // MySQL sorts NULLs first ascending and last descending, so they sit at one end of the keyset
+        if (value == null) {
+            return ascending
+                    ? cb.or(cb.and(cb.isNull(key), idAfter), cb.isNotNull(key))
+                    : cb.and(cb.isNull(key), idAfter);
+        }
+
+        final var keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        final var tieAfter = cb.and(cb.equal(key, value), idAfter);
+
+        return ascending
+                ? cb.or(keyAfter, tieAfter)
+                : cb.or(keyAfter, tieAfter, cb.isNull(key));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable parse(final String value, final Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (String.class.equals(type)) {
+                return value;
+            }
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            if (Integer.class.equals(type) || int.class.equals(type)) {
+                return Integer.valueOf(value);
+            }
+            if (Long.class.equals(type) || long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (Double.class.equals(type) || double.class.equals(type)) {
+                return Double.valueOf(value);
+            }
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                return Boolean.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (final RuntimeException ex) {
+            throw invalidCursor();
+        }
+        throw unsupportedSort();
+    }
+
+    private static <Y> Path<Y> keyOf(final From<?, ?> root, final String sort) {
+        try {
+            return root.get(sort);
+        } catch (final IllegalArgumentException ex) {
+            throw unsupportedSort();
+        }
+    }
+
+    private static String toString(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    private static DomainException unsupportedSort() {
+        return DomainException.with(new Error("'sort' does not support cursor pagination"));
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
@@ -2,12 +2,78 @@ package br.com.codeflix.catalog.admin.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.jpa.FullTextFunctionsContributor.MATCH_AGAINST;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.jpa.FullTextFunctionsContributor.MATCH_AGAINST_2;
+
 public final class SpecificationUtils {
 
+    public static final String RELEVANCE = "relevance";
+
     private SpecificationUtils() {}
 
     public static <T>Specification<T> like(final String property, final String term) {
         return (root, query1, cb) -> cb.like(cb.upper(root.get(property)), SqlUtils.like(term.toUpperCase()));
     }
 
+    /**
+     * MATCH on the words the index holds; short words and stopwords are still required, through LIKE.
+     * Terms with no indexed word at all, e.g. only punctuation, are searched as a whole like the LIKE mode does.
+     */
+    public static <T> Specification<T> match(final String terms, final String... properties) {
+        return (root, query, cb) -> {
+            final var score = relevance(root, cb, terms, properties);
+            if (score == null) {
+                return anyLike(root, cb, terms, properties);
+            }
+
+            final var predicates = new ArrayList<Predicate>();
+            predicates.add(cb.greaterThan(score, 0.0));
+            SqlUtils.unindexed(terms).forEach(word -> predicates.add(anyLike(root, cb, word, properties)));
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static <T> Specification<T> orderByRelevance(final String terms, final String... properties) {
+        return (root, query, cb) -> {
+            final var score = terms == null ? null : relevance(root, cb, terms, properties);
+            if (score == null) {
+                query.orderBy(cb.asc(root.get("id")));
+            } else {
+                query.orderBy(cb.desc(score), cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    private static Predicate anyLike(final From<?, ?> root, final CriteriaBuilder cb, final String term, final String... properties) {
+        final var pattern = SqlUtils.like(term.toUpperCase());
+        return cb.or(Arrays.stream(properties)
+                .map(property -> cb.like(cb.upper(root.get(property)), pattern))
+                .toArray(Predicate[]::new));
+    }
+
+    public static Expression<Double> relevance(
+            final From<?, ?> root,
+            final CriteriaBuilder cb,
+            final String terms,
+            final String... properties
+    ) {
+        final var against = SqlUtils.fullText(terms);
+        if (against == null || against.isEmpty()) {
+            return null;
+        }
+
+        return switch (properties.length) {
+            case 1 -> cb.function(MATCH_AGAINST, Double.class, root.get(properties[0]), cb.literal(against));
+            case 2 -> cb.function(MATCH_AGAINST_2, Double.class, root.get(properties[0]), root.get(properties[1]), cb.literal(against));
+            default -> throw new IllegalArgumentException("Full-text search supports one or two columns");
+        };
+    }
 }
@@ -1,7 +1,21 @@
 package br.com.codeflix.catalog.admin.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public final class SqlUtils {
 
+    // InnoDB defaults (innodb_ft_min_token_size and the built-in stopword list): such words are never indexed
+    private static final int FULL_TEXT_MIN_WORD_LENGTH = 3;
+    private static final Set<String> FULL_TEXT_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how", "i", "in",
+            "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what", "when", "where", "who",
+            "will", "with", "und", "www"
+    );
+
     private SqlUtils() {
     }
 
@@ -14,4 +28,32 @@ public final class SqlUtils {
         if (term == null) return null;
         return "%" + term + "%";
     }
-}
\ No newline at end of file
+
+    public static String fullText(final String terms) {
+        if (terms == null) return null;
+        return words(terms).stream()
+                .filter(SqlUtils::isIndexed)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Words of the terms that a FULLTEXT index never holds, so a MATCH cannot require them.
+     */
+    public static List<String> unindexed(final String terms) {
+        if (terms == null) return List.of();
+        return words(terms).stream()
+                .filter(word -> !isIndexed(word))
+                .toList();
+    }
+
+    private static List<String> words(final String terms) {
+        return Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isBlank())
+                .toList();
+    }
+
+    private static boolean isIndexed(final String word) {
+        return word.length() >= FULL_TEXT_MIN_WORD_LENGTH && !FULL_TEXT_STOPWORDS.contains(word.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.codeflix.catalog.admin.infrastructure.video;
+
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves video details from the node cache; a miss hydrates the video once,
+ * however many requests for it arrive meanwhile.
+ */
+public class CachedGetVideoByIdUseCase extends GetVideoByIdUseCase {
+
+    private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final ReferenceCache<VideoOutput> cache;
+
+    public CachedGetVideoByIdUseCase(
+            final GetVideoByIdUseCase getVideoByIdUseCase,
+            final ReferenceCache<VideoOutput> cache
+    ) {
+        this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public VideoOutput execute(final String id) {
+        return this.cache.get(id, key -> Optional.of(this.getVideoByIdUseCase.execute(key))).orElseThrow();
+    }
+}
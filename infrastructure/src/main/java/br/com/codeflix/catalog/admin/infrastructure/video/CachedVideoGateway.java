@@ -0,0 +1,107 @@
+package br.com.codeflix.catalog.admin.infrastructure.video;
+
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.video.*;
+import br.com.codeflix.catalog.admin.infrastructure.cache.QueryKeys;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.VIDEOS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.VIDEO_LISTS;
+
+/**
+ * Serves video listings from the node cache and keeps the cached listings and details
+ * of every node in line with the writes made through this gateway.
+ */
+@Primary
+@Component
+public class CachedVideoGateway implements VideoGateway {
+
+    private final DefaultVideoGateway videoGateway;
+    private final ReferenceCache<Pagination<VideoPreview>> listCache;
+    private final ReferenceCacheInvalidator invalidator;
+
+    public CachedVideoGateway(
+            final DefaultVideoGateway videoGateway,
+            final ReferenceCache<Pagination<VideoPreview>> listCache,
+            final ReferenceCacheInvalidator invalidator
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.listCache = Objects.requireNonNull(listCache);
+        this.invalidator = Objects.requireNonNull(invalidator);
+    }
+
+    @Override
+    public Video create(final Video video) {
+        final var result = this.videoGateway.create(video);
+        this.invalidator.invalidate(ReferenceDataChanged.all(VIDEO_LISTS));
+        return result;
+    }
+
+    @Override
+    public List<Video> createAll(final List<Video> videos) {
+        final var result = this.videoGateway.createAll(videos);
+        this.invalidator.invalidate(ReferenceDataChanged.all(VIDEO_LISTS));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final VideoID id) {
+        this.videoGateway.deleteById(id);
+        this.invalidator.invalidate(detailsOf(id), ReferenceDataChanged.all(VIDEO_LISTS));
+    }
+
+    @Override
+    public Optional<Video> findById(final VideoID id) {
+        return this.videoGateway.findById(id);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final VideoID id) {
+        return this.videoGateway.findUpdatedAtById(id);
+    }
+
+    @Override
+    public Optional<String> findMediaChecksum(final VideoID id, final VideoMediaType type) {
+        return this.videoGateway.findMediaChecksum(id, type);
+    }
+
+    @Override
+    public Video update(final Video video) {
+        final var result = this.videoGateway.update(video);
+        this.invalidator.invalidate(detailsOf(video.getId()), ReferenceDataChanged.all(VIDEO_LISTS));
+        return result;
+    }
+
+    @Override
+    public boolean updateMediaStatus(
+            final VideoID id,
+            final String resourceId,
+            final MediaStatus status,
+            final String encodedPath
+    ) {
+        final var updated = this.videoGateway.updateMediaStatus(id, resourceId, status, encodedPath);
+        if (updated) {
+            // the video is touched, so listings show and sort by a newer updatedAt
+            this.invalidator.invalidate(detailsOf(id), ReferenceDataChanged.all(VIDEO_LISTS));
+        }
+        return updated;
+    }
+
+    @Override
+    public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
+        return this.listCache.get(QueryKeys.of(query), key -> Optional.of(this.videoGateway.findAll(query))).orElseThrow();
+    }
+
+    private static ReferenceDataChanged detailsOf(final VideoID id) {
+        return ReferenceDataChanged.of(VIDEOS, List.of(id.getValue()));
+    }
+}
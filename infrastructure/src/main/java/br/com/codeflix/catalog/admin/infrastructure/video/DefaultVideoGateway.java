@@ -1,42 +1,100 @@
 package br.com.codeflix.catalog.admin.infrastructure.video;
 
 import br.com.codeflix.catalog.admin.domain.Identifier;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.domain.video.*;
-import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedQueue;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoCreatedOutbox;
 import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import br.com.codeflix.catalog.admin.infrastructure.utils.KeysetUtils;
+import br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.AudioVideoMediaJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.ImageMediaJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoGenreJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoRelation;
 import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static br.com.codeflix.catalog.admin.domain.utils.CollectionUtils.mapTo;
-import static br.com.codeflix.catalog.admin.domain.utils.CollectionUtils.nullIfEmpty;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.RELEVANCE;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.relevance;
 import static br.com.codeflix.catalog.admin.infrastructure.utils.SqlUtils.like;
 import static br.com.codeflix.catalog.admin.infrastructure.utils.SqlUtils.upper;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final Set<String> CURSOR_SORTS = Set.of("id", "title", "description", "createdAt", "updatedAt");
+    private static final String[] SEARCH_COLUMNS = {"title"};
+
     private final VideoRepository videoRepository;
     private final EventService eventService;
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
 
     public DefaultVideoGateway(
             final VideoRepository videoRepository,
-            @VideoCreatedQueue final EventService eventService) {
+            @VideoCreatedOutbox final EventService eventService,
+            final EntityManager entityManager,
+            @Value("${search.full-text:false}") final boolean fullTextSearch) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
     @Transactional
     public Video create(final Video video) {
-        return save(video);
+        return persist(video);
+    }
+
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        // the whole batch goes out as one JDBC batch per table, rewritten by the driver into multi-row inserts
+        final var session = this.entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(largestTable(videos));
+
+        try {
+            final var created = videos.stream()
+                    .map(this::persist)
+                    .toList();
+
+            this.entityManager.flush();
+            this.entityManager.clear();
+
+            return created;
+        } finally {
+            session.setJdbcBatchSize(null);
+        }
     }
 
     @Override
@@ -50,39 +108,273 @@ public class DefaultVideoGateway implements VideoGateway {
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID id) {
-        return this.videoRepository.findById(id.getValue())
-                .map(VideoJpaEntity::toAggregate);
+        return this.videoRepository.findWithMediaById(id.getValue())
+                .map(this::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findUpdatedAtById(final VideoID id) {
+        return this.videoRepository.findUpdatedAtById(id.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findMediaChecksum(final VideoID id, final VideoMediaType type) {
+        return this.videoRepository.findMediaChecksum(id.getValue(), type.name());
     }
 
     @Override
     @Transactional
     public Video update(final Video video) {
-        return save(video);
+        final var entity = this.videoRepository.findWithMediaById(video.getId().getValue()).orElse(null);
+        if (entity == null) {
+            return save(video);
+        }
+        if (entity.getVersion() != video.getVersion()) {
+            throw ConflictException.with(Video.class, video.getId());
+        }
+
+        entity.update(video)
+                .setVideo(merge(video.getVideo().map(AudioVideoMediaJpaEntity::from)))
+                .setTrailer(merge(video.getTrailer().map(AudioVideoMediaJpaEntity::from)))
+                .setBanner(merge(video.getBanner().map(ImageMediaJpaEntity::from)))
+                .setThumbnail(merge(video.getThumbnail().map(ImageMediaJpaEntity::from)))
+                .setThumbnailHalf(merge(video.getThumbnailHalf().map(ImageMediaJpaEntity::from)));
+
+        updateRelations(entity, video);
+
+        try {
+            this.entityManager.flush();
+        } catch (final OptimisticLockException ex) {
+            throw ConflictException.with(Video.class, video.getId());
+        }
+
+        video.publishDomainEvents(this.eventService::send);
+
+        return entity.toAggregate(video.getCategories(), video.getGenres(), video.getCastMembers());
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID id,
+            final String resourceId,
+            final MediaStatus status,
+            final String encodedPath
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(AudioVideoMediaJpaEntity.class);
+        final var media = update.from(AudioVideoMediaJpaEntity.class);
+
+        // the owner check reads the FK columns of the video row, so the media row is the only one written
+        final var owner = update.subquery(Integer.class);
+        final var video = owner.from(VideoJpaEntity.class);
+        owner.select(cb.literal(1))
+                .where(
+                        cb.equal(video.get("id"), id.getValue()),
+                        cb.or(
+                                cb.equal(video.get("video").get("id"), resourceId),
+                                cb.equal(video.get("trailer").get("id"), resourceId)
+                        )
+                );
+
+        update.set(media.<MediaStatus>get("status"), status);
+        if (encodedPath != null) {
+            update.set(media.<String>get("encodedPath"), encodedPath);
+        }
+        update.where(cb.equal(media.get("id"), resourceId), cb.exists(owner));
+
+        if (this.entityManager.createQuery(update).executeUpdate() == 0) {
+            return false;
+        }
+
+        this.videoRepository.touch(id.getValue(), InstantUtils.now());
+        return true;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
-        final var page = PageRequest.of(
+        if (query.isCursorBased()) {
+            return findAfter(query);
+        }
+
+        final var offset = (long) query.page() * query.perPage();
+        if (!query.withTotal()) {
+            return findSlice(query, offset);
+        }
+
+        final var items = this.entityManager.createQuery(selectPreviews(query, null))
+                .setFirstResult((int) offset)
+                .setMaxResults(query.perPage())
+                .getResultList();
+
+        // a short page already tells the total, so the count only runs when more rows may follow
+        final var total = items.size() < query.perPage() && (!items.isEmpty() || offset == 0)
+                ? offset + items.size()
+                : count(query);
+
+        final var nextCursor = offset + items.size() < total && !items.isEmpty() && CURSOR_SORTS.contains(query.sort())
+                ? KeysetUtils.nextCursor(items.get(items.size() - 1), query.sort())
+                : null;
+
+        return new Pagination<>(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                total,
+                items,
+                nextCursor
         );
-        final var actualPage = this.videoRepository.findAll(
-                like(upper(query.terms())),
-                nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
-                page
+    }
+
+    private Pagination<VideoPreview> findSlice(final VideoSearchQuery query, final long offset) {
+        final var rows = this.entityManager.createQuery(selectPreviews(query, null))
+                .setFirstResult((int) offset)
+                .setMaxResults(query.perPage() + 1)
+                .getResultList();
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                Pagination.UNKNOWN_TOTAL,
+                window.items(),
+                window.nextCursor()
         );
+    }
+
+    private Pagination<VideoPreview> findAfter(final VideoSearchQuery query) {
+        if (!CURSOR_SORTS.contains(query.sort())) {
+            throw DomainException.with(new Error("'sort' does not support cursor pagination"));
+        }
+
+        final var rows = this.entityManager.createQuery(selectPreviews(query, KeysetUtils.decode(query.cursor())))
+                .setMaxResults(query.perPage() + 1)
+                .getResultList();
+        final var window = KeysetUtils.window(rows, query.perPage(), query.sort());
 
         return new Pagination<>(
-                actualPage.getNumber(),
-                actualPage.getSize(),
-                actualPage.getTotalElements(),
-                actualPage.toList()
+                query.page(),
+                query.perPage(),
+                query.withTotal() ? count(query) : Pagination.UNKNOWN_TOTAL,
+                window.items(),
+                window.nextCursor()
         );
     }
 
+    private CriteriaQuery<VideoPreview> selectPreviews(final VideoSearchQuery query, final KeysetUtils.Cursor after) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var select = cb.createQuery(VideoPreview.class);
+        final var root = select.from(VideoJpaEntity.class);
+
+        final var predicates = filtersOf(query, select, root);
+        if (after != null) {
+            predicates.add(KeysetUtils.after(root, cb, query.sort(), query.direction(), after));
+        }
+
+        return select.select(cb.construct(
+                        VideoPreview.class,
+                        root.get("id"),
+                        root.get("title"),
+                        root.get("description"),
+                        root.get("createdAt"),
+                        root.get("updatedAt")
+                ))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderOf(query, root));
+    }
+
+    private List<Order> orderOf(final VideoSearchQuery query, final Root<VideoJpaEntity> root) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        if (!RELEVANCE.equals(query.sort())) {
+            return KeysetUtils.orderBy(root, cb, query.sort(), query.direction());
+        }
+
+        final var score = this.fullTextSearch ? relevance(root, cb, query.terms(), SEARCH_COLUMNS) : null;
+        return score == null
+                ? List.of(cb.asc(root.get("id")))
+                : List.of(cb.desc(score), cb.asc(root.get("id")));
+    }
+
+    private long count(final VideoSearchQuery query) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var select = cb.createQuery(Long.class);
+        final var root = select.from(VideoJpaEntity.class);
+
+        select.select(cb.count(root))
+                .where(filtersOf(query, select, root).toArray(Predicate[]::new));
+
+        return this.entityManager.createQuery(select).getSingleResult();
+    }
+
+    private List<Predicate> filtersOf(
+            final VideoSearchQuery query,
+            final CriteriaQuery<?> select,
+            final Root<VideoJpaEntity> root
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var predicates = new ArrayList<Predicate>();
+
+        if (this.fullTextSearch && query.terms() != null && !query.terms().isBlank()) {
+            predicates.add(SpecificationUtils.<VideoJpaEntity>match(query.terms(), SEARCH_COLUMNS).toPredicate(root, select, cb));
+        } else if (query.terms() != null) {
+            predicates.add(cb.like(cb.upper(root.<String>get("title")), like(upper(query.terms()))));
+        }
+        if (query.castMembers() != null && !query.castMembers().isEmpty()) {
+            predicates.add(exists(select, root, VideoCastMemberJpaEntity.class, "castMemberId", mapTo(query.castMembers(), Identifier::getValue)));
+        }
+        if (query.categories() != null && !query.categories().isEmpty()) {
+            predicates.add(exists(select, root, VideoCategoryJpaEntity.class, "categoryId", mapTo(query.categories(), Identifier::getValue)));
+        }
+        if (query.genres() != null && !query.genres().isEmpty()) {
+            predicates.add(exists(select, root, VideoGenreJpaEntity.class, "genreId", mapTo(query.genres(), Identifier::getValue)));
+        }
+        return predicates;
+    }
+
+    private <T> Predicate exists(
+            final CriteriaQuery<?> select,
+            final Root<VideoJpaEntity> root,
+            final Class<T> link,
+            final String attribute,
+            final Set<String> ids
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var subquery = select.subquery(Integer.class);
+        final var relation = subquery.from(link);
+
+        subquery.select(cb.literal(1))
+                .where(
+                        cb.equal(relation.get("video"), root),
+                        relation.get("id").get(attribute).in(ids)
+                );
+
+        return cb.exists(subquery);
+    }
+
+    private static int largestTable(final List<Video> videos) {
+        var categories = 0;
+        var genres = 0;
+        var castMembers = 0;
+        for (final var video : videos) {
+            categories += video.getCategories().size();
+            genres += video.getGenres().size();
+            castMembers += video.getCastMembers().size();
+        }
+        return Math.max(1, Math.max(videos.size(), Math.max(categories, Math.max(genres, castMembers))));
+    }
+
+    // a new aggregate is persisted rather than merged, which would select every link row before inserting it
+    private Video persist(final Video video) {
+        final var entity = VideoJpaEntity.from(video);
+        this.entityManager.persist(entity);
+
+        video.publishDomainEvents(this.eventService::send);
+
+        return entity.toAggregate();
+    }
+
     private Video save(final Video video) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(video))
                 .toAggregate();
@@ -91,4 +383,79 @@ public class DefaultVideoGateway implements VideoGateway {
 
         return result;
     }
-}
\ No newline at end of file
+
+    private <T> T merge(final Optional<T> media) {
+        return media.map(this.entityManager::merge).orElse(null);
+    }
+
+    // only the link rows that differ from the persisted ones are written, without loading the lazy collections
+    private void updateRelations(final VideoJpaEntity entity, final Video video) {
+        if (Hibernate.isInitialized(entity.getCategories())
+                && Hibernate.isInitialized(entity.getGenres())
+                && Hibernate.isInitialized(entity.getCastMembers())) {
+            entity.updateRelations(video);
+            return;
+        }
+
+        final var videoId = entity.getId();
+        final var persisted = relationsOf(videoId);
+
+        final var categories = mapTo(video.getCategories(), Identifier::getValue);
+        final var genres = mapTo(video.getGenres(), Identifier::getValue);
+        final var castMembers = mapTo(video.getCastMembers(), Identifier::getValue);
+
+        final var removedCategories = difference(persisted.categories(), categories);
+        if (!removedCategories.isEmpty()) {
+            this.videoRepository.deleteCategories(videoId, removedCategories);
+        }
+        final var removedGenres = difference(persisted.genres(), genres);
+        if (!removedGenres.isEmpty()) {
+            this.videoRepository.deleteGenres(videoId, removedGenres);
+        }
+        final var removedCastMembers = difference(persisted.castMembers(), castMembers);
+        if (!removedCastMembers.isEmpty()) {
+            this.videoRepository.deleteCastMembers(videoId, removedCastMembers);
+        }
+
+        difference(categories, persisted.categories())
+                .forEach(id -> this.entityManager.persist(VideoCategoryJpaEntity.from(entity, CategoryID.from(id))));
+        difference(genres, persisted.genres())
+                .forEach(id -> this.entityManager.persist(VideoGenreJpaEntity.from(entity, GenreID.from(id))));
+        difference(castMembers, persisted.castMembers())
+                .forEach(id -> this.entityManager.persist(VideoCastMemberJpaEntity.from(entity, CastMemberID.from(id))));
+    }
+
+    private Video toAggregate(final VideoJpaEntity entity) {
+        final var relations = relationsOf(entity.getId());
+
+        return entity.toAggregate(
+                mapTo(relations.categories(), CategoryID::from),
+                mapTo(relations.genres(), GenreID::from),
+                mapTo(relations.castMembers(), CastMemberID::from)
+        );
+    }
+
+    private Relations relationsOf(final String videoId) {
+        final var relations = new Relations(new HashSet<>(), new HashSet<>(), new HashSet<>());
+
+        for (final var relation : this.videoRepository.findRelationsByVideoId(videoId)) {
+            switch (relation.getKind()) {
+                case VideoRelation.CATEGORY -> relations.categories().add(relation.getId());
+                case VideoRelation.GENRE -> relations.genres().add(relation.getId());
+                case VideoRelation.CAST_MEMBER -> relations.castMembers().add(relation.getId());
+                default -> throw new IllegalStateException("Unexpected video relation: " + relation.getKind());
+            }
+        }
+
+        return relations;
+    }
+
+    private static Set<String> difference(final Set<String> left, final Set<String> right) {
+        final var result = new HashSet<>(left);
+        result.removeAll(right);
+        return result;
+    }
+
+    private record Relations(Set<String> categories, Set<String> genres, Set<String> castMembers) {
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.bulk;
+
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoOutput;
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.create.CreateVideoCommand;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
+import br.com.codeflix.catalog.admin.infrastructure.video.presenters.VideoApiPresenter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates the videos of an NDJSON stream in batches, writing one NDJSON result per non-blank line
+ * as soon as its batch is created.
+ * <p>
+ * Only one batch of lines is held at a time, its results are flushed before the next one is read.
+ */
+@Component
+public class BulkVideoCreator {
+
+    private static final ObjectReader READER = Json.mapper().readerFor(CreateVideoRequest.class);
+
+    private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public BulkVideoCreator(
+            final BulkCreateVideoUseCase bulkCreateVideoUseCase,
+            @Value("${videos.bulk.batch-size:500}") final int batchSize,
+            @Value("${videos.bulk.max-line-length:65536}") final int maxLineLength
+    ) {
+        this.bulkCreateVideoUseCase = Objects.requireNonNull(bulkCreateVideoUseCase);
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public void create(final InputStream payload, final OutputStream out) throws IOException {
+        final var reader = new LineReader(new InputStreamReader(payload, StandardCharsets.UTF_8), this.maxLineLength);
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        final var batch = new ArrayList<Line>(this.batchSize);
+
+        long number = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (reader.overflowed()) {
+                batch.add(Line.failed(number, "Line exceeds %d characters".formatted(this.maxLineLength)));
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                batch.add(Line.parse(number, line));
+            }
+
+            if (batch.size() >= this.batchSize) {
+                createBatch(batch, writer);
+            }
+        }
+
+        createBatch(batch, writer);
+    }
+
+    private void createBatch(final List<Line> batch, final Writer writer) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var commands = batch.stream()
+                .filter(Line::parsed)
+                .map(Line::command)
+                .toList();
+
+        final var outputs = commands.isEmpty()
+                ? Collections.<BulkCreateVideoOutput>emptyIterator()
+                : this.bulkCreateVideoUseCase.execute(commands).iterator();
+
+        for (final var line : batch) {
+            final var output = line.parsed() ? outputs.next() : line.failure();
+            writer.write(Json.writeValueAsString(VideoApiPresenter.present(line.number(), output)));
+            writer.write('\n');
+        }
+
+        writer.flush();
+        batch.clear();
+    }
+
+    private static CreateVideoCommand commandOf(final CreateVideoRequest payload) {
+        return CreateVideoCommand.with(
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers()
+        );
+    }
+
+    private record Line(long number, CreateVideoCommand command, BulkCreateVideoOutput failure) {
+
+        static Line parse(final long number, final String json) {
+            try {
+                final CreateVideoRequest payload = READER.readValue(json);
+                if (payload == null) {
+                    return failed(number, "Expected a JSON object");
+                }
+                return new Line(number, commandOf(payload), null);
+            } catch (final JsonProcessingException ex) {
+                return failed(number, "Malformed JSON line: %s".formatted(ex.getOriginalMessage()));
+            }
+        }
+
+        static Line failed(final long number, final String message) {
+            return new Line(number, null, BulkCreateVideoOutput.failed(List.of(new Error(message))));
+        }
+
+        boolean parsed() {
+            return command != null;
+        }
+    }
+
+    // like BufferedReader.readLine, but never holds more than maxLength chars of a line; the rest of a longer one is skipped
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean overflowed;
+
+        LineReader(final Reader reader, final int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            this.line.setLength(0);
+            this.overflowed = false;
+
+            var read = false;
+            while (fill()) {
+                read = true;
+                final var start = this.position;
+                while (this.position < this.limit && this.buffer[this.position] != '\n') {
+                    this.position++;
+                }
+                append(start, this.position);
+
+                if (this.position < this.limit) {
+                    this.position++;
+                    return finish();
+                }
+            }
+            return read ? finish() : null;
+        }
+
+        boolean overflowed() {
+            return this.overflowed;
+        }
+
+        private boolean fill() throws IOException {
+            if (this.position < this.limit) {
+                return true;
+            }
+            this.position = 0;
+            this.limit = Math.max(this.reader.read(this.buffer), 0);
+            return this.limit > 0;
+        }
+
+        // keeps one extra char so a trailing '\r' of a line at the limit is not taken as an overflow
+        private void append(final int start, final int end) {
+            final var room = this.maxLength + 1 - this.line.length();
+            if (end - start > room) {
+                this.overflowed = true;
+            }
+            this.line.append(this.buffer, start, Math.max(Math.min(end - start, room), 0));
+        }
+
+        private String finish() {
+            final var length = this.line.length();
+            if (length > 0 && this.line.charAt(length - 1) == '\r') {
+                this.line.setLength(length - 1);
+            }
+            if (this.line.length() > this.maxLength) {
+                this.overflowed = true;
+            }
+            return this.overflowed ? "" : this.line.toString();
+        }
+    }
+}
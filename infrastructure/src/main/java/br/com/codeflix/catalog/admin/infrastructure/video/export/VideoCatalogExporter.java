@@ -0,0 +1,278 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.export;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Streams the whole video catalog in a single forward-only query, writing each row to the output
+ * as soon as it is read, so the heap in use does not grow with the size of the catalog.
+ * <p>
+ * On MySQL the statement asks Connector/J for a streaming result set, which is local to this
+ * connection; the driver raises its net_write_timeout while the rows are pending.
+ */
+@Component
+public class VideoCatalogExporter {
+
+    private static final String SELECT_ALL = """
+            SELECT v.id, v.title, v.description, v.year_launched, v.duration, v.rating, v.opened, v.published,
+                   v.created_at, v.updated_at,
+                   (SELECT JSON_ARRAYAGG(vc.category_id) FROM videos_categories vc WHERE vc.video_id = v.id) AS categories_id,
+                   (SELECT JSON_ARRAYAGG(vg.genre_id) FROM videos_genres vg WHERE vg.video_id = v.id) AS genres_id,
+                   (SELECT JSON_ARRAYAGG(vcm.cast_member_id) FROM videos_cast_members vcm WHERE vcm.video_id = v.id) AS cast_members_id,
+                   vm.file_path AS video_location, vm.encoded_path AS video_encoded_location, vm.media_status AS video_status,
+                   tm.file_path AS trailer_location, tm.encoded_path AS trailer_encoded_location, tm.media_status AS trailer_status,
+                   bm.file_path AS banner_location,
+                   th.file_path AS thumbnail_location,
+                   thh.file_path AS thumbnail_half_location
+            FROM videos v
+            LEFT JOIN videos_video_media vm ON vm.id = v.video_id
+            LEFT JOIN videos_video_media tm ON tm.id = v.trailer_id
+            LEFT JOIN videos_image_media bm ON bm.id = v.banner_id
+            LEFT JOIN videos_image_media th ON th.id = v.thumbnail_id
+            LEFT JOIN videos_image_media thh ON thh.id = v.thumbnail_half_id
+            ORDER BY v.id
+            """;
+
+    private static final String MYSQL = "MySQL";
+
+    private static final String[] COLUMNS = {
+            "id", "title", "description", "year_launched", "duration", "rating", "opened", "published",
+            "created_at", "updated_at", "categories_id", "genres_id", "cast_members_id",
+            "video_location", "video_encoded_location", "video_status",
+            "trailer_location", "trailer_encoded_location", "trailer_status",
+            "banner_location", "thumbnail_location", "thumbnail_half_location"
+    };
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    public VideoCatalogExporter(
+            final DataSource dataSource,
+            @Value("${videos.export.fetch-size:1000}") final int fetchSize
+    ) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.fetchSize = fetchSize;
+    }
+
+    // the connection is the one of the read-only transaction, so replicas take the export when enabled
+    @Transactional(readOnly = true)
+    public void export(final Format format, final OutputStream out) throws IOException {
+        final var connection = DataSourceUtils.getConnection(this.dataSource);
+        try (
+                final var statement = connection.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        ) {
+            statement.setFetchSize(fetchSizeOf(connection));
+            try (final var rows = statement.executeQuery(); final var writer = format.writer(out)) {
+                while (rows.next()) {
+                    writer.write(rows);
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new IllegalStateException("Could not export the video catalog", ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, this.dataSource);
+        }
+    }
+
+    // a positive size is only a hint to Connector/J, which would buffer the whole result without server-side cursors
+    private int fetchSizeOf(final Connection connection) throws SQLException {
+        return MYSQL.equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : this.fetchSize;
+    }
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON) {
+            @Override
+            RowWriter writer(final OutputStream out) throws IOException {
+                return new NdjsonWriter(out);
+            }
+        },
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+            @Override
+            RowWriter writer(final OutputStream out) throws IOException {
+                return new CsvWriter(out);
+            }
+        };
+
+        private final MediaType mediaType;
+
+        Format(final MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        abstract RowWriter writer(OutputStream out) throws IOException;
+
+        public static Format of(final String name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> DomainException.with(new Error("Unsupported export format: %s".formatted(name))));
+        }
+    }
+
+    interface RowWriter extends Closeable {
+        void write(ResultSet row) throws SQLException, IOException;
+    }
+
+    private static final class NdjsonWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(final OutputStream out) throws IOException {
+            this.generator = Json.mapper().getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(final ResultSet row) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", row.getString("id"));
+            generator.writeStringField("title", row.getString("title"));
+            generator.writeStringField("description", row.getString("description"));
+            generator.writeNumberField("year_launched", row.getInt("year_launched"));
+            generator.writeNumberField("duration", row.getDouble("duration"));
+            generator.writeStringField("rating", row.getString("rating"));
+            generator.writeBooleanField("opened", row.getBoolean("opened"));
+            generator.writeBooleanField("published", row.getBoolean("published"));
+            generator.writeStringField("created_at", instant(row.getTimestamp("created_at")));
+            generator.writeStringField("updated_at", instant(row.getTimestamp("updated_at")));
+            writeIds("categories_id", row.getString("categories_id"));
+            writeIds("genres_id", row.getString("genres_id"));
+            writeIds("cast_members_id", row.getString("cast_members_id"));
+            writeAudioVideo("video", row);
+            writeAudioVideo("trailer", row);
+            writeImage("banner", row);
+            writeImage("thumbnail", row);
+            writeImage("thumbnail_half", row);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+
+        private void writeIds(final String field, final String json) throws IOException {
+            generator.writeFieldName(field);
+            if (json == null) {
+                generator.writeStartArray();
+                generator.writeEndArray();
+            } else {
+                // the database already aggregated the identifiers as a JSON array
+                generator.writeRawValue(json);
+            }
+        }
+
+        private void writeAudioVideo(final String field, final ResultSet row) throws SQLException, IOException {
+            final var location = row.getString(field + "_location");
+            if (location == null) {
+                generator.writeNullField(field);
+                return;
+            }
+            generator.writeObjectFieldStart(field);
+            generator.writeStringField("location", location);
+            generator.writeStringField("encoded_location", row.getString(field + "_encoded_location"));
+            generator.writeStringField("status", row.getString(field + "_status"));
+            generator.writeEndObject();
+        }
+
+        private void writeImage(final String field, final ResultSet row) throws SQLException, IOException {
+            final var location = row.getString(field + "_location");
+            if (location == null) {
+                generator.writeNullField(field);
+                return;
+            }
+            generator.writeObjectFieldStart(field);
+            generator.writeStringField("location", location);
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class CsvWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvWriter(final OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine(COLUMNS);
+        }
+
+        @Override
+        public void write(final ResultSet row) throws SQLException, IOException {
+            final var values = new String[COLUMNS.length];
+            for (int i = 0; i < COLUMNS.length; i++) {
+                final var column = COLUMNS[i];
+                values[i] = switch (column) {
+                    case "created_at", "updated_at" -> instant(row.getTimestamp(column));
+                    case "categories_id", "genres_id", "cast_members_id" -> ids(row.getString(column));
+                    default -> row.getString(column);
+                };
+            }
+            writeLine(values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the response stream belongs to the container, only the buffered rows are handed over
+            writer.flush();
+        }
+
+        private void writeLine(final String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String ids(final String json) {
+            if (json == null) {
+                return "";
+            }
+            return json.replaceAll("[\\[\\]\"\\s]", "").replace(',', ' ');
+        }
+
+        private static String escape(final String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static String instant(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant().toString() : null;
+    }
+}
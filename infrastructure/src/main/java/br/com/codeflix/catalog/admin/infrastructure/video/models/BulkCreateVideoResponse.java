@@ -0,0 +1,13 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.models;
+
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkCreateVideoResponse(
+        @JsonProperty("line") long line,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
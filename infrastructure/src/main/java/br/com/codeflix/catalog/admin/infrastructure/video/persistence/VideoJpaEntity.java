@@ -51,6 +51,10 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
@@ -98,7 +102,8 @@ public class VideoJpaEntity {
             final AudioVideoMediaJpaEntity trailer,
             final ImageMediaJpaEntity banner,
             final ImageMediaJpaEntity thumbnail,
-            final ImageMediaJpaEntity thumbnailHalf
+            final ImageMediaJpaEntity thumbnailHalf,
+            final long version
     ) {
         this.id = id;
         this.title = title;
@@ -115,6 +120,7 @@ public class VideoJpaEntity {
         this.banner = banner;
         this.thumbnail = thumbnail;
         this.thumbnailHalf = thumbnailHalf;
+        this.version = version;
         this.categories = new HashSet<>(3);
         this.genres = new HashSet<>(3);
         this.castMembers = new HashSet<>(3);
@@ -146,7 +152,8 @@ public class VideoJpaEntity {
                         .orElse(null),
                 video.getThumbnailHalf()
                         .map(ImageMediaJpaEntity::from)
-                        .orElse(null)
+                        .orElse(null),
+                video.getVersion()
         );
 
         video.getCategories()
@@ -162,6 +169,24 @@ public class VideoJpaEntity {
     }
 
     public Video toAggregate() {
+        return toAggregate(
+                getCategories().stream()
+                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
+                        .collect(Collectors.toSet()),
+                getGenres().stream()
+                        .map(it -> GenreID.from(it.getId().getGenreId()))
+                        .collect(Collectors.toSet()),
+                getCastMembers().stream()
+                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    public Video toAggregate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
         return Video.with(
                 VideoID.from(getId()),
                 getTitle(),
@@ -188,18 +213,41 @@ public class VideoJpaEntity {
                 Optional.ofNullable(getVideo())
                         .map(AudioVideoMediaJpaEntity::toDomain)
                         .orElse(null),
-                getCategories().stream()
-                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
-                        .collect(Collectors.toSet()),
-                getGenres().stream()
-                        .map(it -> GenreID.from(it.getId().getGenreId()))
-                        .collect(Collectors.toSet()),
-                getCastMembers().stream()
-                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
-                        .collect(Collectors.toSet())
+                categories,
+                genres,
+                castMembers,
+                getVersion()
         );
     }
 
+    public VideoJpaEntity update(final Video video) {
+        this.title = video.getTitle();
+        this.description = video.getDescription();
+        this.yearLaunched = video.getLaunchedAt().getValue();
+        this.opened = video.getOpened();
+        this.published = video.getPublished();
+        this.rating = video.getRating();
+        this.duration = video.getDuration();
+        this.updatedAt = video.getUpdatedAt();
+        return this;
+    }
+
+    public VideoJpaEntity updateRelations(final Video video) {
+        final var expectedCategories = new HashSet<>(video.getCategories());
+        getCategories().removeIf(it -> !expectedCategories.remove(CategoryID.from(it.getId().getCategoryId())));
+        expectedCategories.forEach(this::addCategory);
+
+        final var expectedGenres = new HashSet<>(video.getGenres());
+        getGenres().removeIf(it -> !expectedGenres.remove(GenreID.from(it.getId().getGenreId())));
+        expectedGenres.forEach(this::addGenre);
+
+        final var expectedCastMembers = new HashSet<>(video.getCastMembers());
+        getCastMembers().removeIf(it -> !expectedCastMembers.remove(CastMemberID.from(it.getId().getCastMemberId())));
+        expectedCastMembers.forEach(this::addCastMember);
+
+        return this;
+    }
+
     public void addCategory(final CategoryID anId) {
         this.categories.add(VideoCategoryJpaEntity.from(this, anId));
     }
@@ -302,6 +350,15 @@ public class VideoJpaEntity {
         return this;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public VideoJpaEntity setVersion(long version) {
+        this.version = version;
+        return this;
+    }
+
     public AudioVideoMediaJpaEntity getVideo() {
         return video;
     }
@@ -0,0 +1,12 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.persistence;
+
+public interface VideoRelation {
+
+    String CATEGORY = "CATEGORY";
+    String GENRE = "GENRE";
+    String CAST_MEMBER = "CAST_MEMBER";
+
+    String getKind();
+
+    String getId();
+}
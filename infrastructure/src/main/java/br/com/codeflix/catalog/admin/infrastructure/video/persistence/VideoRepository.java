@@ -1,42 +1,65 @@
 package br.com.codeflix.catalog.admin.infrastructure.video.persistence;
 
-import br.com.codeflix.catalog.admin.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
 
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    Optional<VideoJpaEntity> findWithMediaById(String id);
+
+    @Query(value = """
+            select 'CATEGORY' as kind, vc.category_id as id from videos_categories vc where vc.video_id = :id
+            union all
+            select 'GENRE' as kind, vg.genre_id as id from videos_genres vg where vg.video_id = :id
+            union all
+            select 'CAST_MEMBER' as kind, vm.cast_member_id as id from videos_cast_members vm where vm.video_id = :id
+            """, nativeQuery = true)
+    List<VideoRelation> findRelationsByVideoId(@Param("id") String id);
+
+    @Modifying
+    @Query("delete from VideoCategory vc where vc.id.videoId = :id and vc.id.categoryId in :ids")
+    int deleteCategories(@Param("id") String id, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from VideoGenre vg where vg.id.videoId = :id and vg.id.genreId in :ids")
+    int deleteGenres(@Param("id") String id, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from VideoCastMember vm where vm.id.videoId = :id and vm.id.castMemberId in :ids")
+    int deleteCastMembers(@Param("id") String id, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt, v.version = v.version + 1 where v.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") Instant updatedAt);
+
+    @Query("select v.updatedAt from Video v where v.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
     @Query("""
-            select distinct new br.com.codeflix.catalog.admin.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
+            select
+                case
+                    when :type = 'VIDEO' then video.checksum
+                    when :type = 'TRAILER' then trailer.checksum
+                    when :type = 'BANNER' then banner.checksum
+                    when :type = 'THUMBNAIL' then thumbnail.checksum
+                    when :type = 'THUMBNAIL_HALF' then thumbnailHalf.checksum
+                end
             from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
+                left join v.video video
+                left join v.trailer trailer
+                left join v.banner banner
+                left join v.thumbnail thumbnail
+                left join v.thumbnailHalf thumbnailHalf
+            where v.id = :id
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            Pageable page
-    );
+    Optional<String> findMediaChecksum(@Param("id") String id, @Param("type") String type);
 }
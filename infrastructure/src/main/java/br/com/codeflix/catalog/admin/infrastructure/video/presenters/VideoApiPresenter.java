@@ -1,5 +1,6 @@
 package br.com.codeflix.catalog.admin.infrastructure.video.presenters;
 
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoOutput;
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
@@ -11,6 +12,10 @@ import br.com.codeflix.catalog.admin.infrastructure.video.models.*;
 
 public interface VideoApiPresenter {
 
+    static BulkCreateVideoResponse present(final long line, final BulkCreateVideoOutput output) {
+        return new BulkCreateVideoResponse(line, output.id(), output.errors());
+    }
+
     static VideoResponse present(final VideoOutput output) {
         return new VideoResponse(
                 output.id(),
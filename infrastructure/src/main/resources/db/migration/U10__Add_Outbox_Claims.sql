@@ -0,0 +1,5 @@
+ALTER TABLE events_outbox DROP COLUMN failure;
+
+ALTER TABLE events_outbox DROP COLUMN dead_lettered_at;
+
+ALTER TABLE events_outbox DROP COLUMN claimed_until;
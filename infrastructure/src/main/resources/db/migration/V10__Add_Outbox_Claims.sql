@@ -0,0 +1,5 @@
+ALTER TABLE events_outbox ADD COLUMN claimed_until DATETIME(6) NULL;
+
+ALTER TABLE events_outbox ADD COLUMN dead_lettered_at DATETIME(6) NULL;
+
+ALTER TABLE events_outbox ADD COLUMN failure VARCHAR(255) NULL;
@@ -0,0 +1,9 @@
+CREATE TABLE events_outbox (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    destination VARCHAR(100) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_events_outbox_created_at ON events_outbox (created_at, id);
@@ -0,0 +1,7 @@
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE cast_members ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE videos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
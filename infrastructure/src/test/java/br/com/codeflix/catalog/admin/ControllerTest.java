@@ -1,6 +1,7 @@
 package br.com.codeflix.catalog.admin;
 
 import br.com.codeflix.catalog.admin.infrastructure.configuration.ObjectMapperConfig;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.security.EagerSecurityHeaders;
 import org.junit.jupiter.api.Tag;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -14,7 +15,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("integration-test")
 @WebMvcTest
-@Import(ObjectMapperConfig.class)
+@Import({ObjectMapperConfig.class, EagerSecurityHeaders.class})
 @Tag("integrationTest")
 public @interface ControllerTest {
 
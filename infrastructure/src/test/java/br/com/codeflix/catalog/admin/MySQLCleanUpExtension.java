@@ -3,6 +3,7 @@ package br.com.codeflix.catalog.admin;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
 import br.com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
 import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -19,6 +20,7 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                appContext.getBean(OutboxEventRepository.class),
                 appContext.getBean(VideoRepository.class),
                 appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
@@ -2,6 +2,7 @@ package br.com.codeflix.catalog.admin;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
@@ -14,6 +15,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("integration-test")
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ComponentScan(
         basePackages = "br.com.codeflix.catalog.admin",
         useDefaultFilters = false,
@@ -0,0 +1,99 @@
+package br.com.codeflix.catalog.admin.e2e.category;
+
+import br.com.codeflix.catalog.admin.E2ETest;
+import br.com.codeflix.catalog.admin.e2e.MockDsl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@E2ETest
+@Testcontainers
+public class CategoryFullTextSearchE2ETest implements MockDsl {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+        registry.add("search.full-text", () -> true);
+    }
+
+    @Override
+    public MockMvc mvc() {
+        return this.mvc;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+
+        givenACategory("Filmes de ação", "Os melhores filmes", true);
+        givenACategory("Séries de TV", null, true);
+        givenACategory("Documentários", "The best of documentaries", true);
+        givenACategory("Drama & Romance", null, true);
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByWordPrefix() throws Exception {
+        listCategories(0, 10, "film")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Filmes de ação")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByShortWords() throws Exception {
+        listCategories(0, 10, "tv")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Séries de TV")));
+
+        listCategories(0, 10, "séries tv")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Séries de TV")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByStopwords() throws Exception {
+        listCategories(0, 10, "the")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Documentários")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByPunctuation() throws Exception {
+        listCategories(0, 10, "&")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Drama & Romance")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToListAllCategoriesWithAnEmptySearch() throws Exception {
+        listCategories(0, 10, "")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(4)))
+                .andExpect(jsonPath("$.items", hasSize(4)));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConflictRetryTest {
+
+    @Test
+    public void givenAConflictThatClears_whenCallsRun_shouldRetryUntilItSucceeds() {
+        final var attempts = new AtomicInteger();
+
+        new ConflictRetry(3, 0).run(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw ConflictException.with(Video.class, VideoID.from("123"));
+            }
+        });
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void givenAConflictThatPersists_whenCallsRun_shouldRethrowItAfterTheLastAttempt() {
+        final var attempts = new AtomicInteger();
+        final var expectedException = ConflictException.with(Video.class, VideoID.from("123"));
+
+        final var actualException = assertThrows(ConflictException.class, () -> new ConflictRetry(2, 0).run(() -> {
+            attempts.incrementAndGet();
+            throw expectedException;
+        }));
+
+        assertSame(expectedException, actualException);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void givenALockFailure_whenCallsRun_shouldRetryIt() {
+        final var attempts = new AtomicInteger();
+
+        new ConflictRetry(2, 0).run(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new CannotAcquireLockException("deadlock");
+            }
+        });
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void givenAFailureOtherThanAConflict_whenCallsRun_shouldNotRetryIt() {
+        final var attempts = new AtomicInteger();
+
+        assertThrows(NotFoundException.class, () -> new ConflictRetry(3, 0).run(() -> {
+            attempts.incrementAndGet();
+            throw NotFoundException.with(Video.class, VideoID.from("123"));
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void givenZeroAttempts_whenCreatesIt_shouldThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new ConflictRetry(0, 0));
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.mockito.Mockito.*;
+
+public class DeliveryFailuresTest {
+
+    private static final long DELIVERY_TAG = 7L;
+
+    private Channel channel;
+    private UpdateMediaStatusCommand command;
+
+    @BeforeEach
+    public void setUp() {
+        this.channel = mock(Channel.class);
+        this.command = UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, "123", "456", "folder", "file.mp4");
+    }
+
+    @Test
+    public void givenAMissingVideo_whenRejects_shouldNotRequeue() throws IOException {
+        DeliveryFailures.reject(channel, DELIVERY_TAG, command, NotFoundException.with(Video.class, VideoID.from("123")));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, false);
+    }
+
+    @Test
+    public void givenAConflict_whenRejects_shouldRequeue() throws IOException {
+        DeliveryFailures.reject(channel, DELIVERY_TAG, command, ConflictException.with(Video.class, VideoID.from("123")));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, true);
+    }
+
+    @Test
+    public void givenAnInfrastructureError_whenRejects_shouldRequeue() throws IOException {
+        DeliveryFailures.reject(channel, DELIVERY_TAG, command, new IllegalStateException("connection refused"));
+
+        verify(channel).basicNack(DELIVERY_TAG, false, true);
+    }
+
+    @Test
+    public void givenAClosedChannel_whenAcks_shouldLogInsteadOfThrowing() throws IOException {
+        doThrow(new IOException("channel closed")).when(channel).basicAck(anyLong(), anyBoolean());
+
+        DeliveryFailures.ack(channel, DELIVERY_TAG);
+
+        verify(channel).basicAck(DELIVERY_TAG, false);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NodeQueueDeclarerTest {
+
+    private ConnectionFactory connectionFactory;
+    private Connection connection;
+    private Channel channel;
+    private AnonymousQueue queue;
+    private Binding binding;
+    private NodeQueueDeclarer declarer;
+
+    @BeforeEach
+    public void setUp() {
+        this.connectionFactory = mock(ConnectionFactory.class);
+        this.connection = mock(Connection.class);
+        this.channel = mock(Channel.class);
+        this.queue = new AnonymousQueue();
+
+        when(connection.createChannel(false)).thenReturn(channel);
+
+        this.binding = new Binding(queue.getName(), Binding.DestinationType.QUEUE, "reference.data.events", "", null);
+        this.declarer = new NodeQueueDeclarer(connectionFactory, queue, binding);
+    }
+
+    @Test
+    public void givenTheDeclarer_whenInitialized_shouldListenForNewConnections() {
+        declarer.afterPropertiesSet();
+
+        verify(connectionFactory).addConnectionListener(declarer);
+    }
+
+    @Test
+    public void givenANewConnection_whenCreated_shouldDeclareTheQueueAndItsBinding() throws Exception {
+        declarer.onCreate(connection);
+
+        verify(channel).queueDeclare(queue.getName(), false, true, true, queue.getArguments());
+        verify(channel).queueBind(queue.getName(), "reference.data.events", "", binding.getArguments());
+        verify(channel).close();
+    }
+
+    @Test
+    public void givenAFailingDeclaration_whenCreated_shouldLogInsteadOfBreakingTheConnection() throws Exception {
+        when(channel.queueDeclare(anyString(), anyBoolean(), anyBoolean(), anyBoolean(), any())).thenThrow(new IOException("access refused"));
+
+        declarer.onCreate(connection);
+
+        verify(channel, never()).queueBind(anyString(), eq("reference.data.events"), anyString(), any());
+        verify(channel).close();
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ReferenceDataListenerTest {
+
+    private ReferenceCacheInvalidator invalidator;
+    private ReferenceDataListener listener;
+
+    @BeforeEach
+    public void setUp() {
+        this.invalidator = mock(ReferenceCacheInvalidator.class);
+        this.listener = new ReferenceDataListener(invalidator);
+    }
+
+    @Test
+    public void givenAValidMessage_whenCallsListener_shouldEvictTheChangedIds() {
+        final var expectedChange = ReferenceDataChanged.of("genres", List.of("123"));
+
+        listener.onReferenceDataChanged(Json.writeValueAsString(expectedChange));
+
+        verify(invalidator).evict(expectedChange);
+    }
+
+    @Test
+    public void givenAnInvalidMessage_whenCallsListener_shouldDropItWithoutEvicting() {
+        listener.onReferenceDataChanged("{not json");
+
+        verify(invalidator, never()).evict(any());
+    }
+}
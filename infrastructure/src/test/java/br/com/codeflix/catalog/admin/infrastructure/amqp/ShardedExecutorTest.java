@@ -0,0 +1,96 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedExecutorTest {
+
+    @Test
+    public void givenTasksForManyKeys_whenCallsExecute_shouldKeepOrderPerKey() throws InterruptedException {
+        final var executor = new ShardedExecutor("test", 4);
+        final var expectedKeys = 20;
+        final var expectedTasksPerKey = 50;
+        final var executed = new ConcurrentHashMap<String, List<Integer>>();
+
+        for (int i = 0; i < expectedTasksPerKey; i++) {
+            for (int k = 0; k < expectedKeys; k++) {
+                final var key = "video-" + k;
+                final var sequence = i;
+                executor.execute(key, () -> executed
+                        .computeIfAbsent(key, ignored -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(sequence));
+            }
+        }
+
+        executor.shutdown();
+
+        assertEquals(expectedKeys, executed.size());
+        executed.values().forEach(sequences -> {
+            assertEquals(expectedTasksPerKey, sequences.size());
+            for (int i = 0; i < expectedTasksPerKey; i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        });
+    }
+
+    @Test
+    public void givenABlockedKey_whenCallsExecute_shouldRunOtherShardsInParallel() throws InterruptedException {
+        final var executor = new ShardedExecutor("test", 2);
+        final var release = new CountDownLatch(1);
+        final var threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final var keysByShard = keysOnDistinctShards(2);
+        final var done = new CountDownLatch(1);
+
+        executor.execute(keysByShard.get(0), () -> {
+            threads.add(Thread.currentThread().getName());
+            awaitQuietly(release);
+        });
+        executor.execute(keysByShard.get(1), () -> {
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        release.countDown();
+        executor.shutdown();
+
+        assertEquals(Set.of("test-1", "test-2"), threads);
+    }
+
+    @Test
+    public void givenInvalidShards_whenCallsNew_shouldThrow() {
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> new ShardedExecutor("test", 0));
+
+        assertEquals("'shards' must be greater than zero", actualException.getMessage());
+    }
+
+    private static List<String> keysOnDistinctShards(final int shards) {
+        final var keys = new HashMap<Integer, String>();
+        for (int i = 0; keys.size() < shards; i++) {
+            final var key = "video-" + i;
+            keys.putIfAbsent(Math.floorMod(key.hashCode(), shards), key);
+        }
+        return List.copyOf(keys.values());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
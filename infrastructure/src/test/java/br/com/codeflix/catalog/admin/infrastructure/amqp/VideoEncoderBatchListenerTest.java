@@ -0,0 +1,164 @@
+package br.com.codeflix.catalog.admin.infrastructure.amqp;
+
+import br.com.codeflix.catalog.admin.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
+import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.utils.IdUtils;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCompleted;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoMessage;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class VideoEncoderBatchListenerTest {
+
+    private BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
+    private UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private Channel channel;
+    private VideoEncoderBatchListener listener;
+
+    @BeforeEach
+    public void setUp() {
+        this.batchUpdateMediaStatusUseCase = mock(BatchUpdateMediaStatusUseCase.class);
+        this.updateMediaStatusUseCase = mock(UpdateMediaStatusUseCase.class);
+        this.transactionManager = mock(PlatformTransactionManager.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.channel = mock(Channel.class);
+        this.listener = new VideoEncoderBatchListener(
+                batchUpdateMediaStatusUseCase,
+                updateMediaStatusUseCase,
+                transactionManager,
+                new ConflictRetry(2, 0),
+                meterRegistry
+        );
+    }
+
+    @Test
+    public void givenCompletedResults_whenCallsListener_shouldApplyThemInOneTransaction() throws Exception {
+        final var expectedVideoId = IdUtils.uuid();
+        final var expectedResourceId = IdUtils.uuid();
+        final var expectedTrailerId = IdUtils.uuid();
+
+        final var messages = List.of(
+                message(1, completed(expectedVideoId, expectedResourceId)),
+                message(2, completed(expectedVideoId, expectedTrailerId)),
+                message(3, new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found"))
+        );
+
+        this.listener.onVideoEncodedMessages(messages, channel);
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchUpdateMediaStatusUseCase, times(1)).execute(captor.capture());
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(updateMediaStatusUseCase, never()).execute(any());
+
+        final var actualCommands = captor.getValue();
+        assertEquals(2, actualCommands.size());
+        assertEquals(expectedResourceId, actualCommands.get(0).resourceId());
+        assertEquals(expectedTrailerId, actualCommands.get(1).resourceId());
+
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+        verify(channel).basicAck(3, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        assertEquals(1, meterRegistry.get("video.encoder.batches").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsListener_shouldFallBackToOneByOne() throws Exception {
+        final var missingVideoId = IdUtils.uuid();
+
+        doThrow(NotFoundException.with(Video.class, VideoID.from(missingVideoId)))
+                .when(batchUpdateMediaStatusUseCase).execute(any());
+        doThrow(NotFoundException.with(Video.class, VideoID.from(missingVideoId)))
+                .when(updateMediaStatusUseCase).execute(argThat(cmd -> missingVideoId.equals(cmd.videoId())));
+
+        final var messages = List.of(
+                message(1, completed(IdUtils.uuid(), IdUtils.uuid())),
+                message(2, completed(missingVideoId, IdUtils.uuid()))
+        );
+
+        this.listener.onVideoEncodedMessages(messages, channel);
+
+        verify(transactionManager, times(1)).rollback(any());
+        verify(updateMediaStatusUseCase, times(2)).execute(any());
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, false);
+        assertEquals(1, meterRegistry.get("video.encoder.batches").tag("outcome", "fallback").timer().count());
+    }
+
+    @Test
+    public void givenAConcurrentWriteConflict_whenCallsListener_shouldRetryTheBatch() throws Exception {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(batchUpdateMediaStatusUseCase).execute(any());
+
+        final var messages = List.of(
+                message(1, completed(IdUtils.uuid(), IdUtils.uuid()))
+        );
+
+        this.listener.onVideoEncodedMessages(messages, channel);
+
+        verify(batchUpdateMediaStatusUseCase, times(2)).execute(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(updateMediaStatusUseCase, never()).execute(any());
+        verify(channel).basicAck(1, false);
+        assertEquals(1, meterRegistry.get("video.encoder.batches").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    public void givenAnInvalidPayload_whenCallsListener_shouldRejectItWithoutRequeue() throws Exception {
+        final var messages = List.of(
+                new Message("not-json".getBytes(StandardCharsets.UTF_8), properties(7))
+        );
+
+        this.listener.onVideoEncodedMessages(messages, channel);
+
+        verify(channel).basicNack(7, false, false);
+        verifyNoInteractions(batchUpdateMediaStatusUseCase, updateMediaStatusUseCase, transactionManager);
+    }
+
+    private static VideoEncoderCompleted completed(final String videoId, final String resourceId) {
+        return new VideoEncoderCompleted(
+                videoId,
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", resourceId, "any.mp4")
+        );
+    }
+
+    private static Message message(final long deliveryTag, final Object payload) {
+        return new Message(Json.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8), properties(deliveryTag));
+    }
+
+    private static MessageProperties properties(final long deliveryTag) {
+        final var properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return properties;
+    }
+}
@@ -3,8 +3,11 @@ package br.com.codeflix.catalog.admin.infrastructure.amqp;
 import br.com.codeflix.catalog.admin.AmqpTest;
 import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusCommand;
 import br.com.codeflix.catalog.admin.application.video.media.update.UpdateMediaStatusUseCase;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.utils.IdUtils;
 import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.annotations.VideoEncodedQueue;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
 import br.com.codeflix.catalog.admin.infrastructure.configuration.properties.amqp.QueueProperties;
@@ -12,6 +15,7 @@ import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderCom
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoEncoderError;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoMessage;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
@@ -24,7 +28,13 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @AmqpTest
@@ -44,7 +54,7 @@ public class VideoEncoderListenerTest {
     private QueueProperties queueProperties;
 
     @Test
-    public void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
+    public void givenErrorResult_whenCallsListener_shouldProcess() throws Exception {
         final var expectedError = new VideoEncoderError(
                 new VideoMessage("123", "abc"),
                 "Video not found"
@@ -61,10 +71,56 @@ public class VideoEncoderListenerTest {
 
         final var actualMessage = (String) invocationData.getArguments()[0];
         assertEquals(expectedMessage, actualMessage);
+
+        final var channel = (Channel) invocationData.getArguments()[1];
+        verify(channel, atLeastOnce()).basicAck(anyLong(), eq(false));
+        verify(updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenCompletedResultAndFailingUseCase_whenCallsListener_shouldRequeueIt() throws Exception {
+        final var aResult = new VideoEncoderCompleted(
+                IdUtils.uuid(),
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", IdUtils.uuid(), "any.mp4")
+        );
+
+        doThrow(new IllegalStateException("Gateway error")).when(updateMediaStatusUseCase).execute(any());
+
+        this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), Json.writeValueAsString(aResult));
+
+        final var invocationData = harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+        assertNotNull(invocationData);
+
+        final var channel = (Channel) invocationData.getArguments()[1];
+        verify(channel, timeout(1000)).basicNack(anyLong(), eq(false), eq(true));
     }
 
     @Test
-    public void givenCompletedResult_whenCallsListener_shouldCallUseCase() throws InterruptedException {
+    public void givenCompletedResultOfAMissingVideo_whenCallsListener_shouldRejectItWithoutRequeue() throws Exception {
+        final var aResult = new VideoEncoderCompleted(
+                IdUtils.uuid(),
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", IdUtils.uuid(), "any.mp4")
+        );
+
+        doThrow(NotFoundException.with(Video.class, VideoID.from(aResult.id())))
+                .when(updateMediaStatusUseCase).execute(any());
+
+        this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), Json.writeValueAsString(aResult));
+
+        final var invocationData = harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+        assertNotNull(invocationData);
+
+        final var channel = (Channel) invocationData.getArguments()[1];
+        verify(channel, timeout(1000)).basicNack(anyLong(), eq(false), eq(false));
+        verify(channel, never()).basicNack(anyLong(), eq(false), eq(true));
+    }
+
+    @Test
+    public void givenCompletedResult_whenCallsListener_shouldCallUseCase() throws Exception {
         final var expectedId = IdUtils.uuid();
         final var expectedOutputBucket = "codeeducationtest";
         final var expectedStatus = MediaStatus.COMPLETED;
@@ -90,7 +146,10 @@ public class VideoEncoderListenerTest {
         assertEquals(expectedMessage, actualMessage);
 
         final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
-        verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
+        verify(updateMediaStatusUseCase, timeout(1000)).execute(cmdCaptor.capture());
+
+        final var channel = (Channel) invocationData.getArguments()[1];
+        verify(channel, timeout(1000)).basicAck(anyLong(), eq(false));
 
         final var actualCommand = cmdCaptor.getValue();
         assertEquals(expectedStatus, actualCommand.status());
@@ -7,19 +7,24 @@ import br.com.codeflix.catalog.admin.application.castmember.create.DefaultCreate
 import br.com.codeflix.catalog.admin.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.CastMemberOutput;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.retrieve.get.DefaultGetCastMemberLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.CastMemberListOutput;
 import br.com.codeflix.catalog.admin.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.update.DefaultUpdateCastMemberUseCase;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.BulkUpsertCastMemberOutput;
+import br.com.codeflix.catalog.admin.application.castmember.upsert.DefaultBulkUpsertCastMemberUseCase;
 import br.com.codeflix.catalog.admin.application.castmember.update.UpdateCastMemberOutput;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.CreateCastMemberRequest;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
+import br.com.codeflix.catalog.admin.infrastructure.castmember.models.UpsertCastMemberRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +32,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,6 +42,8 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.strongETag;
+import static org.springframework.http.HttpHeaders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -58,12 +66,18 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
+    @MockBean
+    private DefaultGetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
+
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultBulkUpsertCastMemberUseCase bulkUpsertCastMemberUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         final var expectedName = name();
@@ -152,6 +166,52 @@ public class CastMemberAPITest {
         verify(getCastMemberByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAnUnchangedETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        final var expected = CastMember.newMember(name(), type());
+        final var expectedId = expected.getId().getValue();
+        final var expectedLastModified = expected.getUpdatedAt();
+        final var expectedETag = strongETag(expectedLastModified);
+
+        when(getCastMemberLastModifiedUseCase.execute(any())).thenReturn(expectedLastModified);
+
+        final var request = get("/cast_members/{id}", expectedId)
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCastMemberLastModifiedUseCase).execute(eq(expectedId));
+        verify(getCastMemberByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAStaleETag_whenCallsGetById_shouldReturnItWithValidators() throws Exception {
+        final var expected = CastMember.newMember(name(), type());
+        final var expectedId = expected.getId().getValue();
+        final var expectedETag = strongETag(expected.getUpdatedAt());
+
+        when(getCastMemberLastModifiedUseCase.execute(any())).thenReturn(expected.getUpdatedAt());
+        when(getCastMemberByIdUseCase.execute(any())).thenReturn(CastMemberOutput.from(expected));
+
+        final var request = get("/cast_members/{id}", expectedId)
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .header(IF_NONE_MATCH, "W/\"stale\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(getCastMemberByIdUseCase).execute(eq(expectedId));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetByIdAndCastMemberDoesntExists_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "CastMember with ID 123 was not found";
@@ -203,6 +263,46 @@ public class CastMemberAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCastMember_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+        final var expectedErrorMessage = "CastMember with ID 123 was modified concurrently";
+
+        when(updateCastMemberUseCase.execute(any())).thenThrow(ConflictException.with(CastMember.class, expectedId));
+
+        final var request = put("/cast_members/{id}", expectedId.getValue())
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .header(IF_MATCH, strongETag(expectedUpdatedAt))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCastMemberRequest(name(), type())));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateCastMemberUseCase).execute(argThat(cmd -> Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())));
+    }
+
+    @Test
+    public void givenAConcurrentWriteWithoutIfMatch_whenCallsUpdateCastMember_shouldReturnConflict() throws Exception {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedErrorMessage = "CastMember with ID 123 was modified concurrently";
+
+        when(updateCastMemberUseCase.execute(any())).thenThrow(ConflictException.with(CastMember.class, expectedId));
+
+        final var request = put("/cast_members/{id}", expectedId.getValue())
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCastMemberRequest(name(), type())));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAnInvalidName_whenCallsUpdateCastMember_shouldReturnNotification() throws Exception {
         final var member = CastMember.newMember("Vin Di", CastMemberType.DIRECTOR);
@@ -377,4 +477,42 @@ public class CastMemberAPITest {
                         && Objects.equals(expectedDirection, aQuery.direction())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsUpsertCastMembers_shouldReturnOneResultPerItem() throws Exception {
+        final var expectedErrorMessage = "'type' should not be null";
+
+        when(bulkUpsertCastMemberUseCase.execute(any())).thenReturn(List.of(
+                new BulkUpsertCastMemberOutput("123", List.of()),
+                BulkUpsertCastMemberOutput.failed("456", List.of(new Error(expectedErrorMessage)))
+        ));
+
+        final var input = List.of(
+                new UpsertCastMemberRequest("123", "Vin Diesel", CastMemberType.ACTOR),
+                new UpsertCastMemberRequest("456", "Quentin Tarantino", null)
+        );
+
+        final var request = put("/cast_members/bulk")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(input));
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].id", equalTo("123")),
+                        jsonPath("$[0].errors", hasSize(0)),
+                        jsonPath("$[1].id", equalTo("456")),
+                        jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage))
+                );
+
+        verify(bulkUpsertCastMemberUseCase).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("123", cmds.get(0).id())
+                && CastMemberType.ACTOR == cmds.get(0).type()
+                && Objects.equals("456", cmds.get(1).id())
+                && cmds.get(1).type() == null
+        ));
+    }
+}
@@ -7,12 +7,16 @@ import br.com.codeflix.catalog.admin.application.category.create.CreateCategoryU
 import br.com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import br.com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
 import br.com.codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import br.com.codeflix.catalog.admin.application.category.upsert.BulkUpsertCategoryOutput;
+import br.com.codeflix.catalog.admin.application.category.upsert.BulkUpsertCategoryUseCase;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
@@ -20,6 +24,7 @@ import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import br.com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.codeflix.catalog.admin.infrastructure.category.models.UpsertCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +32,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,6 +42,8 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.strongETag;
+import static org.springframework.http.HttpHeaders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -55,6 +63,9 @@ public class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -64,6 +75,9 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoryUseCase listCategoryUseCase;
 
+    @MockBean
+    private BulkUpsertCategoryUseCase bulkUpsertCategoryUseCase;
+
     @Test
     public void givenAValidCommand_whenCallCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -198,6 +212,52 @@ public class CategoryAPITest {
         verify(getCategoryByIdUseCase).execute(eq(expectedId.getValue()));
     }
 
+    @Test
+    public void givenAnUnchangedETag_whenCallGetCategory_shouldReturnNotModified() throws Exception {
+        final var expected = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = expected.getId().getValue();
+        final var expectedLastModified = expected.getUpdatedAt();
+        final var expectedETag = strongETag(expectedLastModified);
+
+        when(getCategoryLastModifiedUseCase.execute(any())).thenReturn(expectedLastModified);
+
+        final var request = get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryLastModifiedUseCase).execute(eq(expectedId));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAStaleETag_whenCallGetCategory_shouldReturnItWithValidators() throws Exception {
+        final var expected = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = expected.getId().getValue();
+        final var expectedETag = strongETag(expected.getUpdatedAt());
+
+        when(getCategoryLastModifiedUseCase.execute(any())).thenReturn(expected.getUpdatedAt());
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(expected));
+
+        final var request = get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(IF_NONE_MATCH, "W/\"stale\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(getCategoryByIdUseCase).execute(eq(expectedId));
+    }
+
     @Test
     public void givenAInvalidId_whenCallGetCategory_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 12345 was not found";
@@ -281,6 +341,60 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = "12345";
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+        final var expectedErrorMessage = "Category with ID 12345 was modified concurrently";
+
+        when(updateCategoryUseCase.execute(any())).thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId)));
+
+        final var command = new UpdateCategoryRequest("Filmes", null, true);
+
+        final var request = put("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(IF_MATCH, strongETag(expectedUpdatedAt))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(command));
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpectAll(
+                        status().isPreconditionFailed(),
+                        jsonPath("$.message", equalTo(expectedErrorMessage))
+                );
+
+        verify(updateCategoryUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())
+        ));
+    }
+
+    @Test
+    public void givenAWeakIfMatch_whenCallUpdateCategory_shouldNotMatchAnyUpdatedAt() throws Exception {
+        final var expectedId = "12345";
+        final var issuedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+
+        when(updateCategoryUseCase.execute(any())).thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId)));
+
+        final var command = new UpdateCategoryRequest("Filmes", null, true);
+
+        final var request = put("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(IF_MATCH, "W/" + strongETag(issuedUpdatedAt))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(command));
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase).execute(argThat(cmd ->
+                Objects.equals(Instant.MIN, cmd.expectedUpdatedAt())
+        ));
+    }
+
     @Test
     public void givenAnInvalidName_whenCallUpdateCategory_shouldReturnDomainException() throws Exception {
         final var expectedId = "12345";
@@ -382,4 +496,42 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsUpsertCategories_shouldReturnOneResultPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        when(bulkUpsertCategoryUseCase.execute(any())).thenReturn(List.of(
+                new BulkUpsertCategoryOutput("123", List.of()),
+                BulkUpsertCategoryOutput.failed("456", List.of(new Error(expectedErrorMessage)))
+        ));
+
+        final var input = List.of(
+                new UpsertCategoryRequest("123", "Filmes", "A categoria mais assistida", null),
+                new UpsertCategoryRequest("456", null, null, false)
+        );
+
+        final var request = put("/categories/bulk")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(input));
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].id", equalTo("123")),
+                        jsonPath("$[0].errors", hasSize(0)),
+                        jsonPath("$[1].id", equalTo("456")),
+                        jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage))
+                );
+
+        verify(bulkUpsertCategoryUseCase).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("123", cmds.get(0).id())
+                && cmds.get(0).isActive()
+                && Objects.equals("456", cmds.get(1).id())
+                && !cmds.get(1).isActive()
+        ));
+    }
 }
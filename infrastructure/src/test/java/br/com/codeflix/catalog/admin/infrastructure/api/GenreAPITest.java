@@ -7,19 +7,25 @@ import br.com.codeflix.catalog.admin.application.genre.create.CreateGenreUseCase
 import br.com.codeflix.catalog.admin.application.genre.delete.DeleteGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GenreOutput;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import br.com.codeflix.catalog.admin.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.GenreListOutput;
 import br.com.codeflix.catalog.admin.application.genre.retrieve.list.ListGenreUseCase;
 import br.com.codeflix.catalog.admin.application.genre.update.UpdateGenreOutput;
 import br.com.codeflix.catalog.admin.application.genre.update.UpdateGenreUseCase;
+import br.com.codeflix.catalog.admin.application.genre.upsert.BulkUpsertGenreUseCase;
+import br.com.codeflix.catalog.admin.application.genre.upsert.BulkUpsertGenreOutput;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.domain.validation.handler.Notification;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.CreateGenreRequest;
 import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpdateGenreRequest;
+import br.com.codeflix.catalog.admin.infrastructure.genre.models.UpsertGenreRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,12 +33,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.strongETag;
+import static org.springframework.http.HttpHeaders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -52,6 +61,9 @@ public class GenreAPITest {
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
+    @MockBean
+    private GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
+
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
 
@@ -61,6 +73,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private BulkUpsertGenreUseCase bulkUpsertGenreUseCase;
+
     @Test
     public void givenAValidCommand_whenCallCreateGenre_shouldReturnGenreId() throws Exception {
         final var expectedName = "Ação";
@@ -163,6 +178,52 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAnUnchangedETag_whenCallGetGenreById_shouldReturnNotModified() throws Exception {
+        final var expected = Genre.newGenre("Ação", true);
+        final var expectedId = expected.getId().getValue();
+        final var expectedLastModified = expected.getUpdatedAt();
+        final var expectedETag = strongETag(expectedLastModified);
+
+        when(getGenreLastModifiedUseCase.execute(any())).thenReturn(expectedLastModified);
+
+        final var request = get("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getGenreLastModifiedUseCase).execute(eq(expectedId));
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAStaleETag_whenCallGetGenreById_shouldReturnItWithValidators() throws Exception {
+        final var expected = Genre.newGenre("Ação", true);
+        final var expectedId = expected.getId().getValue();
+        final var expectedETag = strongETag(expected.getUpdatedAt());
+
+        when(getGenreLastModifiedUseCase.execute(any())).thenReturn(expected.getUpdatedAt());
+        when(getGenreByIdUseCase.execute(any())).thenReturn(GenreOutput.from(expected));
+
+        final var request = get("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(IF_NONE_MATCH, "W/\"stale\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(getGenreByIdUseCase).execute(eq(expectedId));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallGetGenreById_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Genre with ID 123 was not found";
@@ -216,6 +277,48 @@ public class GenreAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallUpdateGenre_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = "123";
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+        final var expectedErrorMessage = "Genre with ID 123 was modified concurrently";
+
+        when(updateGenreUseCase.execute(any())).thenThrow(ConflictException.with(Genre.class, GenreID.from(expectedId)));
+
+        final var request = put("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .header(IF_MATCH, strongETag(expectedUpdatedAt))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new UpdateGenreRequest("Ação", List.of(), true)));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateGenreUseCase).execute(argThat(cmd -> Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())));
+    }
+
+    @Test
+    public void givenAConcurrentWriteWithoutIfMatch_whenCallUpdateGenre_shouldReturnConflict() throws Exception {
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Genre with ID 123 was modified concurrently";
+
+        when(updateGenreUseCase.execute(any())).thenThrow(ConflictException.with(Genre.class, GenreID.from(expectedId)));
+
+        final var request = put("/genres/{id}", expectedId)
+                .with(ApiTest.GENRES_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new UpdateGenreRequest("Ação", List.of(), true)));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateGenreUseCase).execute(argThat(cmd -> cmd.expectedUpdatedAt() == null));
+    }
+
     @Test
     public void givenAnInvalidName_whenCallUpdateGenre_shouldReturnNotification() throws Exception {
         final String expectedName = null;
@@ -317,4 +420,44 @@ public class GenreAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsUpsertGenres_shouldReturnOneResultPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        when(bulkUpsertGenreUseCase.execute(any())).thenReturn(List.of(
+                new BulkUpsertGenreOutput("123", List.of()),
+                BulkUpsertGenreOutput.failed("456", List.of(new Error(expectedErrorMessage)))
+        ));
+
+        final var input = List.of(
+                new UpsertGenreRequest("123", "Ação", List.of("789"), null),
+                new UpsertGenreRequest("456", null, null, false)
+        );
+
+        final var request = put("/genres/bulk")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(input));
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].id", equalTo("123")),
+                        jsonPath("$[0].errors", hasSize(0)),
+                        jsonPath("$[1].id", equalTo("456")),
+                        jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage))
+                );
+
+        verify(bulkUpsertGenreUseCase).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("123", cmds.get(0).id())
+                && cmds.get(0).isActive()
+                && Objects.equals(List.of("789"), cmds.get(0).categories())
+                && Objects.equals("456", cmds.get(1).id())
+                && !cmds.get(1).isActive()
+                && cmds.get(1).categories().isEmpty()
+        ));
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.codeflix.catalog.admin.infrastructure.api;
+
+import br.com.codeflix.catalog.admin.infrastructure.configuration.WebServerConfig;
+import br.com.codeflix.catalog.admin.infrastructure.video.export.VideoCatalogExporter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+// a real Undertow, MockMvc never times out an async request
+@ActiveProfiles("integration-test")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("integrationTest")
+public class StreamingTimeoutTest {
+
+    private static final Duration UNDERTOW_DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @MockBean
+    private VideoCatalogExporter videoCatalogExporter;
+
+    @Test
+    public void givenAnExportSlowerThanTheServerDefaultTimeout_whenCallsExport_shouldStreamItToTheEnd() throws Exception {
+        final var expectedLines = 8;
+        final var pause = UNDERTOW_DEFAULT_TIMEOUT.plusSeconds(2).dividedBy(expectedLines);
+
+        when(jwtDecoder.decode(anyString())).thenReturn(Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("admin")
+                .claim("realm_access", Map.of("roles", List.of("catalog_admin")))
+                .build());
+
+        doAnswer(invocation -> {
+            final var out = invocation.getArgument(1, OutputStream.class);
+            for (int i = 0; i < expectedLines; i++) {
+                Thread.sleep(pause.toMillis());
+                out.write("{\"line\":%d}\n".formatted(i).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            return null;
+        }).when(videoCatalogExporter).export(any(), any());
+
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/videos/export".formatted(port)))
+                .header("Authorization", "Bearer token")
+                .timeout(UNDERTOW_DEFAULT_TIMEOUT.multipliedBy(2))
+                .GET()
+                .build();
+
+        final var response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(expectedLines, response.body().count());
+    }
+}
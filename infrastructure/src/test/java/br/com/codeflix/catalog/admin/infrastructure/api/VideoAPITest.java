@@ -6,6 +6,7 @@ import br.com.codeflix.catalog.admin.application.video.create.CreateVideoCommand
 import br.com.codeflix.catalog.admin.application.video.create.CreateVideoOutput;
 import br.com.codeflix.catalog.admin.application.video.create.CreateVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.delete.DeleteVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaChecksumUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaCommand;
 import br.com.codeflix.catalog.admin.application.video.media.get.GetMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.media.get.MediaOutput;
@@ -13,6 +14,7 @@ import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaC
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaOutput;
 import br.com.codeflix.catalog.admin.application.video.media.upload.UploadMediaUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.ListVideoUseCase;
 import br.com.codeflix.catalog.admin.application.video.retrieve.list.VideoListOutput;
@@ -22,12 +24,15 @@ import br.com.codeflix.catalog.admin.application.video.update.UpdateVideoUseCase
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
 import br.com.codeflix.catalog.admin.domain.category.Fixture;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
 import br.com.codeflix.catalog.admin.domain.exceptions.NotificationException;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
 import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.validation.Error;
 import br.com.codeflix.catalog.admin.domain.video.*;
+import br.com.codeflix.catalog.admin.infrastructure.video.bulk.BulkVideoCreator;
+import br.com.codeflix.catalog.admin.infrastructure.video.export.VideoCatalogExporter;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
 import br.com.codeflix.catalog.admin.infrastructure.video.models.UpdateVideoRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,9 +45,16 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
@@ -52,10 +64,13 @@ import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.descr
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.*;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.*;
 import static br.com.codeflix.catalog.admin.domain.utils.CollectionUtils.mapTo;
+import static br.com.codeflix.catalog.admin.infrastructure.utils.ConditionalRequestUtils.strongETag;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpHeaders.*;
@@ -77,6 +92,9 @@ public class VideoAPITest {
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
+    @MockBean
+    private GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
+
     @MockBean
     private UpdateVideoUseCase updateVideoUseCase;
 
@@ -89,9 +107,18 @@ public class VideoAPITest {
     @MockBean
     private GetMediaUseCase getMediaUseCase;
 
+    @MockBean
+    private GetMediaChecksumUseCase getMediaChecksumUseCase;
+
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private BulkVideoCreator bulkVideoCreator;
+
+    @MockBean
+    private VideoCatalogExporter videoCatalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
         final var wesley = wesley();
@@ -298,6 +325,35 @@ public class VideoAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenAStreamOfJsonLines_whenCallsCreateBulk_shouldStreamTheCreatorOutputAsNdjson() throws Exception {
+        final var payload = "{\"title\":\"System Design\"}\n";
+        final var expectedBody = "{\"line\":1,\"id\":\"123\",\"errors\":[]}\n";
+
+        doAnswer(invocation -> {
+            assertEquals(payload, new String(invocation.getArgument(0, InputStream.class).readAllBytes()));
+            invocation.getArgument(1, OutputStream.class).write(expectedBody.getBytes());
+            return null;
+        }).when(bulkVideoCreator).create(any(), any());
+
+        final var request = post("/videos/bulk")
+                .with(ApiTest.ADMIN_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .content(payload);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(expectedBody));
+
+        verify(bulkVideoCreator).create(any(), any());
+    }
+
     @Test
     public void givenAValidId_whenCallsGetById_shouldReturnVideo() throws Exception {
         final var wesley = wesley();
@@ -391,6 +447,28 @@ public class VideoAPITest {
                 .andExpect(jsonPath("$.cast_members_id", equalTo(new ArrayList(expectedMembers))));
     }
 
+    @Test
+    public void givenAnUnchangedLastModified_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        final var expected = systemDesign();
+        final var expectedId = expected.getId().getValue();
+        final var expectedLastModified = expected.getUpdatedAt();
+
+        when(getVideoLastModifiedUseCase.execute(any())).thenReturn(expectedLastModified);
+
+        final var request = get("/videos/{id}", expectedId)
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(expectedLastModified.plusSeconds(1).atZone(ZoneOffset.UTC)))
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, strongETag(expectedLastModified)))
+                .andExpect(header().exists(LAST_MODIFIED));
+
+        verify(getVideoLastModifiedUseCase).execute(eq(expectedId));
+        verify(getVideoByIdUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetById_shouldReturnNotFound() throws Exception {
         final var expectedId = VideoID.unique();
@@ -478,6 +556,61 @@ public class VideoAPITest {
         Assertions.assertTrue(actualCommand.getThumbnailHalf().isEmpty());
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateVideo_shouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = VideoID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+        final var expectedErrorMessage = "Video with ID 123 was modified concurrently";
+
+        when(updateVideoUseCase.execute(any())).thenThrow(ConflictException.with(Video.class, expectedId));
+
+        final var request = put("/videos/{id}", expectedId.getValue())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_MATCH, strongETag(expectedUpdatedAt))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(anUpdateVideoRequest()));
+
+        this.mvc.perform(request)
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateVideoUseCase).execute(argThat(cmd -> Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())));
+    }
+
+    @Test
+    public void givenAConcurrentWriteWithoutIfMatch_whenCallsUpdateVideo_shouldReturnConflict() throws Exception {
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with ID 123 was modified concurrently";
+
+        when(updateVideoUseCase.execute(any())).thenThrow(ConflictException.with(Video.class, expectedId));
+
+        final var request = put("/videos/{id}", expectedId.getValue())
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(anUpdateVideoRequest()));
+
+        this.mvc.perform(request)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    private static UpdateVideoRequest anUpdateVideoRequest() {
+        return new UpdateVideoRequest(
+                title(),
+                description(),
+                duration(),
+                year(),
+                bool(),
+                bool(),
+                rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+
     @Test
     public void givenAnInvalidCommand_whenCallsUpdateVideo_shouldReturnNotification() throws Exception {
         final var wesley = wesley();
@@ -666,20 +799,27 @@ public class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = new MediaOutput(expectedResource, expectedResource.contentType(), expectedResource.name());
 
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedResource.checksum());
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
                 .with(ApiTest.VIDEOS_JWT);
 
-        final var response = this.mvc.perform(request);
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
 
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.size())))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedResource.checksum())))
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -690,6 +830,167 @@ public class VideoAPITest {
         assertEquals(expectedMediaType.name(), actualCommand.mediaType());
     }
 
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetMediaById_shouldReturnNotModifiedWithoutReadingStorage() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedChecksum = checksum();
+        final var expectedETag = "\"%s\"".formatted(expectedChecksum);
+
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedChecksum);
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, expectedETag)
+                .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag));
+
+        final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
+
+        verify(getMediaChecksumUseCase).execute(captor.capture());
+        verify(getMediaUseCase, never()).execute(any());
+
+        assertEquals(expectedId.getValue(), captor.getValue().videoId());
+        assertEquals(expectedMediaType.name(), captor.getValue().mediaType());
+    }
+
+    @Test
+    public void givenTheETagOfAFullResponse_whenCallsGetMediaByIdAgain_shouldReturnNotModified() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedChecksum = checksum();
+        final var storedResource = Fixture.Videos.resource(expectedMediaType);
+
+        // the storage reports the checksum in its own encoding, not the one the upload recorded
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedChecksum);
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(new MediaOutput(storedResource, storedResource.contentType(), storedResource.name()));
+
+        final var firstRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT);
+        final var firstResult = this.mvc.perform(firstRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final var actualETag = this.mvc.perform(asyncDispatch(firstResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+
+        final var secondRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, actualETag)
+                .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(secondRequest)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedChecksum)));
+
+        verify(getMediaUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenARangeHeader_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.size();
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 5);
+
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedResource.checksum());
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(new MediaOutput(expectedResource, expectedResource.contentType(), expectedResource.name()));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"%s\"".formatted(expectedResource.checksum()))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedSize)))
+                .andExpect(header().string(CONTENT_LENGTH, "3"))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenAStaleIfRangeHeader_whenCallsGetMediaById_shouldReturnFullContent() throws Exception {
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedResource.checksum());
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(new MediaOutput(expectedResource, expectedResource.contentType(), expectedResource.name()));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"stale\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    public void givenAnUnparseableRange_whenCallsGetMediaById_shouldIgnoreItAndReturnFullContent() throws Exception {
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedResource.checksum());
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(new MediaOutput(expectedResource, expectedResource.contentType(), expectedResource.name()));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=oops")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.size())))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaChecksumUseCase.execute(any())).thenReturn(expectedResource.checksum());
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(new MediaOutput(expectedResource, expectedResource.contentType(), expectedResource.name()));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=%d-".formatted(expectedResource.size()))
+                .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(request)
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedResource.size())));
+    }
+
     @Test
     public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         final var expectedId = VideoID.unique();
@@ -721,7 +1022,8 @@ public class VideoAPITest {
 
         final var actualCommand = captor.getValue();
         assertEquals(expectedId.getValue(), actualCommand.videoId());
-        assertEquals(expectedResource.content(), actualCommand.videoResource().resource().content());
+        assertArrayEquals(expectedResource.content(), actualCommand.videoResource().resource().content());
+        assertEquals(expectedResource.content().length, actualCommand.videoResource().resource().size());
         assertEquals(expectedResource.name(), actualCommand.videoResource().resource().name());
         assertEquals(expectedResource.contentType(), actualCommand.videoResource().resource().contentType());
         assertEquals(expectedType, actualCommand.videoResource().type());
@@ -747,4 +1049,42 @@ public class VideoAPITest {
                 .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenACsvFormat_whenCallsExport_shouldStreamTheExporterOutputAsCsv() throws Exception {
+        final var expectedBody = "id,title\r\n123,System Design\r\n";
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(expectedBody.getBytes());
+            return null;
+        }).when(videoCatalogExporter).export(any(), any());
+
+        final var request = get("/videos/export")
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("format", "csv");
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(content().string(expectedBody));
+
+        verify(videoCatalogExporter).export(eq(VideoCatalogExporter.Format.CSV), any());
+    }
+
+    @Test
+    public void givenAnUnknownFormat_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = get("/videos/export")
+                .with(ApiTest.ADMIN_JWT)
+                .queryParam("format", "xml");
+
+        this.mvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("Unsupported export format: xml")));
+
+        verifyNoInteractions(videoCatalogExporter);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class QueryKeysTest {
+
+    @Test
+    public void givenTermsDifferingInCaseAndBlanks_whenCallsOf_shouldReturnTheSameKey() {
+        final var expectedKey = QueryKeys.of(SearchQuery.with(0, 10, "system design", "name", "asc"));
+
+        assertEquals(expectedKey, QueryKeys.of(SearchQuery.with(0, 10, "  System   DESIGN ", "name", "asc")));
+        assertEquals(expectedKey, QueryKeys.of(SearchQuery.with(0, 10, "system\tdesign", "name", "ASC")));
+    }
+
+    @Test
+    public void givenNullAndBlankTerms_whenCallsOf_shouldReturnTheSameKey() {
+        assertEquals(
+                QueryKeys.of(SearchQuery.with(0, 10, null, "name", "asc")),
+                QueryKeys.of(SearchQuery.with(0, 10, "   ", "name", "asc"))
+        );
+    }
+
+    @Test
+    public void givenNullAndBlankCursors_whenCallsOf_shouldReturnTheSameKey() {
+        assertEquals(
+                QueryKeys.of(SearchQuery.with(10, "", "name", "asc", null, false)),
+                QueryKeys.of(SearchQuery.with(10, "", "name", "asc", " ", false))
+        );
+    }
+
+    @Test
+    public void givenQueriesForDifferentPages_whenCallsOf_shouldReturnDifferentKeys() {
+        final var aKey = QueryKeys.of(SearchQuery.with(0, 10, "", "name", "asc"));
+
+        assertNotEquals(aKey, QueryKeys.of(SearchQuery.with(1, 10, "", "name", "asc")));
+        assertNotEquals(aKey, QueryKeys.of(SearchQuery.with(0, 20, "", "name", "asc")));
+        assertNotEquals(aKey, QueryKeys.of(SearchQuery.with(0, 10, "", "createdAt", "asc")));
+        assertNotEquals(aKey, QueryKeys.of(SearchQuery.with(0, 10, "", "name", "desc")));
+        assertNotEquals(aKey, QueryKeys.of(SearchQuery.with(10, "", "name", "asc", "a-cursor", true)));
+        assertNotEquals(aKey, QueryKeys.of(new SearchQuery(0, 10, "", "name", "asc", null, false)));
+    }
+
+    @Test
+    public void givenTheSameIdsInAnotherOrder_whenCallsOfAVideoQuery_shouldReturnTheSameKey() {
+        final var firstOrder = new LinkedHashSet<>(List.of(CategoryID.from("b"), CategoryID.from("a")));
+        final var secondOrder = new LinkedHashSet<>(List.of(CategoryID.from("a"), CategoryID.from("b")));
+
+        assertEquals(
+                QueryKeys.of(aVideoQuery(Set.of(), firstOrder, Set.of())),
+                QueryKeys.of(aVideoQuery(Set.of(), secondOrder, Set.of()))
+        );
+    }
+
+    @Test
+    public void givenNullAndEmptyFilters_whenCallsOfAVideoQuery_shouldReturnTheSameKey() {
+        assertEquals(
+                QueryKeys.of(aVideoQuery(null, null, null)),
+                QueryKeys.of(aVideoQuery(Set.of(), Set.of(), Set.of()))
+        );
+    }
+
+    @Test
+    public void givenTheSameIdUnderAnotherFilter_whenCallsOfAVideoQuery_shouldReturnDifferentKeys() {
+        assertNotEquals(
+                QueryKeys.of(aVideoQuery(Set.of(CastMemberID.from("123")), Set.of(), Set.of())),
+                QueryKeys.of(aVideoQuery(Set.of(), Set.of(), Set.of(GenreID.from("123"))))
+        );
+    }
+
+    private static VideoSearchQuery aVideoQuery(
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", castMembers, categories, genres);
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ReferenceCacheInvalidatorTest {
+
+    private static final String NAMES = "names";
+
+    private ReferenceCache<String> cache;
+    private EventService eventService;
+    private ReferenceCacheInvalidator invalidator;
+    private List<String> loads;
+
+    @BeforeEach
+    public void setUp() {
+        this.cache = new ReferenceCache<>(NAMES, 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        this.eventService = mock(EventService.class);
+        this.invalidator = new ReferenceCacheInvalidator(List.of(cache), eventService);
+        this.loads = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenNoTransaction_whenCallsInvalidate_shouldEvictAndPublishRightAway() {
+        final var expectedChange = ReferenceDataChanged.of(NAMES, List.of("123"));
+
+        load("123");
+        invalidator.invalidate(expectedChange);
+        load("123");
+
+        assertEquals(2, loads.size());
+        verify(eventService).send(expectedChange);
+    }
+
+    @Test
+    public void givenATransaction_whenCallsInvalidate_shouldWaitForTheCommit() {
+        final var expectedChange = ReferenceDataChanged.of(NAMES, List.of("123"));
+
+        load("123");
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.invalidate(expectedChange);
+        load("123");
+
+        assertEquals(1, loads.size());
+        verify(eventService, never()).send(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        load("123");
+
+        assertEquals(2, loads.size());
+        verify(eventService).send(expectedChange);
+    }
+
+    @Test
+    public void givenARolledBackTransaction_whenCallsInvalidate_shouldNeitherEvictNorPublish() {
+        load("123");
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.invalidate(ReferenceDataChanged.of(NAMES, List.of("123")));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        load("123");
+
+        assertEquals(1, loads.size());
+        verify(eventService, never()).send(any());
+    }
+
+    @Test
+    public void givenAFailingPublisher_whenCallsInvalidate_shouldStillEvictLocally() {
+        final var expectedChange = ReferenceDataChanged.of(NAMES, List.of("123"));
+
+        doThrow(new IllegalStateException("broker down")).when(eventService).send(any());
+
+        load("123");
+        invalidator.invalidate(expectedChange);
+        load("123");
+
+        assertEquals(2, loads.size());
+        verify(eventService).send(expectedChange);
+    }
+
+    @Test
+    public void givenAnUnknownCacheName_whenCallsEvict_shouldIgnoreIt() {
+        load("123");
+        invalidator.evict(ReferenceDataChanged.of("unknown", List.of("123")));
+        load("123");
+
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsEvict_shouldEvictTheWholeCache() {
+        load("123");
+        load("456");
+        invalidator.evict(ReferenceDataChanged.all(NAMES));
+        load("123");
+        load("456");
+
+        assertEquals(List.of("123", "456", "123", "456"), loads);
+    }
+
+    private void load(final String id) {
+        cache.get(id, key -> {
+            loads.add(key);
+            return Optional.of("name-" + key);
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.codeflix.catalog.admin.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReferenceCacheTest {
+
+    @Test
+    public void givenABoundRegistry_whenCallsGet_shouldCountHitsAndMisses() {
+        final var registry = new SimpleMeterRegistry();
+        final var cache = new ReferenceCache<String>("names", 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        cache.bindTo(registry);
+
+        cache.get("123", id -> Optional.of("name-" + id));
+        cache.get("123", id -> Optional.of("name-" + id));
+        cache.get("123", id -> Optional.of("name-" + id));
+        cache.get("456", id -> Optional.empty());
+
+        assertEquals(2, gets(registry, "hit"));
+        assertEquals(2, gets(registry, "miss"));
+    }
+
+    private static double gets(final SimpleMeterRegistry registry, final String result) {
+        return registry.get("cache.gets")
+                .tag("cache", "names")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
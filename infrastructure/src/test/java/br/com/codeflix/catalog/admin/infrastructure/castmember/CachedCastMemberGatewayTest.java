@@ -0,0 +1,156 @@
+package br.com.codeflix.catalog.admin.infrastructure.castmember;
+
+import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CAST_MEMBERS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CAST_MEMBER_LISTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedCastMemberGatewayTest {
+
+    private CastMemberMySQLGateway castMemberMySQLGateway;
+    private EventService eventService;
+    private ReferenceCacheInvalidator invalidator;
+    private CachedCastMemberGateway castMemberGateway;
+
+    @BeforeEach
+    public void setUp() {
+        this.castMemberMySQLGateway = mock(CastMemberMySQLGateway.class);
+        this.eventService = mock(EventService.class);
+
+        final var members = new ReferenceCache<CastMember>(CAST_MEMBERS, 100, Duration.ofMinutes(1), CastMember::with);
+        final var lists = new ReferenceCache<Pagination<CastMember>>(CAST_MEMBER_LISTS, 100, Duration.ofMinutes(1), page -> page.map(CastMember::with));
+        this.invalidator = new ReferenceCacheInvalidator(List.of(members, lists), eventService);
+        this.castMemberGateway = new CachedCastMemberGateway(castMemberMySQLGateway, members, lists, invalidator);
+    }
+
+    @Test
+    public void givenACachedCastMember_whenCallsFindById_shouldReadTheDatabaseOnceAndReturnCopies() {
+        final var aMember = wesley();
+        final var expectedId = aMember.getId();
+        final var expectedName = aMember.getName();
+        final var expectedType = aMember.getType();
+
+        when(castMemberMySQLGateway.findById(any())).thenReturn(Optional.of(aMember));
+
+        final var first = castMemberGateway.findById(expectedId).get();
+        first.update("Changed", CastMemberType.DIRECTOR);
+        final var second = castMemberGateway.findById(expectedId).get();
+
+        assertNotSame(first, second);
+        assertEquals(expectedName, second.getName());
+        assertEquals(expectedType, second.getType());
+        verify(castMemberMySQLGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenALoadedCastMember_whenTheSourceChangesAfterwards_shouldNotLeakIntoTheCache() {
+        final var aMember = wesley();
+        final var expectedId = aMember.getId();
+        final var expectedName = aMember.getName();
+
+        when(castMemberMySQLGateway.findById(any())).thenReturn(Optional.of(aMember));
+
+        castMemberGateway.findById(expectedId);
+        aMember.update("Changed", CastMemberType.DIRECTOR);
+
+        assertEquals(expectedName, castMemberGateway.findById(expectedId).get().getName());
+    }
+
+    @Test
+    public void givenAMissingCastMember_whenCallsExistsByIdsAgain_shouldAskTheDatabaseAgain() {
+        final var known = CastMemberID.from("known");
+        final var createdElsewhere = CastMemberID.from("created-elsewhere");
+
+        when(castMemberMySQLGateway.existsByIds(any()))
+                .thenReturn(List.of(known))
+                .thenReturn(List.of(createdElsewhere));
+
+        final var firstIds = castMemberGateway.existsByIds(List.of(known, createdElsewhere));
+        final var secondIds = castMemberGateway.existsByIds(List.of(known, createdElsewhere));
+
+        assertEquals(List.of(known), firstIds);
+        assertEquals(List.of(known, createdElsewhere), secondIds);
+        verify(castMemberMySQLGateway).existsByIds(List.of(known, createdElsewhere));
+        verify(castMemberMySQLGateway).existsByIds(List.of(createdElsewhere));
+    }
+
+    @Test
+    public void givenAnUpdatedCastMember_whenCallsUpdate_shouldEvictAndPublishTheInvalidation() {
+        final var aMember = wesley();
+        final var expectedId = aMember.getId();
+
+        when(castMemberMySQLGateway.findById(any())).thenReturn(Optional.of(aMember));
+        when(castMemberMySQLGateway.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        castMemberGateway.findById(expectedId);
+        castMemberGateway.update(aMember);
+        castMemberGateway.findById(expectedId);
+
+        verify(castMemberMySQLGateway, times(2)).findById(expectedId);
+        verify(eventService).send(ReferenceDataChanged.of(CAST_MEMBERS, List.of(expectedId.getValue())));
+        verify(eventService).send(ReferenceDataChanged.all(CAST_MEMBER_LISTS));
+    }
+
+    @Test
+    public void givenADeletedCastMember_whenCallsExistsByIds_shouldNotReportItFromTheCache() {
+        final var expectedId = CastMemberID.from("123");
+
+        when(castMemberMySQLGateway.existsByIds(any()))
+                .thenReturn(List.of(expectedId))
+                .thenReturn(List.of());
+
+        castMemberGateway.existsByIds(List.of(expectedId));
+        castMemberGateway.deleteById(expectedId);
+
+        assertTrue(castMemberGateway.existsByIds(List.of(expectedId)).isEmpty());
+        verify(eventService).send(ReferenceDataChanged.of(CAST_MEMBERS, List.of(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsFindAll_shouldQueryTheDatabaseOnce() {
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(wesley()));
+
+        when(castMemberMySQLGateway.findAll(any())).thenReturn(expectedPage);
+
+        castMemberGateway.findAll(SearchQuery.with(0, 10, " wesley  ", "name", "ASC"));
+        final var actualPage = castMemberGateway.findAll(SearchQuery.with(0, 10, "WESLEY", "name", "asc"));
+
+        assertEquals(expectedPage.items().get(0).getId(), actualPage.items().get(0).getId());
+        verify(castMemberMySQLGateway, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedListing_whenCallsCreate_shouldQueryTheDatabaseAgain() {
+        final var aQuery = SearchQuery.with(0, 10, "", "name", "asc");
+
+        when(castMemberMySQLGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(castMemberMySQLGateway.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        castMemberGateway.findAll(aQuery);
+        castMemberGateway.create(wesley());
+        castMemberGateway.findAll(aQuery);
+
+        verify(castMemberMySQLGateway, times(2)).findAll(aQuery);
+        verify(eventService).send(ReferenceDataChanged.all(CAST_MEMBER_LISTS));
+    }
+}
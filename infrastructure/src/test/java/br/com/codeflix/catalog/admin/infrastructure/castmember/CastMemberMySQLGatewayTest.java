@@ -4,14 +4,22 @@ import br.com.codeflix.catalog.admin.MySQLGatewayTest;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMember;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.castmember.CastMemberType;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import br.com.codeflix.catalog.admin.infrastructure.utils.KeysetUtils;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
 import java.util.List;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.type;
@@ -27,6 +35,12 @@ public class CastMemberMySQLGatewayTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependencies() {
         assertNotNull(castMemberGateway);
@@ -292,6 +306,60 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenOffsetPagingWithoutCount_whenCallsFindAll_shouldSkipTheCountQuery() {
+        mockMembers();
+
+        final var expectedPage = 1;
+        final var expectedPerPage = 2;
+        final var expectedNames = List.of("Martin Scorsese", "Quentin Tarantino");
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, false));
+
+        assertTrue(
+                Arrays.stream(statistics.getQueries()).noneMatch(it -> it.contains("count(")),
+                "findAll issued %s".formatted(Arrays.toString(statistics.getQueries()))
+        );
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(expectedNames, actualPage.items().stream().map(CastMember::getName).toList());
+        assertNotNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullText_whenCallsFindAll_shouldOrderById() {
+        mockMembers();
+
+        final var expectedIds = castMemberRepository.findAll().stream()
+                .map(CastMemberJpaEntity::getId)
+                .sorted()
+                .toList();
+
+        final var query = SearchQuery.with(0, 10, "", "relevance", "desc");
+
+        final var actualPage = castMemberGateway.findAll(query);
+
+        assertEquals(expectedIds.size(), actualPage.total());
+        assertEquals(expectedIds, actualPage.items().stream().map(it -> it.getId().getValue()).toList());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenRelevanceSortAndCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' does not support cursor pagination";
+
+        final var cursor = KeysetUtils.encode("Vin Diesel", CastMemberID.unique().getValue());
+        final var query = SearchQuery.with(10, "", "relevance", "desc", cursor, false);
+
+        final var actualException = assertThrows(DomainException.class, () -> castMemberGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.newMember("Kit Harington", CastMemberType.ACTOR)),
@@ -301,4 +369,68 @@ public class CastMemberMySQLGatewayTest {
                 CastMemberJpaEntity.from(CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR))
         ));
     }
+
+    @Test
+    public void givenACastMemberLoadedBeforeAConcurrentUpdate_whenCallsUpdate_shouldThrowConflictException() {
+        final var member = CastMember.newMember("vin", CastMemberType.ACTOR);
+
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(member));
+
+        final var expectedErrorMessage = "CastMember with ID %s was modified concurrently".formatted(member.getId().getValue());
+
+        final var staleMember = castMemberGateway.findById(member.getId()).get();
+        final var currentMember = castMemberGateway.findById(member.getId()).get();
+
+        castMemberGateway.update(currentMember.update("Vin Diesel", CastMemberType.DIRECTOR));
+        castMemberRepository.flush();
+
+        assertEquals(1, castMemberRepository.findById(member.getId().getValue()).get().getVersion());
+
+        final var actualException = assertThrows(ConflictException.class, () ->
+                castMemberGateway.update(staleMember.update("Paul Walker", CastMemberType.ACTOR)));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Vin Diesel", castMemberRepository.findById(member.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenNewAndExistingCastMembers_whenCallsUpsertAll_shouldInsertTheNewOnesAndUpdateTheOthers() {
+        final var existing = CastMember.newMember("vin", CastMemberType.ACTOR);
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(existing));
+
+        final var changed = CastMember.with(existing).update("Vin Diesel", CastMemberType.DIRECTOR);
+        final var added = CastMember.newMember("Jason Momoa", CastMemberType.ACTOR);
+
+        castMemberGateway.upsertAll(List.of(changed, added));
+        entityManager.clear();
+
+        assertEquals(2, castMemberRepository.count());
+
+        final var actualChanged = castMemberRepository.findById(existing.getId().getValue()).get();
+        assertEquals("Vin Diesel", actualChanged.getName());
+        assertEquals(CastMemberType.DIRECTOR, actualChanged.getType());
+        assertEquals(existing.getCreatedAt(), actualChanged.getCreatedAt());
+        assertEquals(changed.getUpdatedAt(), actualChanged.getUpdatedAt());
+        assertEquals(1, actualChanged.getVersion());
+
+        final var actualAdded = castMemberRepository.findById(added.getId().getValue()).get();
+        assertEquals("Jason Momoa", actualAdded.getName());
+        assertEquals(CastMemberType.ACTOR, actualAdded.getType());
+        assertEquals(0, actualAdded.getVersion());
+    }
+
+    @Test
+    public void givenAnUnchangedCastMember_whenCallsUpsertAll_shouldKeepItsVersionAndUpdatedAt() {
+        final var existing = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(existing));
+
+        final var unchanged = CastMember.with(existing).update("Vin Diesel", CastMemberType.ACTOR);
+
+        castMemberGateway.upsertAll(List.of(unchanged));
+        entityManager.clear();
+
+        final var actualMember = castMemberRepository.findById(existing.getId().getValue()).get();
+        assertEquals(0, actualMember.getVersion());
+        assertEquals(existing.getUpdatedAt(), actualMember.getUpdatedAt());
+    }
 }
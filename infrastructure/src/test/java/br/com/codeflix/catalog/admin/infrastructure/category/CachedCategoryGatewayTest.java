@@ -0,0 +1,154 @@
+package br.com.codeflix.catalog.admin.infrastructure.category;
+
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.aulas;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CATEGORIES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.CATEGORY_LISTS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRE_LISTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedCategoryGatewayTest {
+
+    private CategoryMySQLGateway categoryMySQLGateway;
+    private EventService eventService;
+    private ReferenceCacheInvalidator invalidator;
+    private CachedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void setUp() {
+        this.categoryMySQLGateway = mock(CategoryMySQLGateway.class);
+        this.eventService = mock(EventService.class);
+
+        final var categories = new ReferenceCache<>(CATEGORIES, 100, Duration.ofMinutes(1), Category::clone);
+        final var lists = new ReferenceCache<Pagination<Category>>(CATEGORY_LISTS, 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        final var genres = new ReferenceCache<>(GENRES, 100, Duration.ofMinutes(1), Category::clone);
+        final var genreLists = new ReferenceCache<>(GENRE_LISTS, 100, Duration.ofMinutes(1), Category::clone);
+        this.invalidator = new ReferenceCacheInvalidator(List.of(categories, lists, genres, genreLists), eventService);
+        this.categoryGateway = new CachedCategoryGateway(categoryMySQLGateway, categories, lists, invalidator);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_shouldReadTheDatabaseOnceAndReturnCopies() {
+        final var aCategory = aulas();
+        final var expectedId = aCategory.getId();
+        final var expectedName = aCategory.getName();
+
+        when(categoryMySQLGateway.findById(any())).thenReturn(Optional.of(aCategory));
+
+        final var first = categoryGateway.findById(expectedId).get();
+        first.update("Changed", "Changed", false);
+        final var second = categoryGateway.findById(expectedId).get();
+
+        assertNotSame(first, second);
+        assertEquals(expectedName, second.getName());
+        verify(categoryMySQLGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenKnownIds_whenCallsExistsByIds_shouldOnlyLoadTheUnknownOnes() {
+        final var known = CategoryID.from("known");
+        final var unknown = CategoryID.from("unknown");
+        final var missing = CategoryID.from("missing");
+
+        when(categoryMySQLGateway.existsByIds(any()))
+                .thenReturn(List.of(known))
+                .thenReturn(List.of(unknown));
+
+        categoryGateway.existsByIds(List.of(known));
+        final var actualIds = categoryGateway.existsByIds(List.of(known, unknown, missing));
+
+        assertEquals(Set.of(known, unknown), Set.copyOf(actualIds));
+        verify(categoryMySQLGateway, times(2)).existsByIds(any());
+        verify(categoryMySQLGateway).existsByIds(List.of(unknown, missing));
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsUpdate_shouldEvictAndPublishTheInvalidation() {
+        final var aCategory = aulas();
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(any())).thenReturn(Optional.of(aCategory));
+        when(categoryMySQLGateway.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        categoryGateway.findById(expectedId);
+        categoryGateway.update(aCategory);
+        categoryGateway.findById(expectedId);
+
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+        verify(eventService).send(ReferenceDataChanged.of(CATEGORIES, List.of(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsDeleteById_shouldAlsoInvalidateEveryGenre() {
+        final var expectedId = CategoryID.from("123");
+
+        categoryGateway.deleteById(expectedId);
+
+        verify(categoryMySQLGateway).deleteById(expectedId);
+        verify(eventService).send(ReferenceDataChanged.of(CATEGORIES, List.of(expectedId.getValue())));
+        verify(eventService).send(ReferenceDataChanged.all(GENRES));
+    }
+
+    @Test
+    public void givenAnInvalidationFromAnotherNode_whenEvicts_shouldReloadTheCategory() {
+        final var aCategory = aulas();
+        final var expectedId = aCategory.getId();
+
+        when(categoryMySQLGateway.findById(any())).thenReturn(Optional.of(aCategory));
+
+        categoryGateway.findById(expectedId);
+        invalidator.evict(ReferenceDataChanged.of(CATEGORIES, List.of(expectedId.getValue())));
+        categoryGateway.findById(expectedId);
+
+        verify(categoryMySQLGateway, times(2)).findById(expectedId);
+        verify(eventService, never()).send(any());
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsFindAll_shouldQueryTheDatabaseOnce() {
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(aulas()));
+
+        when(categoryMySQLGateway.findAll(any())).thenReturn(expectedPage);
+
+        categoryGateway.findAll(SearchQuery.with(0, 10, "  aulas ", "createdAt", "DESC"));
+        final var actualPage = categoryGateway.findAll(SearchQuery.with(0, 10, "AULAS", "createdAt", "desc"));
+
+        assertEquals(expectedPage, actualPage);
+        verify(categoryMySQLGateway, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedListing_whenCallsCreate_shouldQueryTheDatabaseAgain() {
+        final var aQuery = SearchQuery.with(0, 10, "", "createdAt", "desc");
+
+        when(categoryMySQLGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(categoryMySQLGateway.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        categoryGateway.findAll(aQuery);
+        categoryGateway.create(aulas());
+        categoryGateway.findAll(aQuery);
+
+        verify(categoryMySQLGateway, times(2)).findAll(aQuery);
+        verify(eventService).send(ReferenceDataChanged.all(CATEGORY_LISTS));
+    }
+}
@@ -2,13 +2,21 @@ package br.com.codeflix.catalog.admin.infrastructure.category;
 
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
 import br.com.codeflix.catalog.admin.MySQLGatewayTest;
 import br.com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +30,12 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void givenAValidCategory_whenCallCreate_shouldReturnNewCategory() {
         final var expectedName = "Filmes";
@@ -98,6 +112,29 @@ class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenACategoryLoadedBeforeAConcurrentUpdate_whenCallUpdate_shouldThrowConflictException() {
+        final var category = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var expectedErrorMessage = "Category with ID %s was modified concurrently".formatted(category.getId().getValue());
+
+        final var staleCategory = categoryGateway.findById(category.getId()).get();
+        final var currentCategory = categoryGateway.findById(category.getId()).get();
+
+        categoryGateway.update(currentCategory.update("Filmes", null, true));
+        categoryRepository.flush();
+
+        assertEquals(1, categoryRepository.findById(category.getId().getValue()).get().getVersion());
+
+        final var actualException = assertThrows(ConflictException.class, () ->
+                categoryGateway.update(staleCategory.update("Series", null, true)));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Filmes", categoryRepository.findById(category.getId().getValue()).get().getName());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var category = Category.newCategory("Filmes", null, true);
@@ -255,6 +292,116 @@ class CategoryMySQLGatewayTest {
         assertEquals(series.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithCursor_shouldWalkAllPagesWithoutCount() {
+        final var expectedPerPage = 1;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var firstPage = categoryGateway.findAll(SearchQuery.with(0, 1, "", "name", "asc"));
+
+        assertEquals(documentarios.getId(), firstPage.items().get(0).getId());
+        assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = categoryGateway.findAll(
+                SearchQuery.with(expectedPerPage, "", "name", "asc", firstPage.nextCursor(), false)
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+        assertEquals(expectedPerPage, secondPage.items().size());
+        assertEquals(filmes.getId(), secondPage.items().get(0).getId());
+        assertNotNull(secondPage.nextCursor());
+
+        final var lastPage = categoryGateway.findAll(
+                SearchQuery.with(expectedPerPage, "", "name", "asc", secondPage.nextCursor(), true)
+        );
+
+        assertEquals(3, lastPage.total());
+        assertEquals(expectedPerPage, lastPage.items().size());
+        assertEquals(series.getId(), lastPage.items().get(0).getId());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    public void givenOffsetPagingWithoutCount_whenCallsFindAll_shouldSkipTheCountQuery() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        final var expectedPage = 1;
+        final var expectedPerPage = 1;
+        final var expectedNames = List.of("Filmes");
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualPage = categoryGateway.findAll(new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, false));
+
+        assertTrue(
+                Arrays.stream(statistics.getQueries()).noneMatch(it -> it.contains("count(")),
+                "findAll issued %s".formatted(Arrays.toString(statistics.getQueries()))
+        );
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(expectedNames, actualPage.items().stream().map(Category::getName).toList());
+        assertNotNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenCategoriesWithNullDescriptions_whenCallsFindAllWithCursorSortedByDescription_shouldNotSkipAny() {
+        final var filmes = Category.newCategory("Filmes", "B", true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentários", "A", true);
+        final var kids = Category.newCategory("Kids", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(kids)
+        ));
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var expectedIds = categoryGateway.findAll(SearchQuery.with(0, 4, "", "description", direction))
+                    .items().stream().map(Category::getId).toList();
+
+            final var actualIds = new ArrayList<CategoryID>();
+            String cursor = null;
+            do {
+                final var page = cursor == null
+                        ? categoryGateway.findAll(SearchQuery.with(0, 1, "", "description", direction))
+                        : categoryGateway.findAll(SearchQuery.with(1, "", "description", direction, cursor, false));
+                page.items().forEach(it -> actualIds.add(it.getId()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertEquals(expectedIds, actualIds);
+        }
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(SearchQuery.with(1, "", "name", "asc", "not-a-cursor", true))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallFindAllAdnTermsMatchCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -315,6 +462,31 @@ class CategoryMySQLGatewayTest {
         assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenFullTextAndTermsNoIndexHolds_whenCallsFindAll_shouldSearchThemLikeTheLikeMode() {
+        final var tv = Category.newCategory("TV", null, true);
+        final var drama = Category.newCategory("Drama & Romance", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(tv),
+                CategoryJpaEntity.from(drama),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        // none of these terms reaches MATCH, so they run on H2 as they would on MySQL
+        final var fullTextGateway = new CategoryMySQLGateway(categoryRepository, entityManager, true);
+
+        final var shortTerm = fullTextGateway.findAll(SearchQuery.with(0, 10, "tv", "name", "asc"));
+        assertEquals(List.of(tv.getId()), shortTerm.items().stream().map(Category::getId).toList());
+
+        final var punctuation = fullTextGateway.findAll(SearchQuery.with(0, 10, "&", "name", "asc"));
+        assertEquals(List.of(drama.getId()), punctuation.items().stream().map(Category::getId).toList());
+
+        final var empty = fullTextGateway.findAll(SearchQuery.with(0, 10, "", "name", "asc"));
+        assertEquals(3, empty.total());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -342,4 +514,46 @@ class CategoryMySQLGatewayTest {
                         expectedIds.containsAll(actualResult)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenNewAndExistingCategories_whenCallsUpsertAll_shouldInsertTheNewOnesAndUpdateTheOthers() {
+        final var existing = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var expectedId = existing.getId();
+
+        final var changed = existing.clone().update("Filmes", "A categoria mais assistida", false);
+        final var added = Category.newCategory("Séries", null, true);
+
+        categoryGateway.upsertAll(List.of(changed, added));
+        entityManager.clear();
+
+        assertEquals(2, categoryRepository.count());
+
+        final var actualChanged = categoryRepository.findById(expectedId.getValue()).get();
+        assertEquals("Filmes", actualChanged.getName());
+        assertEquals("A categoria mais assistida", actualChanged.getDescription());
+        assertFalse(actualChanged.isActive());
+        assertNotNull(actualChanged.getDeletedAt());
+        assertEquals(existing.getCreatedAt(), actualChanged.getCreatedAt());
+        assertEquals(1, actualChanged.getVersion());
+
+        final var actualAdded = categoryRepository.findById(added.getId().getValue()).get();
+        assertEquals("Séries", actualAdded.getName());
+        assertTrue(actualAdded.isActive());
+        assertEquals(0, actualAdded.getVersion());
+    }
+
+    @Test
+    public void givenAnUnchangedCategory_whenCallsUpsertAll_shouldKeepItsVersionAndUpdatedAt() {
+        final var existing = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var expectedId = existing.getId();
+
+        final var unchanged = existing.clone().update("Filmes", "A categoria mais assistida", true);
+
+        categoryGateway.upsertAll(List.of(unchanged));
+        entityManager.clear();
+
+        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        assertEquals(0, actualCategory.getVersion());
+        assertEquals(existing.getUpdatedAt(), actualCategory.getUpdatedAt());
+    }
+}
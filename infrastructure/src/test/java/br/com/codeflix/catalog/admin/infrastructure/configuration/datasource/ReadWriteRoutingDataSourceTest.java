@@ -0,0 +1,138 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource anotherReplica;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        this.primary = mock(DataSource.class);
+        this.replica = mock(DataSource.class);
+        this.anotherReplica = mock(DataSource.class);
+        this.dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica, anotherReplica));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    public void givenReadOnlyTransactions_whenGetsConnections_shouldAlternateBetweenReplicas() throws SQLException {
+        inTransaction(true);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(replica, times(1)).getConnection();
+        verify(anotherReplica, times(1)).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenGetsConnection_shouldUseThePrimary() throws SQLException {
+        inTransaction(false);
+
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verifyNoInteractions(replica, anotherReplica);
+    }
+
+    @Test
+    public void givenAPinnedRequest_whenGetsReadOnlyConnection_shouldUseThePrimary() throws SQLException {
+        ReadYourWrites.pinRequest();
+        inTransaction(true);
+
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verifyNoInteractions(replica, anotherReplica);
+    }
+
+    @Test
+    public void givenNoTransaction_whenGetsConnection_shouldUseThePrimary() throws SQLException {
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verifyNoInteractions(replica, anotherReplica);
+    }
+
+    @Test
+    public void givenAnUnpinnedWrite_whenGetsReadOnlyConnection_shouldStillUseAReplica() throws SQLException {
+        inTransaction(false);
+        dataSource.getConnection();
+
+        inTransaction(true);
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    public void givenReadsOnThePrimary_whenGetsReadOnlyConnection_shouldUseThePrimaryOnlyForThoseReads() throws SQLException {
+        inTransaction(true);
+
+        ReadYourWrites.onPrimary(() -> getConnection(dataSource));
+        dataSource.getConnection();
+
+        verify(primary, times(1)).getConnection();
+        verify(replica, times(1)).getConnection();
+        assertFalse(ReadYourWrites.isPinned());
+    }
+
+    @Test
+    public void givenAPinnedRequest_whenATaskRunsOnAnotherThread_shouldKeepItsReadsOnThePrimary() throws Exception {
+        ReadYourWrites.pinRequest();
+        final var task = ReadYourWrites.propagate(() -> {
+            inTransaction(true);
+            getConnection(dataSource);
+        });
+        ReadYourWrites.clear();
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get(5, TimeUnit.SECONDS);
+            executor.submit(() -> assertFalse(ReadYourWrites.isPinned())).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(primary, times(1)).getConnection();
+        verifyNoInteractions(replica, anotherReplica);
+    }
+
+    private static Connection getConnection(final DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void inTransaction(final boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
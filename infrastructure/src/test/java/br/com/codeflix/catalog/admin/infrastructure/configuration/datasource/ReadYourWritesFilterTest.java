@@ -0,0 +1,96 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    public void givenAWrite_whenFilters_shouldPinTheRequestAndHandTheClientAWindow() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var before = System.currentTimeMillis();
+
+        assertTrue(pinnedDuring(new MockHttpServletRequest("POST", "/videos"), response));
+
+        final var cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(2, cookie.getMaxAge());
+        assertTrue(Long.parseLong(cookie.getValue()) >= before + 2000);
+        assertFalse(ReadYourWrites.isPinned());
+    }
+
+    @Test
+    public void givenAReadWithinTheClientWindow_whenFilters_shouldPinTheRequest() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/videos/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 60_000)));
+
+        assertTrue(pinnedDuring(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    public void givenAReadAfterTheClientWindow_whenFilters_shouldNotPinTheRequest() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/videos/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+
+        assertFalse(pinnedDuring(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    public void givenAReadWithAMalformedWindow_whenFilters_shouldNotPinTheRequest() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/videos/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "soon"));
+
+        assertFalse(pinnedDuring(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    public void givenAReadOfAClientThatDidNotWrite_whenFilters_shouldNotPinNorSetTheCookie() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        assertFalse(pinnedDuring(new MockHttpServletRequest("GET", "/videos/123"), response));
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    public void givenNoWindow_whenFiltersAWrite_shouldOnlyPinTheRequest() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        final var pinned = new AtomicBoolean();
+        new ReadYourWritesFilter(Duration.ZERO).doFilter(
+                new MockHttpServletRequest("PUT", "/videos/123"),
+                response,
+                (req, res) -> pinned.set(ReadYourWrites.isPinned())
+        );
+
+        assertTrue(pinned.get());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    private boolean pinnedDuring(final MockHttpServletRequest request, final MockHttpServletResponse response)
+            throws ServletException, IOException {
+        final var pinned = new AtomicBoolean();
+        final FilterChain chain = (req, res) -> pinned.set(ReadYourWrites.isPinned());
+
+        filter.doFilter(request, response, chain);
+
+        return pinned.get();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import br.com.codeflix.catalog.admin.IntegrationTest;
+import br.com.codeflix.catalog.admin.domain.category.Category;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.domain.video.Rating;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.OutboxRelay;
+import br.com.codeflix.catalog.admin.infrastructure.video.export.VideoCatalogExporter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Year;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// the replica is a second H2 database that only sees the writes copied to it, so it lags on purpose
+@IntegrationTest
+@TestPropertySource(properties = {
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=" + ReplicaReadsTest.REPLICA_URL,
+        "datasource.replicas.read-your-writes-window=1m"
+})
+public class ReplicaReadsTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @TempDir
+    Path snapshots;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoCatalogExporter exporter;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    public void givenALaggingReplica_whenAnUpdateInvalidatesTheCache_shouldReloadFromThePrimary() throws SQLException {
+        final var aQuery = SearchQuery.with(0, 10, "", "name", "asc");
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var expectedId = aCategory.getId();
+        final var expectedName = "Séries";
+
+        copyPrimaryToReplica();
+        categoryGateway.findById(expectedId);
+        categoryGateway.findAll(aQuery);
+
+        categoryGateway.update(aCategory.update(expectedName, null, true));
+
+        assertEquals("Filmes", categoryMySQLGateway.findAll(aQuery).items().get(0).getName());
+        assertEquals(expectedName, categoryGateway.findById(expectedId).get().getName());
+        assertEquals(expectedName, categoryGateway.findAll(aQuery).items().get(0).getName());
+    }
+
+    @Test
+    public void givenALaggingReplica_whenExportsTheCatalog_shouldReadTheReplica() throws Exception {
+        copyPrimaryToReplica();
+        videoGateway.create(Video.newVideo("Bare", "No media", Year.of(2020), 10.0, false, false, Rating.AGE_10, Set.of(), Set.of(), Set.of()));
+
+        assertEquals("", export());
+
+        copyPrimaryToReplica();
+
+        assertEquals(1, export().split("\n").length);
+    }
+
+    @Test
+    public void givenTheOutboxRelayJustRan_whenExportsTheCatalog_shouldStillReadTheReplica() throws Exception {
+        copyPrimaryToReplica();
+        videoGateway.create(Video.newVideo("Bare", "No media", Year.of(2020), 10.0, false, false, Rating.AGE_10, Set.of(), Set.of(), Set.of()));
+
+        outboxRelay.drain();
+
+        assertEquals("", export());
+    }
+
+    private String export() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        exporter.export(VideoCatalogExporter.Format.NDJSON, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void copyPrimaryToReplica() throws SQLException {
+        final var snapshot = snapshots.resolve("primary.sql").toString();
+        try (final var primary = primaryDataSource.getConnection(); final var statement = primary.createStatement()) {
+            statement.execute("SCRIPT TO '%s'".formatted(snapshot));
+        }
+        try (
+                final var replica = DriverManager.getConnection(REPLICA_URL, primaryDataSource.getUsername(), primaryDataSource.getPassword());
+                final var statement = replica.createStatement()
+        ) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("RUNSCRIPT FROM '%s'".formatted(snapshot));
+        }
+    }
+}
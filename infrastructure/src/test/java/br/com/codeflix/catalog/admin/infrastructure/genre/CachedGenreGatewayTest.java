@@ -0,0 +1,157 @@
+package br.com.codeflix.catalog.admin.infrastructure.genre;
+
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.Genre;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRES;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.GENRE_LISTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedGenreGatewayTest {
+
+    private GenreMySQLGateway genreMySQLGateway;
+    private EventService eventService;
+    private ReferenceCacheInvalidator invalidator;
+    private CachedGenreGateway genreGateway;
+
+    @BeforeEach
+    public void setUp() {
+        this.genreMySQLGateway = mock(GenreMySQLGateway.class);
+        this.eventService = mock(EventService.class);
+
+        final var genres = new ReferenceCache<>(GENRES, 100, Duration.ofMinutes(1), CacheConfig::copyOf);
+        final var lists = new ReferenceCache<Pagination<Genre>>(GENRE_LISTS, 100, Duration.ofMinutes(1), page -> page.map(CacheConfig::copyOf));
+        this.invalidator = new ReferenceCacheInvalidator(List.of(genres, lists), eventService);
+        this.genreGateway = new CachedGenreGateway(genreMySQLGateway, genres, lists, invalidator);
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsFindById_shouldReadTheDatabaseOnceAndReturnCopies() {
+        final var aGenre = aGenre().addCategories(List.of(CategoryID.from("123")));
+        final var expectedId = aGenre.getId();
+        final var expectedCategories = List.of(CategoryID.from("123"));
+
+        when(genreMySQLGateway.findById(any())).thenReturn(Optional.of(aGenre));
+
+        final var first = genreGateway.findById(expectedId).get();
+        first.addCategories(List.of(CategoryID.from("456")));
+        final var second = genreGateway.findById(expectedId).get();
+
+        assertNotSame(first, second);
+        assertEquals(expectedCategories, second.getCategories());
+        verify(genreMySQLGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenALoadedGenre_whenTheSourceChangesAfterwards_shouldNotLeakIntoTheCache() {
+        final var aGenre = aGenre();
+        final var expectedId = aGenre.getId();
+
+        when(genreMySQLGateway.findById(any())).thenReturn(Optional.of(aGenre));
+
+        genreGateway.findById(expectedId);
+        aGenre.addCategories(List.of(CategoryID.from("123")));
+
+        assertTrue(genreGateway.findById(expectedId).get().getCategories().isEmpty());
+    }
+
+    @Test
+    public void givenAMissingGenre_whenCallsExistsByIdsAgain_shouldAskTheDatabaseAgain() {
+        final var known = GenreID.from("known");
+        final var createdElsewhere = GenreID.from("created-elsewhere");
+
+        when(genreMySQLGateway.existsByIds(any()))
+                .thenReturn(List.of(known))
+                .thenReturn(List.of(createdElsewhere));
+
+        final var firstIds = genreGateway.existsByIds(List.of(known, createdElsewhere));
+        final var secondIds = genreGateway.existsByIds(List.of(known, createdElsewhere));
+
+        assertEquals(List.of(known), firstIds);
+        assertEquals(List.of(known, createdElsewhere), secondIds);
+        verify(genreMySQLGateway).existsByIds(List.of(known, createdElsewhere));
+        verify(genreMySQLGateway).existsByIds(List.of(createdElsewhere));
+    }
+
+    @Test
+    public void givenAnUpdatedGenre_whenCallsUpdate_shouldEvictAndPublishTheInvalidation() {
+        final var aGenre = aGenre();
+        final var expectedId = aGenre.getId();
+
+        when(genreMySQLGateway.findById(any())).thenReturn(Optional.of(aGenre));
+        when(genreMySQLGateway.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        genreGateway.findById(expectedId);
+        genreGateway.update(aGenre);
+        genreGateway.findById(expectedId);
+
+        verify(genreMySQLGateway, times(2)).findById(expectedId);
+        verify(eventService).send(ReferenceDataChanged.of(GENRES, List.of(expectedId.getValue())));
+        verify(eventService).send(ReferenceDataChanged.all(GENRE_LISTS));
+    }
+
+    @Test
+    public void givenADeletedGenre_whenCallsExistsByIds_shouldNotReportItFromTheCache() {
+        final var expectedId = GenreID.from("123");
+
+        when(genreMySQLGateway.existsByIds(any()))
+                .thenReturn(List.of(expectedId))
+                .thenReturn(List.of());
+
+        genreGateway.existsByIds(List.of(expectedId));
+        genreGateway.deleteById(expectedId);
+
+        assertTrue(genreGateway.existsByIds(List.of(expectedId)).isEmpty());
+        verify(eventService).send(ReferenceDataChanged.of(GENRES, List.of(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsFindAll_shouldQueryTheDatabaseOnce() {
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(aGenre()));
+
+        when(genreMySQLGateway.findAll(any())).thenReturn(expectedPage);
+
+        genreGateway.findAll(SearchQuery.with(0, 10, "  tech ", "name", "ASC"));
+        final var actualPage = genreGateway.findAll(SearchQuery.with(0, 10, "TECH", "name", "asc"));
+
+        assertEquals(expectedPage.items().get(0).getId(), actualPage.items().get(0).getId());
+        verify(genreMySQLGateway, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedListing_whenCallsUpdate_shouldQueryTheDatabaseAgain() {
+        final var aQuery = SearchQuery.with(0, 10, "", "name", "asc");
+
+        when(genreMySQLGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(genreMySQLGateway.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        genreGateway.findAll(aQuery);
+        genreGateway.update(aGenre());
+        genreGateway.findAll(aQuery);
+
+        verify(genreMySQLGateway, times(2)).findAll(aQuery);
+    }
+
+    // the fixture genres share their category list, so every test mutates its own genre
+    private static Genre aGenre() {
+        return Genre.newGenre("Technology", true);
+    }
+}
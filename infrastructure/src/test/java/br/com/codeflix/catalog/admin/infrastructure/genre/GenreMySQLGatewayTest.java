@@ -3,17 +3,24 @@ package br.com.codeflix.catalog.admin.infrastructure.genre;
 import br.com.codeflix.catalog.admin.MySQLGatewayTest;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.pagination.SearchQuery;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
 import br.com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
 import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.codeflix.catalog.admin.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -31,6 +38,12 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void testDependenciesInjected() {
         assertNotNull(categoryGateway);
@@ -197,6 +210,37 @@ public class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidGenreWithCategories_whenCallUpdateGenreSwappingOneCategory_shouldWriteOnlyTheChangedRows() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var expectedCategories = List.of(filmes.getId(), documentarios.getId());
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        genreGateway.update(genre.clone().update(genre.getName(), genre.isActive(), expectedCategories));
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+
+        entityManager.clear();
+
+        final var persistedGenre = genreRepository.findById(genre.getId().getValue()).get();
+
+        assertEquals(sorted(expectedCategories), sorted(persistedGenre.getCategoriesIDs()));
+    }
+
     @Test
     public void givenAValidInactiveGenre_whenCallUpdateGenreActivating_shouldPersistGenre() {
         final var expectedName = "Ação";
@@ -470,6 +514,30 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenOffsetPagingWithoutCount_whenCallsFindAll_shouldSkipTheCountQuery() {
+        mockGenres();
+
+        final var expectedPage = 1;
+        final var expectedPerPage = 2;
+        final var expectedNames = List.of("Drama", "Ficção científica");
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualPage = genreGateway.findAll(new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, false));
+
+        assertTrue(
+                Arrays.stream(statistics.getQueries()).noneMatch(it -> it.contains("count(")),
+                "findAll issued %s".formatted(Arrays.toString(statistics.getQueries()))
+        );
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(expectedNames, actualPage.items().stream().map(Genre::getName).toList());
+        assertNotNull(actualPage.nextCursor());
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)),
@@ -486,4 +554,92 @@ public class GenreMySQLGatewayTest {
                 .toList();
     }
 
+    @Test
+    public void givenNewAndExistingGenres_whenCallsUpsertAll_shouldReconcileOnlyTheChangedCategoryLinks() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var docs = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var existing = genreGateway.create(Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId())));
+        final var now = InstantUtils.now();
+
+        final var changed = Genre.with(existing.getId(), "Aventura", true, List.of(series.getId(), docs.getId()), now, now, null, 0L);
+        final var added = Genre.with(GenreID.unique(), "Drama", false, List.of(filmes.getId()), now, now, now, 0L);
+
+        genreGateway.upsertAll(List.of(changed, added));
+        entityManager.clear();
+
+        assertEquals(2, genreRepository.count());
+
+        final var actualChanged = genreGateway.findById(existing.getId()).get();
+        assertEquals("Aventura", actualChanged.getName());
+        assertEquals(existing.getCreatedAt(), actualChanged.getCreatedAt());
+        assertEquals(1, actualChanged.getVersion());
+        assertEquals(
+                sorted(List.of(series.getId(), docs.getId())),
+                sorted(actualChanged.getCategories())
+        );
+
+        final var actualAdded = genreGateway.findById(added.getId()).get();
+        assertEquals("Drama", actualAdded.getName());
+        assertFalse(actualAdded.isActive());
+        assertNotNull(actualAdded.getDeletedAt());
+        assertEquals(List.of(filmes.getId()), actualAdded.getCategories());
+    }
+
+    @Test
+    public void givenAGenreLoadedBeforeAConcurrentUpdate_whenCallsUpdate_shouldThrowConflictException() {
+        final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+
+        final var expectedErrorMessage = "Genre with ID %s was modified concurrently".formatted(genre.getId().getValue());
+
+        final var staleGenre = genreGateway.findById(genre.getId()).get();
+        final var currentGenre = genreGateway.findById(genre.getId()).get();
+
+        genreGateway.update(currentGenre.update("Drama", true, List.of()));
+
+        assertEquals(1, genreRepository.findById(genre.getId().getValue()).get().getVersion());
+
+        final var actualException = assertThrows(ConflictException.class, () ->
+                genreGateway.update(staleGenre.update("Terror", true, List.of())));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Drama", genreRepository.findById(genre.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenAnUnchangedGenre_whenCallsUpsertAll_shouldKeepItsVersionAndUpdatedAt() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var existing = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId())));
+        final var now = InstantUtils.now();
+
+        final var unchanged = Genre.with(existing.getId(), "Ação", true, List.of(filmes.getId()), existing.getCreatedAt(), now, null, 0L);
+
+        genreGateway.upsertAll(List.of(unchanged));
+        entityManager.clear();
+
+        final var actualGenre = genreGateway.findById(existing.getId()).get();
+        assertEquals(0, actualGenre.getVersion());
+        assertEquals(existing.getUpdatedAt(), actualGenre.getUpdatedAt());
+        assertEquals(List.of(filmes.getId()), actualGenre.getCategories());
+    }
+
+    @Test
+    public void givenAGenreWithOnlyNewCategoryLinks_whenCallsUpsertAll_shouldBumpItsVersionAndUpdatedAt() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var existing = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId())));
+        final var now = InstantUtils.now();
+
+        final var relinked = Genre.with(existing.getId(), "Ação", true, List.of(filmes.getId(), series.getId()), existing.getCreatedAt(), now, null, 0L);
+
+        genreGateway.upsertAll(List.of(relinked));
+        entityManager.clear();
+
+        final var actualGenre = genreGateway.findById(existing.getId()).get();
+        assertEquals(1, actualGenre.getVersion());
+        assertEquals(now, actualGenre.getUpdatedAt());
+        assertEquals(sorted(List.of(filmes.getId(), series.getId())), sorted(actualGenre.getCategories()));
+    }
 }
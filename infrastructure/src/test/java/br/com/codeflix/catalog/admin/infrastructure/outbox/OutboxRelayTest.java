@@ -0,0 +1,176 @@
+package br.com.codeflix.catalog.admin.infrastructure.outbox;
+
+import br.com.codeflix.catalog.admin.IntegrationTest;
+import br.com.codeflix.catalog.admin.domain.utils.InstantUtils;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.domain.video.VideoMediaCreated;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import br.com.codeflix.catalog.admin.infrastructure.outbox.persistence.OutboxEventRepository;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.audioVideo;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.description;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.rating;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.bool;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.duration;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.title;
+import static br.com.codeflix.catalog.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@IntegrationTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventService publisher;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    public void setUp() {
+        this.publisher = mock(EventService.class);
+        this.outboxRelay = new OutboxRelay(
+                outboxEventRepository,
+                Map.of("video-created", publisher),
+                new TransactionTemplate(transactionManager),
+                10,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    public void givenAVideoWithMedia_whenCallsCreate_shouldStoreItsEventInTheOutbox() {
+        final var video = videoGateway.create(newVideo().updateVideoMedia(audioVideo(VIDEO)));
+
+        final var actualEvents = outboxEventRepository.findAll();
+
+        assertEquals(1, actualEvents.size());
+        assertEquals("video-created", actualEvents.get(0).getDestination());
+        assertEquals(VideoMediaCreated.class.getName(), actualEvents.get(0).getEventType());
+
+        final var actualEvent = Json.readValue(actualEvents.get(0).getPayload(), JsonNode.class);
+        assertEquals(video.getId().getValue(), actualEvent.get("resource_id").asText());
+        assertEquals(video.getVideo().get().rawLocation(), actualEvent.get("file_path").asText());
+
+        Mockito.verifyNoInteractions(publisher);
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsRelay_shouldPublishThePayloadAndDrainTheOutbox() {
+        videoGateway.create(newVideo().updateVideoMedia(audioVideo(VIDEO)));
+
+        final var expectedPayload = outboxEventRepository.findAll().get(0).getPayload();
+
+        final var actualRelayed = outboxRelay.relay();
+
+        final var captor = ArgumentCaptor.forClass(Object.class);
+        verify(publisher, times(1)).send(captor.capture());
+
+        assertEquals(1, actualRelayed);
+        assertEquals(expectedPayload, Json.writeValueAsString(captor.getValue()));
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenABrokerFailure_whenCallsRelay_shouldKeepTheEventForTheNextPoll() {
+        videoGateway.create(newVideo().updateVideoMedia(audioVideo(VIDEO)));
+        videoGateway.create(newVideo().updateVideoMedia(audioVideo(VIDEO)));
+
+        doThrow(new IllegalStateException("broker down")).when(publisher).send(any());
+
+        final var actualRelayed = outboxRelay.relay();
+
+        assertEquals(0, actualRelayed);
+        assertEquals(2, outboxEventRepository.count());
+        verify(publisher, times(1)).send(any());
+
+        Mockito.reset(publisher);
+
+        assertEquals(2, outboxRelay.relay());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void givenAnUnroutableEvent_whenCallsRelay_shouldDeadLetterItAndRelayTheEventsBehindIt() {
+        final var unroutable = outboxEventRepository.saveAndFlush(
+                OutboxEventJpaEntity.with("unknown-destination", "UnknownEvent", "{}")
+        );
+        videoGateway.create(newVideo().updateVideoMedia(audioVideo(VIDEO)));
+
+        final var actualRelayed = outboxRelay.relay();
+
+        assertEquals(2, actualRelayed);
+        verify(publisher, times(1)).send(any());
+
+        final var actualEvents = outboxEventRepository.findAll();
+        assertEquals(1, actualEvents.size());
+        assertEquals(unroutable.getId(), actualEvents.get(0).getId());
+        assertNotNull(actualEvents.get(0).getDeadLetteredAt());
+        assertEquals("No publisher for outbox destination: unknown-destination", actualEvents.get(0).getFailure());
+
+        assertEquals(0, outboxRelay.relay());
+        verify(publisher, times(1)).send(any());
+    }
+
+    @Test
+    public void givenAnEventClaimedByAnotherRelay_whenCallsRelay_shouldSkipItUntilTheClaimExpires() {
+        final var claimed = OutboxEventJpaEntity.with("video-created", "Claimed", "{}");
+        claimed.setClaimedUntil(InstantUtils.now().plus(Duration.ofMinutes(5)));
+        final var expired = OutboxEventJpaEntity.with("video-created", "Expired", "{}");
+        expired.setClaimedUntil(InstantUtils.now().minus(Duration.ofMinutes(5)));
+        outboxEventRepository.saveAllAndFlush(List.of(claimed, expired));
+
+        final var actualRelayed = outboxRelay.relay();
+
+        assertEquals(1, actualRelayed);
+        verify(publisher, times(1)).send(any());
+
+        final var actualEvents = outboxEventRepository.findAll();
+        assertEquals(1, actualEvents.size());
+        assertEquals(claimed.getId(), actualEvents.get(0).getId());
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                title(),
+                description(),
+                Year.of(2022),
+                duration(),
+                bool(),
+                bool(),
+                rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
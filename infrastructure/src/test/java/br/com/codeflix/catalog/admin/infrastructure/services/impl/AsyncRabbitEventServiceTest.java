@@ -0,0 +1,181 @@
+package br.com.codeflix.catalog.admin.infrastructure.services.impl;
+
+import br.com.codeflix.catalog.admin.domain.video.VideoMediaCreated;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AsyncRabbitEventServiceTest {
+
+    private static final String EXCHANGE = "video.events";
+    private static final String ROUTING_KEY = "video.created";
+
+    private RabbitOperations operations;
+    private RabbitOperations channel;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncRabbitEventService service;
+
+    @BeforeEach
+    public void setUp() {
+        this.operations = mock(RabbitOperations.class);
+        this.channel = mock(RabbitOperations.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        when(operations.invoke(any())).thenAnswer(call -> {
+            final RabbitOperations.OperationsCallback<?> callback = call.getArgument(0);
+            return callback.doInRabbit(channel);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (this.service != null) {
+            this.service.destroy();
+        }
+    }
+
+    @Test
+    public void givenEvents_whenCallsSend_shouldPublishInBatchesAndWaitForConfirms() throws InterruptedException {
+        final var expectedEvents = 5;
+        final var published = new CountDownLatch(expectedEvents);
+        doAnswer(call -> {
+            published.countDown();
+            return null;
+        }).when(channel).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class));
+
+        this.service = new AsyncRabbitEventService(EXCHANGE, ROUTING_KEY, operations, 100, 2, 1000, 100, 3, meterRegistry);
+
+        final var event = new VideoMediaCreated("resource", "filepath");
+        for (int i = 0; i < expectedEvents; i++) {
+            this.service.send(event);
+        }
+
+        assertTrue(published.await(2, TimeUnit.SECONDS));
+        this.service.destroy();
+
+        verify(channel, times(expectedEvents)).convertAndSend(EXCHANGE, ROUTING_KEY, Json.writeValueAsString(event));
+        verify(channel, atLeast(3)).waitForConfirmsOrDie(1000);
+        assertEquals(expectedEvents, meterRegistry.get("events.rabbit.publish.latency").timer().count());
+        assertEquals(0, meterRegistry.get("events.rabbit.publish.backlog").gauge().value());
+    }
+
+    @Test
+    public void givenBrokerNacks_whenAttemptsAreExhausted_shouldCountFailures() throws InterruptedException {
+        final var attempts = new CountDownLatch(2);
+        doAnswer(call -> {
+            attempts.countDown();
+            throw new AmqpException("nack");
+        }).when(channel).waitForConfirmsOrDie(anyLong());
+
+        this.service = new AsyncRabbitEventService(EXCHANGE, ROUTING_KEY, operations, 100, 10, 1000, 100, 2, meterRegistry);
+        this.service.send(new VideoMediaCreated("resource", "filepath"));
+
+        assertTrue(attempts.await(2, TimeUnit.SECONDS));
+        this.service.destroy();
+
+        assertEquals(1, meterRegistry.get("events.rabbit.publish.failures").counter().count());
+        assertEquals(0, meterRegistry.get("events.rabbit.publish.latency").timer().count());
+    }
+
+    @Test
+    public void givenAnUnserializableEvent_whenCallsSend_shouldDropItAndKeepPublishingTheOthers() throws InterruptedException {
+        final var published = new CountDownLatch(2);
+        doAnswer(call -> {
+            published.countDown();
+            return null;
+        }).when(channel).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class));
+
+        this.service = new AsyncRabbitEventService(EXCHANGE, ROUTING_KEY, operations, 100, 10, 1000, 100, 3, meterRegistry);
+
+        final var event = new VideoMediaCreated("resource", "filepath");
+        this.service.send(event);
+        this.service.send(new Unserializable());
+        this.service.send(event);
+
+        assertTrue(published.await(2, TimeUnit.SECONDS));
+        this.service.destroy();
+
+        verify(channel, times(2)).convertAndSend(EXCHANGE, ROUTING_KEY, Json.writeValueAsString(event));
+        assertEquals(1, meterRegistry.get("events.rabbit.publish.failures").counter().count());
+        assertEquals(2, meterRegistry.get("events.rabbit.publish.latency").timer().count());
+    }
+
+    @Test
+    public void givenAnUnserializableEventAlone_whenCallsSend_shouldKeepThePublisherAliveForLaterEvents() throws InterruptedException {
+        final var published = new CountDownLatch(1);
+        doAnswer(call -> {
+            published.countDown();
+            return null;
+        }).when(channel).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class));
+
+        this.service = new AsyncRabbitEventService(EXCHANGE, ROUTING_KEY, operations, 100, 10, 1000, 100, 3, meterRegistry);
+
+        this.service.send(new Unserializable());
+        awaitFailures(1);
+        this.service.send(new VideoMediaCreated("resource", "filepath"));
+
+        assertTrue(published.await(2, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("events.rabbit.publish.failures").counter().count());
+    }
+
+    @Test
+    public void givenAFullBacklog_whenCallsSend_shouldFailFast() {
+        final var release = new CountDownLatch(1);
+        final var publishing = new CountDownLatch(1);
+        doAnswer(call -> {
+            publishing.countDown();
+            release.await();
+            return null;
+        }).when(channel).waitForConfirmsOrDie(anyLong());
+
+        this.service = new AsyncRabbitEventService(EXCHANGE, ROUTING_KEY, operations, 1, 1, 1000, 10, 1, meterRegistry);
+
+        final var event = new VideoMediaCreated("resource", "filepath");
+        this.service.send(event);
+        assertDoesNotTimeOut(publishing);
+        this.service.send(event);
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> this.service.send(event));
+
+        assertEquals("Publisher backlog for 'video.created' is full", actualException.getMessage());
+        release.countDown();
+    }
+
+    private void awaitFailures(final double expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.get("events.rabbit.publish.failures").counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "publish failure was never counted");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    public static class Unserializable {
+
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
+    }
+
+    private static void assertDoesNotTimeOut(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+        } catch (final InterruptedException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+}
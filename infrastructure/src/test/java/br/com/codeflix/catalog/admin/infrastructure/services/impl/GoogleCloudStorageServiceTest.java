@@ -2,7 +2,11 @@ package br.com.codeflix.catalog.admin.infrastructure.services.impl;
 
 import br.com.codeflix.catalog.admin.domain.resource.Resource;
 import br.com.codeflix.catalog.admin.domain.video.VideoMediaType;
+import br.com.codeflix.catalog.admin.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -10,18 +14,34 @@ import com.google.cloud.storage.Storage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.ArgumentCaptor;
-
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.CRC32C;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.resource;
 import static br.com.codeflix.catalog.admin.domain.video.VideoMediaType.THUMBNAIL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class GoogleCloudStorageServiceTest {
 
+    // the crc32c of the fixture content, big-endian and base64 encoded as GCS stores it
+    private static final String EXPECTED_CRC32C = "3mL+Aw==";
+
     private GoogleCloudStorageService googleCloudStorageService;
 
     private Storage storage;
@@ -35,8 +55,8 @@ class GoogleCloudStorageServiceTest {
     }
 
     @Test
-    public void givenValidResource_whenCallsStore_shouldStoreIt() {
-        final var expectedResource = resource(THUMBNAIL);
+    public void givenValidResource_whenCallsStore_shouldStoreIt() throws IOException {
+        final var expectedResource = checksummed(resource(THUMBNAIL));
         final var expectedId = expectedResource.name();
 
         final Blob blob = mockBlob(expectedResource);
@@ -46,29 +66,173 @@ class GoogleCloudStorageServiceTest {
 
         final var captured = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(captured.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).createFrom(captured.capture(), any(InputStream.class));
 
         final var actualBlob = captured.getValue();
         assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
         assertEquals(expectedId, actualBlob.getBlobId().getName());
         assertEquals(expectedResource.contentType(), actualBlob.getContentType());
-        assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+        assertEquals(EXPECTED_CRC32C, actualBlob.getCrc32c());
     }
 
     @Test
-    public void givenResource_whenCallsGet_shouldRetrieveIt() {
+    public void givenAKnownPayload_whenCallsStore_shouldSendItsBigEndianCrc32c() throws IOException {
+        final var content = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var expectedResource = Resource.with(content, HashingUtils.checksum(content), "image/jpg", "thumbnail");
+
+        this.googleCloudStorageService.store(expectedResource.name(), expectedResource);
+
+        final var captured = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).createFrom(captured.capture(), any(InputStream.class));
+
+        final var crc32c = new CRC32C();
+        crc32c.update(content);
+
+        assertEquals("03fe62de", expectedResource.checksum());
+        assertEquals("3mL+Aw==", captured.getValue().getCrc32c());
+        assertEquals(Long.toHexString(crc32c.getValue()), captured.getValue().getCrc32cToHexString());
+    }
+
+    @Test
+    public void givenAChecksumThatIsNotACrc32c_whenCallsStore_shouldLeaveTheCrc32cToStorage() throws IOException {
         final var expectedResource = resource(THUMBNAIL);
+
+        this.googleCloudStorageService.store(expectedResource.name(), expectedResource);
+
+        final var captured = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).createFrom(captured.capture(), any(InputStream.class));
+
+        assertNull(captured.getValue().getCrc32c());
+    }
+
+    @Test
+    public void givenInterruptedResumableUpload_whenCallsStore_shouldResumeFromLastCheckpoint() throws IOException {
+        final var expectedResource = checksummed(resource(THUMBNAIL));
+        final var expectedId = expectedResource.name();
+        final var expectedChunkSize = 4;
+
+        final var resumableStorageService = new GoogleCloudStorageService(
+                bucket, storage, true, expectedChunkSize, 2, new SimpleMeterRegistry()
+        );
+
+        final var firstChannel = mock(WriteChannel.class);
+        final var resumedChannel = mock(WriteChannel.class);
+        final RestorableState<WriteChannel> checkpoint = mock(RestorableState.class);
+        final var resumedBytes = new ByteArrayOutputStream();
+
+        doReturn(firstChannel).when(storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+        doReturn(checkpoint).when(firstChannel).capture();
+        doReturn(resumedChannel).when(checkpoint).restore();
+
+        when(firstChannel.write(any(ByteBuffer.class)))
+                .thenAnswer(consume(new ByteArrayOutputStream()))
+                .thenThrow(new IOException("connection reset"));
+        when(resumedChannel.write(any(ByteBuffer.class))).thenAnswer(consume(resumedBytes));
+
+        resumableStorageService.store(expectedId, expectedResource);
+
+        final var captured = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(captured.capture(), any(Storage.BlobWriteOption.class));
+        verify(storage, never()).createFrom(any(BlobInfo.class), any(InputStream.class));
+        verify(firstChannel, never()).close();
+        verify(resumedChannel, times(1)).close();
+
+        final var content = expectedResource.content();
+        assertArrayEquals(
+                Arrays.copyOfRange(content, expectedChunkSize, content.length),
+                resumedBytes.toByteArray()
+        );
+        assertEquals(expectedId, captured.getValue().getBlobId().getName());
+        assertEquals(EXPECTED_CRC32C, captured.getValue().getCrc32c());
+    }
+
+    @Test
+    public void givenAKnownPayload_whenCallsResumableStore_shouldDeclareItsBigEndianCrc32cToTheWriter() throws IOException {
+        final var content = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var expectedResource = Resource.with(content, HashingUtils.checksum(content), "video/mp4", "video");
+        final var resumableStorageService = new GoogleCloudStorageService(
+                bucket, storage, true, 1024, 1, new SimpleMeterRegistry()
+        );
+        final var channel = mock(WriteChannel.class);
+
+        doReturn(channel).when(storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption.class));
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(consume(new ByteArrayOutputStream()));
+
+        resumableStorageService.store(expectedResource.name(), expectedResource);
+
+        final var captured = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).writer(captured.capture(), eq(Storage.BlobWriteOption.crc32cMatch()));
+        verify(channel).close();
+
+        assertEquals("3mL+Aw==", captured.getValue().getCrc32c());
+        assertEquals("de62fe03", captured.getValue().getCrc32cToHexString());
+    }
+
+    @Test
+    public void givenAChecksumThatIsNotACrc32c_whenCallsResumableStore_shouldNotAskForACrc32cMatch() throws IOException {
+        final var expectedResource = resource(VideoMediaType.VIDEO);
+        final var resumableStorageService = new GoogleCloudStorageService(
+                bucket, storage, true, 1024, 1, new SimpleMeterRegistry()
+        );
+        final var channel = mock(WriteChannel.class);
+
+        doReturn(channel).when(storage).writer(any(BlobInfo.class));
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(consume(new ByteArrayOutputStream()));
+
+        resumableStorageService.store(expectedResource.name(), expectedResource);
+
+        final var actualWriter = mockingDetails(storage).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("writer"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(1, actualWriter.getArguments().length);
+        assertNull(actualWriter.<BlobInfo>getArgument(0).getCrc32c());
+    }
+
+    @Test
+    public void givenResource_whenCallsGet_shouldRetrieveIt() {
+        final var expectedResource = checksummed(resource(THUMBNAIL));
         final var expectedId = expectedResource.name();
 
         final Blob blob = mockBlob(expectedResource);
         doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
 
+        doAnswer(invocation -> new InMemoryReadChannel(expectedResource.content()))
+                .when(storage).reader(eq(BlobId.of(bucket, expectedId)));
+
         final var actualContent = googleCloudStorageService.get(expectedId).get();
 
         assertEquals(expectedResource.checksum(), actualContent.checksum());
         assertEquals(expectedResource.name(), actualContent.name());
-        assertEquals(expectedResource.content(), actualContent.content());
+        assertEquals(expectedResource.size(), actualContent.size());
+        assertArrayEquals(expectedResource.content(), actualContent.content());
         assertEquals(expectedResource.contentType(), actualContent.contentType());
+        verify(blob, never()).getContent();
+    }
+
+    @Test
+    public void givenResource_whenCallsTransferToWithRange_shouldSeekAndReadOnlyThatRange() throws IOException {
+        final var expectedResource = checksummed(resource(THUMBNAIL));
+        final var expectedId = expectedResource.name();
+        final var content = expectedResource.content();
+
+        final Blob blob = mockBlob(expectedResource);
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+
+        final var reader = new InMemoryReadChannel(content);
+        doReturn(reader).when(storage).reader(eq(BlobId.of(bucket, expectedId)));
+
+        final var target = new ByteArrayOutputStream();
+
+        final var actualTransferred = googleCloudStorageService.get(expectedId).get()
+                .transferTo(2, 3, Channels.newChannel(target));
+
+        assertEquals(3, actualTransferred);
+        assertArrayEquals(Arrays.copyOfRange(content, 2, 5), target.toByteArray());
+        assertEquals(5, reader.limit());
+        assertFalse(reader.isOpen());
     }
 
     @Test
@@ -122,12 +286,86 @@ class GoogleCloudStorageServiceTest {
         assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
     }
 
+    private static Answer<Integer> consume(final ByteArrayOutputStream out) {
+        return invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.write(bytes);
+            return bytes.length;
+        };
+    }
+
+    private static class InMemoryReadChannel implements ReadChannel {
+
+        private final byte[] content;
+        private long position;
+        private long limit = Long.MAX_VALUE;
+        private boolean open = true;
+
+        private InMemoryReadChannel(final byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) {
+            final var end = Math.min(this.content.length, this.limit);
+            if (this.position >= end) {
+                return -1;
+            }
+            final var count = (int) Math.min(dst.remaining(), end - this.position);
+            dst.put(this.content, (int) this.position, count);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public void seek(final long position) {
+            this.position = position;
+        }
+
+        @Override
+        public ReadChannel limit(final long limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        @Override
+        public long limit() {
+            return this.limit;
+        }
+
+        @Override
+        public void setChunkSize(final int chunkSize) {
+        }
+
+        @Override
+        public RestorableState<ReadChannel> capture() {
+            return null;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.open;
+        }
+
+        @Override
+        public void close() {
+            this.open = false;
+        }
+    }
+
+    private static Resource checksummed(final Resource resource) {
+        return Resource.with(resource.content(), HashingUtils.checksum(resource.content()), resource.contentType(), resource.name());
+    }
+
     private Blob mockBlob(final Resource resource) {
         final var blob1 = mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
-        when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
+        when(blob1.getCrc32c()).thenReturn(GoogleCloudStorageService.crc32cOf(resource.checksum()));
         when(blob1.getContent()).thenReturn(resource.content());
         when(blob1.getContentType()).thenReturn(resource.contentType());
+        when(blob1.getSize()).thenReturn(resource.size());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
     }
@@ -0,0 +1,186 @@
+package br.com.codeflix.catalog.admin.infrastructure.services.impl;
+
+import br.com.codeflix.catalog.admin.domain.resource.Resource;
+import br.com.codeflix.catalog.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.resource;
+import static br.com.codeflix.catalog.admin.domain.video.VideoMediaType.THUMBNAIL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService localFileStorageService;
+
+    @BeforeEach
+    public void setUp() {
+        this.localFileStorageService = new LocalFileStorageService(root, 1);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_shouldStoreItAtomically() throws IOException {
+        final var expectedResource = resource(THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+
+        this.localFileStorageService.store(expectedId, expectedResource);
+
+        assertArrayEquals(expectedResource.content(), this.localFileStorageService.get(expectedId).get().content());
+
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            assertEquals(List.of(root.resolve(expectedId)), files.toList());
+        }
+    }
+
+    @Test
+    public void givenConcurrentReplacements_whenCallsGet_shouldNeverPairContentWithAnotherVersionsMetadata() throws Exception {
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var first = Resource.with("first version".getBytes(), "checksum-1", "video/mp4", "first");
+        final var second = Resource.with("the second, longer version".getBytes(), "checksum-2", "video/mp4", "second");
+        final var expectedContents = Map.of(
+                first.checksum(), first.content(),
+                second.checksum(), second.content()
+        );
+
+        this.localFileStorageService.store(expectedId, first);
+
+        final var running = new AtomicBoolean(true);
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var writer = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    this.localFileStorageService.store(expectedId, i % 2 == 0 ? second : first);
+                }
+                running.set(false);
+                return null;
+            });
+
+            final var readers = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    int reads = 0;
+                    while (running.get()) {
+                        final var actual = this.localFileStorageService.get(expectedId).get();
+                        try {
+                            assertArrayEquals(expectedContents.get(actual.checksum()), actual.content());
+                            assertEquals(expectedContents.get(actual.checksum()).length, actual.size());
+                            reads++;
+                        } catch (final UncheckedIOException ex) {
+                            // replaced between get and read, never served as the other version
+                            assertTrue(ex.getMessage().contains("was replaced while being read"));
+                        }
+                    }
+                    return reads;
+                }));
+            }
+
+            writer.get(30, TimeUnit.SECONDS);
+            for (final var reader : readers) {
+                assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenResource_whenCallsGet_shouldRetrieveIt() {
+        final var expectedResource = resource(THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+
+        this.localFileStorageService.store(expectedId, expectedResource);
+
+        final var actualContent = this.localFileStorageService.get(expectedId).get();
+
+        assertEquals(expectedResource.checksum(), actualContent.checksum());
+        assertEquals(expectedResource.name(), actualContent.name());
+        assertEquals(expectedResource.size(), actualContent.size());
+        assertArrayEquals(expectedResource.content(), actualContent.content());
+        assertEquals(expectedResource.contentType(), actualContent.contentType());
+        assertFalse(actualContent.isBuffered());
+    }
+
+    @Test
+    public void givenResource_whenCallsTransferToWithRange_shouldReadOnlyThatRange() throws IOException {
+        final var expectedResource = resource(THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+        final var content = expectedResource.content();
+
+        this.localFileStorageService.store(expectedId, expectedResource);
+
+        final var target = new ByteArrayOutputStream();
+
+        final var actualTransferred = this.localFileStorageService.get(expectedId).get()
+                .transferTo(2, 3, Channels.newChannel(target));
+
+        assertEquals(3, actualTransferred);
+        assertArrayEquals(Arrays.copyOfRange(content, 2, 5), target.toByteArray());
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        final var actualContent = this.localFileStorageService.get("videoId-123/type-THUMBNAIL");
+
+        assertTrue(actualContent.isEmpty());
+    }
+
+    @Test
+    public void givenAnIdOutsideRoot_whenCallsGet_shouldThrowIllegalArgument() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> this.localFileStorageService.get("../outside")
+        );
+    }
+
+    @Test
+    public void givenPrefix_whenCallsList_shouldRetrieveAll() {
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+
+        this.localFileStorageService.store(expectedIds.get(0), resource(VideoMediaType.VIDEO));
+        this.localFileStorageService.store(expectedIds.get(1), resource(VideoMediaType.BANNER));
+        this.localFileStorageService.store("videoId-456/type-VIDEO", resource(VideoMediaType.VIDEO));
+
+        final var actualContent = this.localFileStorageService.list("videoId-123");
+
+        assertTrue(
+                expectedIds.size() == actualContent.size()
+                        && expectedIds.containsAll(actualContent)
+        );
+    }
+
+    @Test
+    public void givenResources_whenCallsDeleteAll_shouldEmptyStorage() {
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+
+        this.localFileStorageService.store(expectedIds.get(0), resource(VideoMediaType.VIDEO));
+        this.localFileStorageService.store(expectedIds.get(1), resource(VideoMediaType.BANNER));
+
+        this.localFileStorageService.deleteAll(expectedIds);
+
+        assertTrue(this.localFileStorageService.list("").isEmpty());
+        assertFalse(Files.exists(root.resolve("videoId-123")));
+    }
+}
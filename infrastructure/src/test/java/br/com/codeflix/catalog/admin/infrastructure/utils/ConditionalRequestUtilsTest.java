@@ -0,0 +1,70 @@
+package br.com.codeflix.catalog.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConditionalRequestUtilsTest {
+
+    @Test
+    public void givenAnIssuedTag_whenCallsExpectedUpdatedAt_shouldReturnTheUpdatedAtItWasIssuedFor() {
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+
+        assertEquals(expectedUpdatedAt, ConditionalRequestUtils.expectedUpdatedAt(ConditionalRequestUtils.strongETag(expectedUpdatedAt)));
+    }
+
+    @Test
+    public void givenAnIssuedTagWithSurroundingSpaces_whenCallsExpectedUpdatedAt_shouldReturnTheSameUpdatedAt() {
+        final var expectedUpdatedAt = Instant.parse("2023-01-10T10:15:30.123456Z");
+        final var tag = ConditionalRequestUtils.strongETag(expectedUpdatedAt);
+
+        assertEquals(expectedUpdatedAt, ConditionalRequestUtils.expectedUpdatedAt(" " + tag + " "));
+    }
+
+    @Test
+    public void givenTheWeakFormOfAnIssuedTag_whenCallsExpectedUpdatedAt_shouldReturnInstantMin() {
+        final var tag = ConditionalRequestUtils.strongETag(Instant.parse("2023-01-10T10:15:30.123456Z"));
+
+        assertEquals(Instant.MIN, ConditionalRequestUtils.expectedUpdatedAt("W/" + tag));
+    }
+
+    @Test
+    public void givenAnUpdatedAt_whenCallsStrongETag_shouldReturnAStrongTagOfItsMicros() {
+        final var tag = ConditionalRequestUtils.strongETag(Instant.parse("2023-01-10T10:15:30.123456Z"));
+
+        assertEquals("\"1673345730123456\"", tag);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"*", " * "})
+    public void givenAWildcard_whenCallsExpectedUpdatedAt_shouldReturnNull(final String ifMatch) {
+        assertNull(ConditionalRequestUtils.expectedUpdatedAt(ifMatch));
+    }
+
+    @Test
+    public void givenNoIfMatch_whenCallsExpectedUpdatedAt_shouldReturnNull() {
+        assertNull(ConditionalRequestUtils.expectedUpdatedAt(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc\"", "W/\"abc\"", "123", "W/123", "\"\"", "\"", "", "W/"})
+    public void givenAMalformedTag_whenCallsExpectedUpdatedAt_shouldReturnInstantMin(final String ifMatch) {
+        assertEquals(Instant.MIN, ConditionalRequestUtils.expectedUpdatedAt(ifMatch));
+    }
+
+    @Test
+    public void givenAStrongTagAndTheWeakFormOfIt_whenCallsIsNotModified_shouldMatchWeakly() {
+        final var etag = ConditionalRequestUtils.strongETag(Instant.parse("2023-01-10T10:15:30.123456Z"));
+
+        assertTrue(ConditionalRequestUtils.isNotModified("W/" + etag, null, etag, null));
+        assertTrue(ConditionalRequestUtils.isNotModified("\"other\", " + etag, null, etag, null));
+        assertFalse(ConditionalRequestUtils.isNotModified("\"other\"", null, etag, null));
+    }
+}
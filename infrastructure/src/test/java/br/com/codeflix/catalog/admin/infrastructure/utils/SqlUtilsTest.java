@@ -0,0 +1,33 @@
+package br.com.codeflix.catalog.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SqlUtilsTest {
+
+    @Test
+    public void givenWords_whenCallsFullText_shouldRequireEachOneAsAPrefix() {
+        assertEquals("+Filmes* +ação*", SqlUtils.fullText("  Filmes, ação! "));
+    }
+
+    @Test
+    public void givenShortWordsAndStopwords_whenCallsFullText_shouldLeaveThemToLike() {
+        final var expectedTerms = "+séries*";
+        final var expectedUnindexed = List.of("tv", "the");
+
+        assertEquals(expectedTerms, SqlUtils.fullText("tv séries the"));
+        assertEquals(expectedUnindexed, SqlUtils.unindexed("tv séries the"));
+    }
+
+    @Test
+    public void givenOnlyPunctuationOrEmptyTerms_whenCallsFullText_shouldReturnEmpty() {
+        assertEquals("", SqlUtils.fullText("&-!"));
+        assertEquals("", SqlUtils.fullText(""));
+        assertEquals(List.of(), SqlUtils.unindexed("&-!"));
+        assertNull(SqlUtils.fullText(null));
+    }
+}
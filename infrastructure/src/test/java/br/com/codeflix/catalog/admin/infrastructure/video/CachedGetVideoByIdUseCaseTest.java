@@ -0,0 +1,102 @@
+package br.com.codeflix.catalog.admin.infrastructure.video;
+
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.GetVideoByIdUseCase;
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import br.com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.systemDesign;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.VIDEOS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedGetVideoByIdUseCaseTest {
+
+    private GetVideoByIdUseCase getVideoByIdUseCase;
+    private ReferenceCache<VideoOutput> cache;
+    private CachedGetVideoByIdUseCase useCase;
+
+    @BeforeEach
+    public void setUp() {
+        this.getVideoByIdUseCase = mock(GetVideoByIdUseCase.class);
+        this.cache = new ReferenceCache<>(VIDEOS, 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        this.useCase = new CachedGetVideoByIdUseCase(getVideoByIdUseCase, cache);
+    }
+
+    @Test
+    public void givenConcurrentMissesForTheSameVideo_whenCallsExecute_shouldLoadItOnce() throws Exception {
+        final var expectedOutput = VideoOutput.from(systemDesign());
+        final var expectedId = expectedOutput.id();
+        final var expectedCallers = 8;
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        when(getVideoByIdUseCase.execute(any())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return expectedOutput;
+        });
+
+        final var executor = Executors.newFixedThreadPool(expectedCallers);
+        try {
+            final var results = new ArrayList<Future<VideoOutput>>();
+            for (int i = 0; i < expectedCallers; i++) {
+                results.add(executor.submit(() -> useCase.execute(expectedId)));
+            }
+
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            for (final var result : results) {
+                assertSame(expectedOutput, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(getVideoByIdUseCase, times(1)).execute(expectedId);
+    }
+
+    @Test
+    public void givenAnEvictedVideo_whenCallsExecute_shouldLoadItAgain() {
+        final var expectedOutput = VideoOutput.from(systemDesign());
+        final var expectedId = expectedOutput.id();
+
+        when(getVideoByIdUseCase.execute(any())).thenReturn(expectedOutput);
+
+        useCase.execute(expectedId);
+        useCase.execute(expectedId);
+        cache.evict(List.of(expectedId));
+        useCase.execute(expectedId);
+
+        verify(getVideoByIdUseCase, times(2)).execute(expectedId);
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsExecute_shouldThrowNotFoundWithoutCachingIt() {
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        when(getVideoByIdUseCase.execute(any())).thenThrow(NotFoundException.with(Video.class, expectedId));
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+        assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(getVideoByIdUseCase, times(2)).execute(expectedId.getValue());
+    }
+}
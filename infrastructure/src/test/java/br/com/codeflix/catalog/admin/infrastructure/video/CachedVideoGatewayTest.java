@@ -0,0 +1,176 @@
+package br.com.codeflix.catalog.admin.infrastructure.video;
+
+import br.com.codeflix.catalog.admin.application.video.retrieve.get.VideoOutput;
+import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
+import br.com.codeflix.catalog.admin.domain.video.MediaStatus;
+import br.com.codeflix.catalog.admin.domain.video.VideoPreview;
+import br.com.codeflix.catalog.admin.domain.video.VideoSearchQuery;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCache;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceCacheInvalidator;
+import br.com.codeflix.catalog.admin.infrastructure.cache.ReferenceDataChanged;
+import br.com.codeflix.catalog.admin.infrastructure.services.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.systemDesign;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.VIDEOS;
+import static br.com.codeflix.catalog.admin.infrastructure.configuration.CacheConfig.VIDEO_LISTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachedVideoGatewayTest {
+
+    private DefaultVideoGateway defaultVideoGateway;
+    private EventService eventService;
+    private ReferenceCache<VideoOutput> details;
+    private CachedVideoGateway videoGateway;
+    private List<String> loads;
+
+    @BeforeEach
+    public void setUp() {
+        this.defaultVideoGateway = mock(DefaultVideoGateway.class);
+        this.eventService = mock(EventService.class);
+        this.details = new ReferenceCache<>(VIDEOS, 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        this.loads = new ArrayList<>();
+
+        final var lists = new ReferenceCache<Pagination<VideoPreview>>(VIDEO_LISTS, 100, Duration.ofMinutes(1), UnaryOperator.identity());
+        final var invalidator = new ReferenceCacheInvalidator(List.of(details, lists), eventService);
+        this.videoGateway = new CachedVideoGateway(defaultVideoGateway, lists, invalidator);
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsUpdate_shouldEvictAndPublishItsDetails() {
+        final var aVideo = systemDesign();
+        final var expectedId = aVideo.getId().getValue();
+
+        when(defaultVideoGateway.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        loadDetails(expectedId);
+        videoGateway.update(aVideo);
+        loadDetails(expectedId);
+
+        assertEquals(List.of(expectedId, expectedId), loads);
+        verify(eventService).send(ReferenceDataChanged.of(VIDEOS, List.of(expectedId)));
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsDeleteById_shouldEvictAndPublishItsDetails() {
+        final var expectedId = systemDesign().getId();
+
+        loadDetails(expectedId.getValue());
+        videoGateway.deleteById(expectedId);
+        loadDetails(expectedId.getValue());
+
+        assertEquals(2, loads.size());
+        verify(defaultVideoGateway).deleteById(expectedId);
+        verify(eventService).send(ReferenceDataChanged.of(VIDEOS, List.of(expectedId.getValue())));
+    }
+
+    @Test
+    public void givenACachedVideo_whenMediaStatusIsUpdated_shouldEvictAndPublishItsDetails() {
+        final var expectedId = systemDesign().getId();
+
+        when(defaultVideoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
+
+        loadDetails(expectedId.getValue());
+        videoGateway.updateMediaStatus(expectedId, "resource-123", MediaStatus.COMPLETED, "/encoded");
+        loadDetails(expectedId.getValue());
+
+        assertEquals(2, loads.size());
+        verify(eventService).send(ReferenceDataChanged.of(VIDEOS, List.of(expectedId.getValue())));
+        verify(eventService).send(ReferenceDataChanged.all(VIDEO_LISTS));
+    }
+
+    @Test
+    public void givenACachedVideo_whenMediaStatusIsNotUpdated_shouldKeepItsDetails() {
+        final var expectedId = systemDesign().getId();
+
+        when(defaultVideoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(false);
+
+        loadDetails(expectedId.getValue());
+        videoGateway.updateMediaStatus(expectedId, "another-resource", MediaStatus.COMPLETED, "/encoded");
+        loadDetails(expectedId.getValue());
+
+        assertEquals(1, loads.size());
+        verify(eventService, never()).send(any());
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsFindAll_shouldQueryTheDatabaseOnce() {
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(new VideoPreview(systemDesign())));
+        final var aCategory = CategoryID.from("123");
+        final var aGenre = GenreID.from("456");
+
+        when(defaultVideoGateway.findAll(any())).thenReturn(expectedPage);
+
+        videoGateway.findAll(aQuery(" system  design", "DESC", Set.of(aCategory), Set.of(aGenre)));
+        final var actualPage = videoGateway.findAll(aQuery("SYSTEM DESIGN", "desc", Set.of(aCategory), Set.of(aGenre)));
+
+        assertEquals(expectedPage, actualPage);
+        verify(defaultVideoGateway, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenQueriesWithOtherFilters_whenCallsFindAll_shouldQueryTheDatabaseForEach() {
+        when(defaultVideoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        videoGateway.findAll(aQuery("", "desc", Set.of(CategoryID.from("123")), Set.of()));
+        videoGateway.findAll(aQuery("", "desc", Set.of(), Set.of(GenreID.from("123"))));
+
+        verify(defaultVideoGateway, times(2)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedListing_whenMediaStatusIsUpdated_shouldQueryTheDatabaseAgain() {
+        final var aQuery = aQuery("", "desc", Set.of(), Set.of());
+
+        when(defaultVideoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(defaultVideoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(true);
+
+        videoGateway.findAll(aQuery);
+        videoGateway.updateMediaStatus(systemDesign().getId(), "resource-123", MediaStatus.COMPLETED, "/encoded");
+        videoGateway.findAll(aQuery);
+
+        verify(defaultVideoGateway, times(2)).findAll(aQuery);
+    }
+
+    @Test
+    public void givenACachedListing_whenMediaStatusIsNotUpdated_shouldKeepServingIt() {
+        final var aQuery = aQuery("", "desc", Set.of(), Set.of());
+
+        when(defaultVideoGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(defaultVideoGateway.updateMediaStatus(any(), any(), any(), any())).thenReturn(false);
+
+        videoGateway.findAll(aQuery);
+        videoGateway.updateMediaStatus(systemDesign().getId(), "another-resource", MediaStatus.COMPLETED, "/encoded");
+        videoGateway.findAll(aQuery);
+
+        verify(defaultVideoGateway, times(1)).findAll(aQuery);
+    }
+
+    private static VideoSearchQuery aQuery(
+            final String terms,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        return new VideoSearchQuery(0, 10, terms, "createdAt", direction, Set.of(), categories, genres);
+    }
+
+    private void loadDetails(final String id) {
+        details.get(id, key -> {
+            loads.add(key);
+            return Optional.of(VideoOutput.from(systemDesign()));
+        });
+    }
+}
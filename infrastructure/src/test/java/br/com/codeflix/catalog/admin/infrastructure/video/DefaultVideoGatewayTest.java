@@ -7,22 +7,32 @@ import br.com.codeflix.catalog.admin.domain.castmember.CastMemberID;
 import br.com.codeflix.catalog.admin.domain.category.Category;
 import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import br.com.codeflix.catalog.admin.domain.category.CategoryID;
+import br.com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import br.com.codeflix.catalog.admin.domain.genre.Genre;
 import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
 import br.com.codeflix.catalog.admin.domain.genre.GenreID;
+import br.com.codeflix.catalog.admin.domain.pagination.Pagination;
 import br.com.codeflix.catalog.admin.domain.video.*;
 import br.com.codeflix.catalog.admin.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.gabriel;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.type;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.aulas;
 import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.lives;
@@ -34,6 +44,7 @@ import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.ratin
 import static org.junit.jupiter.api.Assertions.*;
 
 @IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session.events.auto=br.com.codeflix.catalog.admin.infrastructure.video.DefaultVideoGatewayTest$JdbcRoundTrips")
 public class DefaultVideoGatewayTest {
 
     @Autowired
@@ -51,6 +62,9 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember gabriel;
 
@@ -443,6 +457,51 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    public void givenAVideoWithMediaAndRelations_whenCallsFindById_shouldLoadItInTwoQueries() {
+        final var expectedQueries = 2;
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(tech.getId(), business.getId());
+        final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+
+        final var video = videoGateway.create(
+                Video.newVideo(
+                                title(),
+                                description(),
+                                Year.of(year()),
+                                duration(),
+                                bool(),
+                                bool(),
+                                rating(),
+                                expectedCategories,
+                                expectedGenres,
+                                expectedMembers
+                        )
+                        .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+                        .updateTrailerMedia(AudioVideoMedia.with("123", "trailer", "/media/trailer"))
+                        .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+                        .updateThumbnailMedia(ImageMedia.with("123", "thumb", "/media/thumb"))
+                        .updateThumbnailHalfMedia(ImageMedia.with("123", "thumbHalf", "/media/thumbHalf"))
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualVideo = videoGateway.findById(video.getId()).get();
+
+        final var actualQueries = statistics.getPrepareStatementCount();
+        assertEquals(expectedQueries, actualQueries, "findById issued %d queries".formatted(actualQueries));
+
+        assertEquals(expectedCategories, actualVideo.getCategories());
+        assertEquals(expectedGenres, actualVideo.getGenres());
+        assertEquals(expectedMembers, actualVideo.getCastMembers());
+        assertEquals("video", actualVideo.getVideo().get().name());
+        assertEquals("trailer", actualVideo.getTrailer().get().name());
+        assertEquals("banner", actualVideo.getBanner().get().name());
+        assertEquals("thumb", actualVideo.getThumbnail().get().name());
+        assertEquals("thumbHalf", actualVideo.getThumbnailHalf().get().name());
+    }
+
     @Test
     public void givenAnInvalidVideoId_whenCallsFindById_shouldEmpty() {
         videoGateway.create(Video.newVideo(
@@ -556,6 +615,61 @@ public class DefaultVideoGatewayTest {
         assertEquals("Aula de empreendedorismo", actualPage.items().get(1).title());
     }
 
+    @Test
+    public void givenFilters_whenCallFindAllAndPageIsShort_shouldSkipTheCountQuery() {
+        mockVideos();
+
+        final var expectedQueries = 1L;
+        final var expectedTotal = 2;
+
+        final var query = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(wesley.getId(), gabriel.getId()),
+                Set.of(),
+                Set.of(tech.getId())
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualPage = videoGateway.findAll(query);
+
+        final var actualQueries = statistics.getPrepareStatementCount();
+        assertEquals(expectedQueries, actualQueries, "findAll issued %d queries".formatted(actualQueries));
+
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedTotal, actualPage.items().size());
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(1).title());
+    }
+
+    @Test
+    public void givenOffsetPagingWithoutCount_whenCallFindAll_shouldSkipTheCountQuery() {
+        mockVideos();
+
+        final var expectedQueries = 1L;
+        final var expectedPerPage = 1;
+
+        final var query = new VideoSearchQuery(1, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, false);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualPage = videoGateway.findAll(query);
+
+        final var actualQueries = statistics.getPrepareStatementCount();
+        assertEquals(expectedQueries, actualQueries, "findAll issued %d queries".formatted(actualQueries));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(expectedPerPage, actualPage.items().size());
+        assertEquals("Aula de empreendedorismo", actualPage.items().get(0).title());
+        assertNotNull(actualPage.nextCursor());
+    }
+
     @Test
     public void givenAValidCastMember_whenCallFindAll_shouldReturnFilteredList() {
         mockVideos();
@@ -777,6 +891,327 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenAValidCastMemberAndCursor_whenCallFindAll_shouldReturnNextFilteredPage() {
+        mockVideos();
+
+        final var expectedPerPage = 1;
+        final var expectedSort = "title";
+        final var expectedDirection = "asc";
+
+        final var firstPage = videoGateway.findAll(new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "",
+                expectedSort,
+                expectedDirection,
+                Set.of(wesley.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        assertEquals("Aula de empreendedorismo", firstPage.items().get(0).title());
+        assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = videoGateway.findAll(new VideoSearchQuery(
+                0,
+                expectedPerPage,
+                "",
+                expectedSort,
+                expectedDirection,
+                Set.of(wesley.getId()),
+                Set.of(),
+                Set.of(),
+                firstPage.nextCursor(),
+                false
+        ));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+        assertEquals(expectedPerPage, secondPage.items().size());
+        assertEquals("System Design no Mercado Livre na prática", secondPage.items().get(0).title());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    public void givenAVideoWithMedia_whenCallsUpdateMediaStatus_shouldUpdateOnlyThatMediaRow() {
+        final var expectedVideoMedia = AudioVideoMedia.with("123", "video", "/media/video");
+        final var expectedTrailerMedia = AudioVideoMedia.with("456", "trailer", "/media/trailer");
+        final var expectedEncodedPath = "encoded/video.mp4";
+        final var expectedQueries = 2L;
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                title(),
+                description(),
+                Year.of(year()),
+                duration(),
+                bool(),
+                bool(),
+                rating(),
+                Set.of(aulas.getId()),
+                Set.of(tech.getId()),
+                Set.of(wesley.getId())
+        ).updateVideoMedia(expectedVideoMedia).updateTrailerMedia(expectedTrailerMedia));
+
+        final var previousUpdatedAt = videoRepository.findUpdatedAtById(aVideo.getId().getValue()).get();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualResult = videoGateway.updateMediaStatus(
+                aVideo.getId(),
+                expectedVideoMedia.id(),
+                MediaStatus.COMPLETED,
+                expectedEncodedPath
+        );
+
+        final var actualQueries = statistics.getPrepareStatementCount();
+        assertEquals(expectedQueries, actualQueries, "updateMediaStatus issued %d queries".formatted(actualQueries));
+
+        assertTrue(actualResult);
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        final var actualVideoMedia = actualVideo.getVideo().get();
+        assertEquals(MediaStatus.COMPLETED, actualVideoMedia.status());
+        assertEquals(expectedEncodedPath, actualVideoMedia.encodedLocation());
+        assertEquals(expectedVideoMedia.checksum(), actualVideoMedia.checksum());
+
+        final var actualTrailerMedia = actualVideo.getTrailer().get();
+        assertEquals(MediaStatus.PENDING, actualTrailerMedia.status());
+        assertEquals("", actualTrailerMedia.encodedLocation());
+
+        assertEquals(Set.of(aulas.getId()), actualVideo.getCategories());
+        assertTrue(actualVideo.getUpdatedAt().isAfter(previousUpdatedAt));
+    }
+
+    @Test
+    public void givenProcessingStatus_whenCallsUpdateMediaStatus_shouldKeepEncodedPath() {
+        final var expectedTrailerMedia = AudioVideoMedia.with("456", "trailer", "/media/trailer");
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                title(),
+                description(),
+                Year.of(year()),
+                duration(),
+                bool(),
+                bool(),
+                rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateTrailerMedia(expectedTrailerMedia));
+
+        assertTrue(videoGateway.updateMediaStatus(aVideo.getId(), expectedTrailerMedia.id(), MediaStatus.PROCESSING, null));
+
+        final var actualTrailerMedia = videoGateway.findById(aVideo.getId()).get().getTrailer().get();
+        assertEquals(MediaStatus.PROCESSING, actualTrailerMedia.status());
+        assertEquals("", actualTrailerMedia.encodedLocation());
+    }
+
+    @Test
+    public void givenAMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldReturnFalse() {
+        final var otherMedia = AudioVideoMedia.with("123", "video", "/media/video");
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                title(), description(), Year.of(year()), duration(), bool(), bool(), rating(), Set.of(), Set.of(), Set.of()
+        ));
+        final var anotherVideo = videoGateway.create(Video.newVideo(
+                title(), description(), Year.of(year()), duration(), bool(), bool(), rating(), Set.of(), Set.of(), Set.of()
+        ).updateVideoMedia(otherMedia));
+
+        assertFalse(videoGateway.updateMediaStatus(aVideo.getId(), otherMedia.id(), MediaStatus.COMPLETED, "any"));
+        assertFalse(videoGateway.updateMediaStatus(VideoID.unique(), otherMedia.id(), MediaStatus.COMPLETED, "any"));
+
+        assertEquals(MediaStatus.PENDING, videoGateway.findById(anotherVideo.getId()).get().getVideo().get().status());
+    }
+
+    @Test
+    public void givenAVideoLoadedBeforeAConcurrentUpdate_whenCallsUpdate_shouldThrowConflictException() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                title(), description(), Year.of(year()), duration(), bool(), bool(), rating(), Set.of(), Set.of(), Set.of()
+        ));
+
+        final var expectedErrorMessage = "Video with ID %s was modified concurrently".formatted(aVideo.getId().getValue());
+
+        final var staleVideo = videoGateway.findById(aVideo.getId()).get();
+        final var currentVideo = videoGateway.findById(aVideo.getId()).get();
+
+        videoGateway.update(currentVideo.update(
+                "Current title", description(), Year.of(year()), duration(), bool(), bool(), rating(), Set.of(), Set.of(), Set.of()
+        ));
+
+        assertEquals(1, videoRepository.findById(aVideo.getId().getValue()).get().getVersion());
+
+        final var actualException = assertThrows(ConflictException.class, () -> videoGateway.update(staleVideo.update(
+                "Stale title", description(), Year.of(year()), duration(), bool(), bool(), rating(), Set.of(), Set.of(), Set.of()
+        )));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Current title", videoGateway.findById(aVideo.getId()).get().getTitle());
+    }
+
+    @Test
+    public void givenAVideoWithManyRelations_whenCallsUpdateOnlyTitle_shouldNotTouchLinkRows() {
+        final var expectedMembers = createCastMembers(50);
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(tech.getId());
+        final var expectedTitle = "New title";
+
+        final var aVideo = createVideo(expectedCategories, expectedGenres, expectedMembers);
+
+        final var updatedVideo = Video.with(aVideo).update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        videoGateway.update(updatedVideo);
+
+        // select video with media, select relations and update video
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedTitle, persistedVideo.getTitle());
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(expectedMembers, persistedVideo.getCastMembers());
+        assertEquals(aVideo.getVideo(), persistedVideo.getVideo());
+    }
+
+    @Test
+    public void givenAVideoWithManyRelations_whenCallsUpdateSwappingOneCastMember_shouldWriteOnlyTheChangedLinkRows() {
+        final var originalMembers = createCastMembers(50);
+        final var expectedCategories = Set.of(aulas.getId());
+        final var expectedGenres = Set.<GenreID>of();
+
+        final var aVideo = createVideo(Set.of(aulas.getId(), lives.getId()), Set.of(tech.getId()), originalMembers);
+
+        final var expectedMembers = new HashSet<>(originalMembers);
+        expectedMembers.remove(expectedMembers.iterator().next());
+        expectedMembers.add(wesley.getId());
+
+        final var updatedVideo = Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        videoGateway.update(updatedVideo);
+
+        // 3 base statements, one delete per changed relation kind and the single cast member insert
+        assertEquals(7, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(expectedMembers, persistedVideo.getCastMembers());
+    }
+
+    @Test
+    public void givenAVideoWithManyRelations_whenCallsCreate_shouldBatchTheLinkRowInserts() {
+        final var expectedMembers = createCastMembers(60);
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(tech.getId(), business.getId());
+        final var expectedLinks = 64;
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        JdbcRoundTrips.clear();
+
+        final var aVideo = createVideo(expectedCategories, expectedGenres, expectedMembers);
+
+        // video, its media and the outbox row besides the link rows
+        assertEquals(expectedLinks + 3, statistics.getEntityInsertCount());
+
+        // one batch per table, the 60 cast members split in two batches of 50, and no select per link row
+        assertEquals(7, JdbcRoundTrips.BATCHES.get());
+        assertEquals(1, JdbcRoundTrips.STATEMENTS.get());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(expectedMembers, persistedVideo.getCastMembers());
+    }
+
+    @Test
+    public void givenSeveralVideos_whenCallsCreateAll_shouldInsertEachTableInOneBatch() {
+        final var expectedMembers = createCastMembers(3);
+        final var expectedCategories = Set.of(aulas.getId());
+        final var expectedGenres = Set.of(tech.getId(), business.getId());
+        final var expectedCount = 120;
+
+        final var videos = new ArrayList<Video>();
+        for (int i = 0; i < expectedCount; i++) {
+            videos.add(Video.newVideo(title(), description(), Year.of(year()), duration(), bool(), bool(), rating(),
+                    expectedCategories, expectedGenres, expectedMembers));
+        }
+
+        JdbcRoundTrips.clear();
+
+        final var actualVideos = videoGateway.createAll(videos);
+
+        // videos, categories, genres and cast members links, regardless of the configured default batch size
+        assertEquals(4, JdbcRoundTrips.BATCHES.get());
+        assertEquals(0, JdbcRoundTrips.STATEMENTS.get());
+
+        assertEquals(expectedCount, actualVideos.size());
+        assertEquals(expectedCount, videoRepository.count());
+
+        final var persistedVideo = videoGateway.findById(actualVideos.get(expectedCount - 1).getId()).get();
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(expectedMembers, persistedVideo.getCastMembers());
+    }
+
+    private Set<CastMemberID> createCastMembers(final int count) {
+        final var members = new HashSet<CastMemberID>();
+        for (int i = 0; i < count; i++) {
+            members.add(castMemberGateway.create(CastMember.newMember(name(), type())).getId());
+        }
+        return members;
+    }
+
+    private Video createVideo(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        return videoGateway.create(Video.newVideo(
+                title(),
+                description(),
+                Year.of(year()),
+                duration(),
+                bool(),
+                bool(),
+                rating(),
+                categories,
+                genres,
+                castMembers
+        ).updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video")));
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "System Design no Mercado Livre na prática",
@@ -830,4 +1265,25 @@ public class DefaultVideoGatewayTest {
                 Set.of(wesley.getId())
         ));
     }
-}
\ No newline at end of file
+
+    public static class JdbcRoundTrips extends BaseSessionEventListener {
+
+        static final AtomicInteger STATEMENTS = new AtomicInteger();
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        static void clear() {
+            STATEMENTS.set(0);
+            BATCHES.set(0);
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            STATEMENTS.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
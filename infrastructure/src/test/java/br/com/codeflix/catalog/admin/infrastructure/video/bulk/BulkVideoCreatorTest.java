@@ -0,0 +1,151 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.bulk;
+
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoOutput;
+import br.com.codeflix.catalog.admin.application.video.create.BulkCreateVideoUseCase;
+import br.com.codeflix.catalog.admin.application.video.create.CreateVideoCommand;
+import br.com.codeflix.catalog.admin.domain.validation.Error;
+import br.com.codeflix.catalog.admin.domain.video.VideoID;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import br.com.codeflix.catalog.admin.infrastructure.video.models.CreateVideoRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.description;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Videos.rating;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.bool;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.duration;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.title;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.year;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkVideoCreatorTest {
+
+    private BulkCreateVideoUseCase bulkCreateVideoUseCase;
+
+    @BeforeEach
+    public void setUp() {
+        this.bulkCreateVideoUseCase = mock(BulkCreateVideoUseCase.class);
+    }
+
+    @Test
+    public void givenAStreamOfJsonLines_whenCallsCreate_shouldAnswerOneResultPerLine() throws IOException {
+        final var expectedId = VideoID.unique().getValue();
+        final var expectedErrorMessage = "'title' should not be null";
+
+        final var valid = aRequest(title());
+        final var invalid = aRequest(null);
+
+        when(bulkCreateVideoUseCase.execute(any())).thenReturn(List.of(
+                new BulkCreateVideoOutput(expectedId, List.of()),
+                BulkCreateVideoOutput.failed(List.of(new Error(expectedErrorMessage)))
+        ));
+
+        final var lines = create(new BulkVideoCreator(bulkCreateVideoUseCase, 500, 65536), String.join("\n",
+                Json.writeValueAsString(valid),
+                "{not json",
+                "",
+                Json.writeValueAsString(invalid)
+        ));
+
+        assertEquals(3, lines.size());
+
+        assertEquals(1, lines.get(0).get("line").asLong());
+        assertEquals(expectedId, lines.get(0).get("id").asText());
+        assertEquals(0, lines.get(0).get("errors").size());
+
+        assertEquals(2, lines.get(1).get("line").asLong());
+        assertEquals(1, lines.get(1).get("errors").size());
+
+        assertEquals(4, lines.get(2).get("line").asLong());
+        assertEquals(expectedErrorMessage, lines.get(2).get("errors").get(0).get("message").asText());
+
+        verify(bulkCreateVideoUseCase, times(1)).execute(argThat(commands -> commands.size() == 2
+                && valid.title().equals(commands.get(0).title())
+                && commands.get(1).title() == null));
+    }
+
+    @Test
+    public void givenAnOversizedLine_whenCallsCreate_shouldReportItAndKeepReadingTheOthers() throws IOException {
+        final var expectedId = VideoID.unique().getValue();
+
+        final var valid = aRequest(title());
+        final var oversized = aRequest("x".repeat(2_000));
+
+        when(bulkCreateVideoUseCase.execute(any())).thenReturn(List.of(new BulkCreateVideoOutput(expectedId, List.of())));
+
+        final var lines = create(new BulkVideoCreator(bulkCreateVideoUseCase, 500, 1_000), String.join("\r\n",
+                Json.writeValueAsString(oversized),
+                Json.writeValueAsString(valid)
+        ));
+
+        assertEquals(2, lines.size());
+
+        assertEquals(1, lines.get(0).get("line").asLong());
+        assertEquals("Line exceeds 1000 characters", lines.get(0).get("errors").get(0).get("message").asText());
+
+        assertEquals(2, lines.get(1).get("line").asLong());
+        assertEquals(expectedId, lines.get(1).get("id").asText());
+
+        verify(bulkCreateVideoUseCase, times(1)).execute(argThat(commands -> commands.size() == 1
+                && valid.title().equals(commands.get(0).title())));
+    }
+
+    @Test
+    public void givenMoreLinesThanABatch_whenCallsCreate_shouldCreateThemOneBatchAtATime() throws IOException {
+        when(bulkCreateVideoUseCase.execute(any())).thenAnswer(invocation -> invocation.<List<CreateVideoCommand>>getArgument(0)
+                .stream()
+                .map(command -> new BulkCreateVideoOutput(VideoID.unique().getValue(), List.of()))
+                .toList());
+
+        final var lines = create(new BulkVideoCreator(bulkCreateVideoUseCase, 2, 65536), String.join("\n",
+                Json.writeValueAsString(aRequest(title())),
+                Json.writeValueAsString(aRequest(title())),
+                Json.writeValueAsString(aRequest(title())),
+                ""
+        ));
+
+        assertEquals(3, lines.size());
+        assertEquals(3, lines.get(2).get("line").asLong());
+
+        verify(bulkCreateVideoUseCase).execute(argThat(commands -> commands.size() == 2));
+        verify(bulkCreateVideoUseCase).execute(argThat(commands -> commands.size() == 1));
+    }
+
+    @Test
+    public void givenOnlyMalformedLines_whenCallsCreate_shouldNotCallTheUseCase() throws IOException {
+        final var lines = create(new BulkVideoCreator(bulkCreateVideoUseCase, 500, 65536), "null\n[1, 2");
+
+        assertEquals(2, lines.size());
+        assertEquals("Expected a JSON object", lines.get(0).get("errors").get(0).get("message").asText());
+        assertEquals(1, lines.get(1).get("errors").size());
+
+        verifyNoInteractions(bulkCreateVideoUseCase);
+    }
+
+    private static CreateVideoRequest aRequest(final String title) {
+        return new CreateVideoRequest(title, description(), duration(), year(), bool(), bool(), rating().getName(), Set.of(), Set.of(), Set.of());
+    }
+
+    private static List<JsonNode> create(final BulkVideoCreator creator, final String payload) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        creator.create(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), out);
+
+        final var lines = new ArrayList<JsonNode>();
+        for (final var line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(Json.mapper().readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.codeflix.catalog.admin.infrastructure.video.export;
+
+import br.com.codeflix.catalog.admin.IntegrationTest;
+import br.com.codeflix.catalog.admin.domain.castmember.CastMemberGateway;
+import br.com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import br.com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import br.com.codeflix.catalog.admin.domain.genre.GenreGateway;
+import br.com.codeflix.catalog.admin.domain.video.AudioVideoMedia;
+import br.com.codeflix.catalog.admin.domain.video.ImageMedia;
+import br.com.codeflix.catalog.admin.domain.video.Rating;
+import br.com.codeflix.catalog.admin.domain.video.Video;
+import br.com.codeflix.catalog.admin.domain.video.VideoGateway;
+import br.com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Year;
+import java.util.Set;
+
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.CastMembers.wesley;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Categories.aulas;
+import static br.com.codeflix.catalog.admin.domain.category.Fixture.Genres.tech;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@IntegrationTest
+public class VideoCatalogExporterTest {
+
+    @Autowired
+    private VideoCatalogExporter exporter;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Test
+    public void givenPersistedVideos_whenExportsAsNdjson_shouldWriteOneLinePerVideoWithRelationsAndMedia() throws Exception {
+        final var full = videoGateway.create(fullVideo());
+        final var bare = videoGateway.create(bareVideo());
+
+        final var lines = export(VideoCatalogExporter.Format.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+
+        final var nodes = new JsonNode[]{Json.mapper().readTree(lines[0]), Json.mapper().readTree(lines[1])};
+        final var actualFull = nodes[0].get("id").asText().equals(full.getId().getValue()) ? nodes[0] : nodes[1];
+        final var actualBare = actualFull == nodes[0] ? nodes[1] : nodes[0];
+
+        assertEquals("System Design, \"the\" interview", actualFull.get("title").asText());
+        assertEquals(2022, actualFull.get("year_launched").asInt());
+        assertEquals(Rating.L.getName(), actualFull.get("rating").asText());
+        assertEquals(full.getCategories().iterator().next().getValue(), actualFull.get("categories_id").get(0).asText());
+        assertEquals(full.getGenres().iterator().next().getValue(), actualFull.get("genres_id").get(0).asText());
+        assertEquals(full.getCastMembers().iterator().next().getValue(), actualFull.get("cast_members_id").get(0).asText());
+        assertEquals("/media/video", actualFull.get("video").get("location").asText());
+        assertEquals("PENDING", actualFull.get("video").get("status").asText());
+        assertEquals("/media/banner", actualFull.get("banner").get("location").asText());
+        assertEquals(full.getCreatedAt().toString(), actualFull.get("created_at").asText());
+
+        assertEquals(bare.getId().getValue(), actualBare.get("id").asText());
+        assertEquals(0, actualBare.get("categories_id").size());
+        assertTrue(actualBare.get("video").isNull());
+        assertTrue(actualBare.get("thumbnail").isNull());
+    }
+
+    @Test
+    public void givenPersistedVideos_whenExportsAsCsv_shouldWriteAHeaderAndEscapedRows() throws Exception {
+        final var full = videoGateway.create(fullVideo());
+
+        final var lines = export(VideoCatalogExporter.Format.CSV).split("\r\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,year_launched,"));
+        assertTrue(lines[1].startsWith(full.getId().getValue() + ",\"System Design, \"\"the\"\" interview\","));
+        assertTrue(lines[1].contains("," + full.getCategories().iterator().next().getValue() + ","));
+        assertTrue(lines[1].endsWith(",/media/banner,/media/thumb,/media/thumbHalf"));
+    }
+
+    @Test
+    public void givenAMySQLDatabase_whenExports_shouldAskTheDriverToStreamTheRows() throws Exception {
+        final var dataSource = mock(DataSource.class);
+        final var connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        final var statement = mock(PreparedStatement.class);
+        final var rows = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("MySQL");
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rows);
+
+        new VideoCatalogExporter(dataSource, 1000).export(VideoCatalogExporter.Format.NDJSON, new ByteArrayOutputStream());
+
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+        verify(connection).close();
+    }
+
+    @Test
+    public void givenAFormatName_whenCallsOf_shouldMatchItIgnoringCase() {
+        assertEquals(VideoCatalogExporter.Format.CSV, VideoCatalogExporter.Format.of("csv"));
+        assertEquals(VideoCatalogExporter.Format.NDJSON, VideoCatalogExporter.Format.of("NdJson"));
+    }
+
+    @Test
+    public void givenAnUnknownFormatName_whenCallsOf_shouldThrowDomainException() {
+        final var actualException = assertThrows(DomainException.class, () -> VideoCatalogExporter.Format.of("xml"));
+
+        assertEquals("Unsupported export format: xml", actualException.getErrors().get(0).message());
+    }
+
+    private String export(final VideoCatalogExporter.Format format) throws Exception {
+        final var out = new ByteArrayOutputStream();
+        exporter.export(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Video fullVideo() {
+        final var category = categoryGateway.create(aulas());
+        final var genre = genreGateway.create(tech());
+        final var member = castMemberGateway.create(wesley());
+
+        return Video.newVideo(
+                        "System Design, \"the\" interview",
+                        "A description",
+                        Year.of(2022),
+                        120.5,
+                        true,
+                        true,
+                        Rating.L,
+                        Set.of(category.getId()),
+                        Set.of(genre.getId()),
+                        Set.of(member.getId())
+                )
+                .updateVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+                .updateTrailerMedia(AudioVideoMedia.with("456", "trailer", "/media/trailer"))
+                .updateBannerMedia(ImageMedia.with("789", "banner", "/media/banner"))
+                .updateThumbnailMedia(ImageMedia.with("012", "thumb", "/media/thumb"))
+                .updateThumbnailHalfMedia(ImageMedia.with("345", "thumbHalf", "/media/thumbHalf"));
+    }
+
+    private Video bareVideo() {
+        return Video.newVideo("Bare", "No media", Year.of(2020), 10.0, false, false, Rating.AGE_10, Set.of(), Set.of(), Set.of());
+    }
+}